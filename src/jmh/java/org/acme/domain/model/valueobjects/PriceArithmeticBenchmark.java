@@ -0,0 +1,83 @@
+package org.acme.domain.model.valueobjects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Prices a catalog-sized batch: apply each game's discount and sum the cart total.
+// Run with ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceArithmeticBenchmark {
+
+    @Param({"100", "10000"})
+    int size;
+
+    private Price[] prices;
+    private MinorUnitPrice[] minorUnitPrices;
+    private long[] minorUnits;
+    private double[] discounts;
+    private int[] basisPoints;
+    private int currencyId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new Price[size];
+        minorUnitPrices = new MinorUnitPrice[size];
+        minorUnits = new long[size];
+        discounts = new double[size];
+        basisPoints = new int[size];
+        currencyId = CurrencyTable.idOf("USD");
+
+        for (int i = 0; i < size; i++) {
+            prices[i] = Price.of(random.nextInt(8_000) / 100.0 + 0.99, "USD");
+            minorUnitPrices[i] = MinorUnitPrice.of(prices[i]);
+            minorUnits[i] = minorUnitPrices[i].getMinorUnits();
+            discounts[i] = random.nextInt(91);
+            basisPoints[i] = MinorUnitPrice.toBasisPoints(discounts[i]);
+        }
+    }
+
+    @Benchmark
+    public Price bigDecimalPrice() {
+        Price total = Price.free("USD");
+        for (int i = 0; i < size; i++) {
+            total = total.add(prices[i].applyDiscount(discounts[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public MinorUnitPrice minorUnitPrice() {
+        MinorUnitPrice total = new MinorUnitPrice(0, currencyId);
+        for (int i = 0; i < size; i++) {
+            total = total.add(minorUnitPrices[i].applyDiscountBasisPoints(basisPoints[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long primitiveMinorUnits() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += MinorUnitPrice.discount(minorUnits[i], basisPoints[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Price primitiveMinorUnitsToPrice() {
+        return new MinorUnitPrice(primitiveMinorUnits(), currencyId).toPrice();
+    }
+}
@@ -0,0 +1,10 @@
+package org.acme.application.exception;
+
+// A remote dependency could not be asked at all (circuit open, bulkhead full), so the request can
+// neither be confirmed nor refused; the client should retry later
+public class ServiceUnavailableException extends IllegalStateException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package org.acme.application.exception;
+
+// The concurrent pre-checks of a request did not finish within their deadline; nothing was
+// charged or persisted, so the client may retry
+public class ValidationTimeoutException extends RuntimeException {
+
+    public ValidationTimeoutException(String message) {
+        super(message);
+    }
+}
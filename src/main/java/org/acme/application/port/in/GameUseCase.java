@@ -1,22 +1,50 @@
 package org.acme.application.port.in;
 
+import org.acme.application.port.out.GameSuggestionPort;
 import org.acme.domain.model.Game;
 import org.acme.domain.model.valueobjects.GameId;
 import org.acme.domain.model.valueobjects.Category;
+import org.acme.domain.model.valueobjects.Price;
 import lombok.*;
 import java.util.List;
+import java.util.Set;
 
 public interface GameUseCase {
     Game createGame(CreateGameCommand command);
     Game getGameById(GameId id);
     List<Game> getAllGames(int page, int size);
+    GamePage getAllGames(String cursor, int size);
     List<Game> getGamesByCategory(Category category, int page, int size);
+    GamePage getGamesByCategory(Category category, String cursor, int size);
     Game updateGame(UpdateGameCommand command);
     void deleteGame(GameId id);
     List<Game> searchGames(String title, int page, int size);
+    GamePage searchGames(String title, String cursor, int size);
+    List<GameSuggestionPort.GameSuggestion> suggestGames(String prefix, int limit);
     List<Game> getTopRatedGames(int limit);
     List<Game> getRecentlyAddedGames(int limit);
-    List<Game> getDiscountedGames();
+    List<DiscountedGame> getDiscountedGames(int page, int size);
+    Set<String> getOwnedGameIds(String userId, Set<String> gameIds);
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class GamePage {
+        public List<Game> games;
+        public String nextCursor; // null on the last page
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class DiscountedGame {
+        public Game game;
+        public Double discountPercentage;
+        public Price discountedPrice;
+        public String offerId;
+    }
 
     @Data
     @Builder
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.acme.domain.model.Gift;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface GiftUseCase {
@@ -14,6 +15,8 @@ public interface GiftUseCase {
     List<Gift> getPendingGifts(String recipientId);
     List<Gift> getSentGifts(String senderId);
     void cancelGift(String giftId, String senderId);
+    // Expires at most maxGifts pending gifts that expired before expiredBefore; returns how many
+    int expireGifts(LocalDateTime expiredBefore, int maxGifts);
 
     @Data
     @Builder
@@ -26,5 +29,6 @@ public interface GiftUseCase {
         public String message;
         public Double amount;
         public String currency;
+        public String idempotencyKey; // optional, supplied by the client
     }
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import java.util.List;
 public interface OfferUseCase {
     List<Offer> getActiveOffers();
     List<Offer> getSeasonalOffers();
+    List<Offer> getExpiringOffers(int hours);
     Offer getOfferById(String id);
     List<Offer> getOffersByType(String offerType);
     List<Offer> getOffersByGame(String gameId);
@@ -14,6 +14,8 @@ public interface PreOrderUseCase {
     List<PreOrder> getPreOrdersByUser(String userId);
     void cancelPreOrder(String preOrderId, String userId);
     void completePreOrder(String preOrderId);
+    // Completes the pre-orders that are still confirmed; returns how many were completed
+    int completePreOrders(List<String> preOrderIds);
 
     @Data
     @Builder
@@ -25,5 +27,6 @@ public interface PreOrderUseCase {
         public Double amount;
         public String currency;
         public String bonusContent;
+        public String idempotencyKey; // optional, supplied by the client
     }
 }
@@ -0,0 +1,46 @@
+package org.acme.application.port.in;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.acme.domain.model.valueobjects.Price;
+
+import java.util.List;
+
+public interface PricingUseCase {
+    PriceResolution resolvePrices(ResolvePricesCommand command);
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class ResolvePricesCommand {
+        public List<String> gameIds;
+        public String currency;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class ResolvedPrice {
+        public String gameId;
+        public Price basePrice;
+        public Price effectivePrice;
+        public Double discountPercentage;
+        public String source; // BASE, OFFER, BUNDLE
+        public String sourceId; // offer or bundle id, null for BASE
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class PriceResolution {
+        public String currency;
+        public List<ResolvedPrice> prices;
+        public Price total;
+        public List<String> unavailableGameIds; // unknown, inactive or priced in another currency
+    }
+}
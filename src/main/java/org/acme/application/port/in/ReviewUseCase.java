@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.acme.domain.model.Review;
+import org.acme.domain.model.valueobjects.ReviewSummary;
 
 import java.util.List;
 
@@ -15,6 +16,9 @@ public interface ReviewUseCase {
     void voteReview(String reviewId, Boolean isHelpful);
     List<Review> getMostHelpfulReviews(String gameId, int limit);
     void deleteReview(String reviewId, String userId);
+    ReviewSummary getReviewSummary(String gameId);
+    // One chunk per call and transaction; returns the last game id processed, or null when done
+    String rebuildReviewSummaries(String afterGameId, int limit);
 
     @Data
     @Builder
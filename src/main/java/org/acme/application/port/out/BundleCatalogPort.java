@@ -0,0 +1,12 @@
+package org.acme.application.port.out;
+
+import org.acme.domain.model.Bundle;
+import org.acme.domain.model.valueobjects.GameId;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BundleCatalogPort {
+    // Active bundles that contain at least one of the given games
+    List<Bundle> findActiveByGameIds(Collection<GameId> gameIds);
+}
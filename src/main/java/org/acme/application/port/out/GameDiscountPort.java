@@ -0,0 +1,26 @@
+package org.acme.application.port.out;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.acme.domain.model.valueobjects.GameId;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface GameDiscountPort {
+    List<GameDiscount> findDiscounted(int offset, int limit);
+    Optional<GameDiscount> findByGameId(GameId gameId);
+    int countDiscounted();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class GameDiscount {
+        public GameId gameId;
+        public Double discountPercentage;
+        public String offerId;
+    }
+}
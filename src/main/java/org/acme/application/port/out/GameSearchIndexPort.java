@@ -0,0 +1,12 @@
+package org.acme.application.port.out;
+
+import org.acme.domain.model.valueobjects.GameCursor;
+import org.acme.domain.model.valueobjects.GameId;
+
+import java.util.List;
+
+public interface GameSearchIndexPort {
+    List<GameId> search(String query, int offset, int limit);
+    List<GameId> searchAfter(String query, GameCursor cursor, int limit);
+    void rebuild();
+}
@@ -0,0 +1,21 @@
+package org.acme.application.port.out;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public interface GameSuggestionPort {
+    List<GameSuggestion> suggest(String prefix, int limit);
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class GameSuggestion {
+        public String gameId;
+        public String title;
+    }
+}
@@ -7,10 +7,13 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 public interface InventoryServicePort {
     void addGameToLibrary(AddGameRequest request);
+    void addGamesToLibrary(List<AddGameRequest> requests);
     boolean userOwnsGame(String userId, String gameId);
+    Set<String> ownsGames(String userId, Set<String> gameIds);
     List<String> getUserGames(String userId);
     void removeGameFromLibrary(String userId, String gameId);
 
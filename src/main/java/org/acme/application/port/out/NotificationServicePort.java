@@ -13,6 +13,8 @@ public interface NotificationServicePort {
     void sendGameReleaseNotification(GameReleaseNotificationRequest request);
     void sendOfferNotification(OfferNotificationRequest request);
     void sendReviewNotification(ReviewNotificationRequest request);
+    void sendBulkGameReleaseNotification(BulkGameReleaseNotificationRequest request);
+    void sendBulkOfferNotification(BulkOfferNotificationRequest request);
 
     @Data
     @Builder
@@ -73,4 +75,28 @@ public interface NotificationServicePort {
         public Boolean isRecommended;
         public String reviewId;
     }
+
+    // Same content for every recipient; adapters split userIds into chunks
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class BulkGameReleaseNotificationRequest {
+        public List<String> userIds;
+        public String gameName;
+        public String downloadLink;
+        public String releaseNotes;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class BulkOfferNotificationRequest {
+        public List<String> userIds;
+        public String offerName;
+        public String discountPercentage;
+        public String validUntil;
+        public List<String> gameNames;
+    }
 }
@@ -0,0 +1,11 @@
+package org.acme.application.port.out;
+
+import org.acme.domain.model.Offer;
+
+import java.util.List;
+
+public interface OfferSchedulePort {
+    List<Offer> activeOffers();
+    List<Offer> activeSeasonalOffers();
+    List<Offer> expiringWithin(int hours);
+}
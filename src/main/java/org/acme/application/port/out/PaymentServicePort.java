@@ -7,11 +7,16 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 public interface PaymentServicePort {
     PaymentResult processPayment(PaymentRequest request);
     void refundPayment(String paymentId);
     PaymentStatus getPaymentStatus(String paymentId);
+    // Links the gift or pre-order created for a successful keyed payment to its key, inside the caller's
+    // transaction. Returns the resource an earlier request with the same key already linked, if any.
+    Optional<String> linkResource(String idempotencyKey, String resourceId);
+    Optional<String> findLinkedResource(String idempotencyKey);
 
     @Data
     @Builder
@@ -24,6 +29,10 @@ public interface PaymentServicePort {
         public String gameId;
         public String paymentMethod;
         public String description;
+        // Gifts only; not sent to the provider, but part of what a key is bound to
+        public String recipientId;
+        // Same key, same payment: retries return the first result instead of charging again
+        public String idempotencyKey;
     }
 
     @Data
@@ -36,6 +45,8 @@ public interface PaymentServicePort {
         public String transactionId;
         public String errorMessage;
         public LocalDateTime processedAt;
+        // Set on a replayed result once the first request's gift or pre-order committed
+        public String resourceId;
     }
 
     @Data
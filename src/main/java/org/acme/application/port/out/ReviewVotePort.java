@@ -0,0 +1,11 @@
+package org.acme.application.port.out;
+
+import org.acme.domain.model.valueobjects.GameId;
+
+import java.util.Optional;
+
+public interface ReviewVotePort {
+    // The review's game while it has votes being accumulated, so it is known to exist
+    Optional<GameId> trackedGame(String reviewId);
+    void recordVote(String reviewId, GameId gameId, boolean helpful);
+}
@@ -0,0 +1,11 @@
+package org.acme.application.port.out;
+
+import org.acme.domain.model.valueobjects.SalesWindow;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public interface SalesCounterPort {
+    // Sales in the `buckets` most recent MINUTES, HOURS or DAYS up to `at`, the current partial bucket included
+    SalesWindow window(String gameId, ChronoUnit unit, int buckets, LocalDateTime at);
+}
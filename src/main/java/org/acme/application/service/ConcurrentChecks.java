@@ -0,0 +1,81 @@
+package org.acme.application.service;
+
+import org.acme.application.exception.ValidationTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+// Runs independent remote checks concurrently on virtual threads under one shared deadline.
+// The first failing check wins and the others are cancelled. Database work must stay on the
+// caller's thread: the persistence context and the transaction are bound to it.
+final class ConcurrentChecks implements AutoCloseable {
+
+    // Virtual threads are cheap to create and must not be pooled; one executor serves every request.
+    // Callers that fan out (the completion job, the bulk notification dispatcher) bound their own
+    // concurrency with a semaphore instead of a pool size.
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final long deadlineNanos;
+    private final CompletionService<Void> completion = new ExecutorCompletionService<>(EXECUTOR);
+    private final List<Future<Void>> pending = new ArrayList<>();
+
+    ConcurrentChecks(Duration timeout) {
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    void require(BooleanSupplier condition, Supplier<? extends RuntimeException> failure) {
+        pending.add(completion.submit(() -> {
+            if (!condition.getAsBoolean()) {
+                throw failure.get();
+            }
+            return null;
+        }));
+    }
+
+    void run(Runnable task) {
+        pending.add(completion.submit(task, null));
+    }
+
+    void await() {
+        try {
+            for (int done = 0; done < pending.size(); done++) {
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<Void> next = remaining > 0 ? completion.poll(remaining, TimeUnit.NANOSECONDS) : completion.poll();
+                if (next == null) {
+                    throw new ValidationTimeoutException("Tiempo de espera agotado al validar la solicitud");
+                }
+                next.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error al validar la solicitud", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Validación interrumpida", e);
+        } finally {
+            close();
+        }
+    }
+
+    // Cancels whatever is still running; never waits for it
+    @Override
+    public void close() {
+        for (Future<Void> future : pending) {
+            if (!future.isDone()) {
+                future.cancel(true);
+            }
+        }
+    }
+}
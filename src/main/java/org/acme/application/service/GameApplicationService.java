@@ -2,6 +2,10 @@ package org.acme.application.service;
 
 import org.acme.application.port.in.GameUseCase;
 import org.acme.application.port.out.AnalyticsServicePort;
+import org.acme.application.port.out.GameDiscountPort;
+import org.acme.application.port.out.GameSearchIndexPort;
+import org.acme.application.port.out.GameSuggestionPort;
+import org.acme.application.port.out.InventoryServicePort;
 import org.acme.application.port.out.NotificationServicePort;
 import org.acme.domain.model.Game;
 import org.acme.domain.model.valueobjects.*;
@@ -13,8 +17,11 @@ import lombok.extern.slf4j.Slf4j;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
@@ -31,6 +38,18 @@ public class GameApplicationService implements GameUseCase {
     @Inject
     NotificationServicePort notificationService;
 
+    @Inject
+    GameSearchIndexPort gameSearchIndex;
+
+    @Inject
+    GameSuggestionPort gameSuggestionPort;
+
+    @Inject
+    GameDiscountPort gameDiscountPort;
+
+    @Inject
+    InventoryServicePort inventoryServicePort;
+
     @Override
     public Game createGame(CreateGameCommand command) {
         log.info("Creating new game: {}", command.title);
@@ -103,6 +122,13 @@ public class GameApplicationService implements GameUseCase {
         return gameRepository.findAll(page, size);
     }
 
+    @Override
+    public GamePage getAllGames(String cursor, int size) {
+        log.debug("Fetching all games - cursor: {}, size: {}", cursor, size);
+        validatePageSize(size);
+        return toGamePage(gameRepository.findAllAfter(decodeCursor(cursor), size + 1), size);
+    }
+
     @Override
     public List<Game> getGamesByCategory(Category category, int page, int size) {
         log.debug("Fetching games by category: {} - page: {}, size: {}", category.getName(), page, size);
@@ -110,6 +136,13 @@ public class GameApplicationService implements GameUseCase {
         return gameRepository.findByCategory(category, page, size);
     }
 
+    @Override
+    public GamePage getGamesByCategory(Category category, String cursor, int size) {
+        log.debug("Fetching games by category: {} - cursor: {}, size: {}", category.getName(), cursor, size);
+        validatePageSize(size);
+        return toGamePage(gameRepository.findByCategoryAfter(category, decodeCursor(cursor), size + 1), size);
+    }
+
     @Override
     public Game updateGame(UpdateGameCommand command) {
         log.info("Updating game: {}", command.id);
@@ -189,7 +222,8 @@ public class GameApplicationService implements GameUseCase {
 
         validatePagination(page, size);
 
-        List<Game> results = gameRepository.searchByTitle(title.trim(), page, size);
+        List<GameId> hits = gameSearchIndex.search(title.trim(), page * size, size);
+        List<Game> results = gameRepository.findByIds(hits);
 
         analyticsService.trackSearchQuery(AnalyticsServicePort.SearchQueryEvent.builder()
                 .query(title)
@@ -200,6 +234,42 @@ public class GameApplicationService implements GameUseCase {
         return results;
     }
 
+    @Override
+    public GamePage searchGames(String title, String cursor, int size) {
+        log.debug("Searching games by title: '{}' - cursor: {}, size: {}", title, cursor, size);
+
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("El título de búsqueda no puede estar vacío");
+        }
+
+        validatePageSize(size);
+
+        List<GameId> hits = gameSearchIndex.searchAfter(title.trim(), decodeCursor(cursor), size + 1);
+        GamePage results = toGamePage(gameRepository.findByIds(hits), size);
+
+        analyticsService.trackSearchQuery(AnalyticsServicePort.SearchQueryEvent.builder()
+                .query(title)
+                .resultsCount(results.games.size())
+                .timestamp(LocalDateTime.now())
+                .build());
+
+        return results;
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<GameSuggestionPort.GameSuggestion> suggestGames(String prefix, int limit) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new IllegalArgumentException("El prefijo no puede estar vacío");
+        }
+
+        if (limit <= 0 || limit > 10) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y 10");
+        }
+
+        return gameSuggestionPort.suggest(prefix, limit);
+    }
+
     @Override
     public List<Game> getTopRatedGames(int limit) {
         log.debug("Fetching top rated games - limit: {}", limit);
@@ -211,6 +281,22 @@ public class GameApplicationService implements GameUseCase {
         return gameRepository.findTopRated(limit);
     }
 
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public Set<String> getOwnedGameIds(String userId, Set<String> gameIds) {
+        log.debug("Checking ownership of {} games for user: {}", gameIds.size(), userId);
+
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID del usuario es obligatorio");
+        }
+
+        if (gameIds.size() > 100) {
+            throw new IllegalArgumentException("No se pueden consultar más de 100 juegos a la vez");
+        }
+
+        return inventoryServicePort.ownsGames(userId, gameIds);
+    }
+
     @Override
     public List<Game> getRecentlyAddedGames(int limit) {
         log.debug("Fetching recently added games - limit: {}", limit);
@@ -223,9 +309,33 @@ public class GameApplicationService implements GameUseCase {
     }
 
     @Override
-    public List<Game> getDiscountedGames() {
-        log.debug("Fetching discounted games");
-        return gameRepository.findDiscounted();
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<DiscountedGame> getDiscountedGames(int page, int size) {
+        log.debug("Fetching discounted games - page: {}, size: {}", page, size);
+
+        validatePagination(page, size);
+
+        List<GameDiscountPort.GameDiscount> discounts = gameDiscountPort.findDiscounted(page * size, size);
+        List<GameId> ids = discounts.stream()
+                .map(GameDiscountPort.GameDiscount::getGameId)
+                .collect(Collectors.toList());
+        Map<GameId, Game> gamesById = gameRepository.findByIds(ids).stream()
+                .collect(Collectors.toMap(Game::getId, Function.identity()));
+
+        // Offers may still reference games that were deleted or deactivated since
+        return discounts.stream()
+                .filter(discount -> gamesById.containsKey(discount.getGameId())
+                        && Boolean.TRUE.equals(gamesById.get(discount.getGameId()).getIsActive()))
+                .map(discount -> {
+                    Game game = gamesById.get(discount.getGameId());
+                    return DiscountedGame.builder()
+                            .game(game)
+                            .discountPercentage(discount.getDiscountPercentage())
+                            .discountedPrice(game.getPrice().applyDiscount(discount.getDiscountPercentage()))
+                            .offerId(discount.getOfferId())
+                            .build();
+                })
+                .collect(Collectors.toList());
     }
 
     private void validateCreateGameCommand(CreateGameCommand command) {
@@ -259,11 +369,34 @@ public class GameApplicationService implements GameUseCase {
             throw new IllegalArgumentException("La página no puede ser negativa");
         }
 
+        validatePageSize(size);
+    }
+
+    private void validatePageSize(int size) {
         if (size <= 0 || size > 100) {
             throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y 100");
         }
     }
 
+    private GameCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : GameCursor.decode(cursor);
+    }
+
+    // Repositories are asked for one extra row so we know whether another page exists
+    private GamePage toGamePage(List<Game> games, int size) {
+        if (games.size() <= size) {
+            return GamePage.builder()
+                    .games(games)
+                    .build();
+        }
+
+        List<Game> page = new ArrayList<>(games.subList(0, size));
+        return GamePage.builder()
+                .games(page)
+                .nextCursor(GameCursor.of(page.get(size - 1)).encode())
+                .build();
+    }
+
     private SystemRequirements mapToSystemRequirements(SystemRequirementsDto dto) {
         return SystemRequirements.builder()
                 .minimumOS(dto.minimumOS)
@@ -2,18 +2,23 @@ package org.acme.application.service;
 
 import org.acme.application.port.in.GiftUseCase;
 import org.acme.application.port.out.*;
+import org.acme.domain.event.GamePurchasedEvent;
 import org.acme.domain.model.Gift;
 import org.acme.domain.model.Game;
 import org.acme.domain.model.valueobjects.*;
 import org.acme.domain.repository.GameRepository;
 import org.acme.domain.repository.GiftRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @ApplicationScoped
@@ -21,6 +26,8 @@ import java.util.UUID;
 @Slf4j
 public class GiftApplicationService implements GiftUseCase {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     @Inject
     GiftRepository giftRepository;
 
@@ -39,35 +46,53 @@ public class GiftApplicationService implements GiftUseCase {
     @Inject
     InventoryServicePort inventoryServicePort;
 
+    @Inject
+    Event<GamePurchasedEvent> gamePurchasedEvent;
+
+    @ConfigProperty(name = "catalog.validation.timeout", defaultValue = "2s")
+    Duration validationTimeout;
+
     @Override
     public Gift sendGift(SendGiftCommand command) {
         log.info("Sending gift of game: {} from: {} to: {}", command.gameId, command.senderId, command.recipientId);
 
         validateSendGiftCommand(command);
 
-        GameId gameId = new GameId(command.gameId);
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("Juego no encontrado: " + command.gameId));
-
-        if (!userServicePort.userExists(command.senderId)) {
-            throw new IllegalArgumentException("Remitente no encontrado: " + command.senderId);
-        }
-
-        if (!userServicePort.userExists(command.recipientId)) {
-            throw new IllegalArgumentException("Destinatario no encontrado: " + command.recipientId);
-        }
-
-        if (inventoryServicePort.userOwnsGame(command.recipientId, command.gameId)) {
-            throw new IllegalStateException("El destinatario ya posee este juego");
-        }
-
         if (command.senderId.equals(command.recipientId)) {
             throw new IllegalArgumentException("No puedes enviarte un regalo a ti mismo");
         }
 
-        if (!userServicePort.areUsersFriends(command.senderId, command.recipientId)) {
-            log.warn("Users are not friends, but allowing gift - sender: {}, recipient: {}",
-                    command.senderId, command.recipientId);
+        GameId gameId = new GameId(command.gameId);
+        String idempotencyKey = command.idempotencyKey != null
+                ? "gift:" + command.senderId + ":" + command.idempotencyKey
+                : null;
+        // A retry of the request that created a gift gets it back, even once it has been claimed
+        // and the ownership check below would refuse it
+        Optional<Gift> replayed = replayedGift(idempotencyKey, gameId, command.recipientId);
+        if (replayed.isPresent()) {
+            return replayed.get();
+        }
+
+        Game game;
+        // The remote checks are independent of each other; they run while we load the game
+        try (ConcurrentChecks checks = new ConcurrentChecks(validationTimeout)) {
+            checks.require(() -> userServicePort.userExists(command.senderId),
+                    () -> new IllegalArgumentException("Remitente no encontrado: " + command.senderId));
+            checks.require(() -> userServicePort.userExists(command.recipientId),
+                    () -> new IllegalArgumentException("Destinatario no encontrado: " + command.recipientId));
+            checks.require(() -> !inventoryServicePort.userOwnsGame(command.recipientId, command.gameId),
+                    () -> new IllegalStateException("El destinatario ya posee este juego"));
+            checks.run(() -> {
+                if (!userServicePort.areUsersFriends(command.senderId, command.recipientId)) {
+                    log.warn("Users are not friends, but allowing gift - sender: {}, recipient: {}",
+                            command.senderId, command.recipientId);
+                }
+            });
+
+            game = gameRepository.findById(gameId)
+                    .orElseThrow(() -> new IllegalArgumentException("Juego no encontrado: " + command.gameId));
+
+            checks.await();
         }
 
         Price amount = new Price(BigDecimal.valueOf(command.amount), command.currency);
@@ -78,6 +103,8 @@ public class GiftApplicationService implements GiftUseCase {
                 .gameId(command.gameId)
                 .paymentMethod("CREDIT_CARD")
                 .description("Regalo de " + game.getTitle())
+                .recipientId(command.recipientId)
+                .idempotencyKey(idempotencyKey)
                 .build();
 
         PaymentServicePort.PaymentResult paymentResult = paymentServicePort.processPayment(paymentRequest);
@@ -85,6 +112,11 @@ public class GiftApplicationService implements GiftUseCase {
         if (!"SUCCESS".equals(paymentResult.status)) {
             throw new IllegalStateException("Error en el pago: " + paymentResult.errorMessage);
         }
+        if (paymentResult.resourceId != null) {
+            return replayedGift(paymentResult.resourceId);
+        }
+
+        UserServicePort.UserDto sender = userServicePort.getUserById(command.senderId);
 
         Gift gift = Gift.builder()
                 .id(UUID.randomUUID().toString())
@@ -96,9 +128,16 @@ public class GiftApplicationService implements GiftUseCase {
                 .expirationDate(LocalDateTime.now().plusDays(30)) // Gift expires in 30 days
                 .build();
 
-        Gift savedGift = giftRepository.save(gift);
+        // A concurrent retry with the same key may have linked its gift first; it wins
+        if (idempotencyKey != null) {
+            Optional<String> linked = paymentServicePort.linkResource(idempotencyKey, gift.getId());
+            if (linked.isPresent()) {
+                return replayedGift(linked.get());
+            }
+        }
 
-        UserServicePort.UserDto sender = userServicePort.getUserById(command.senderId);
+        Gift savedGift = giftRepository.save(gift);
+        gamePurchasedEvent.fire(new GamePurchasedEvent(gameId, amount, savedGift.getSentDate()));
 
         notificationService.sendGiftNotification(
                 NotificationServicePort.GiftNotificationRequest.builder()
@@ -114,6 +153,21 @@ public class GiftApplicationService implements GiftUseCase {
         return savedGift;
     }
 
+    private Optional<Gift> replayedGift(String idempotencyKey, GameId gameId, String recipientId) {
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+        return paymentServicePort.findLinkedResource(idempotencyKey)
+                .flatMap(giftRepository::findById)
+                .filter(gift -> gift.getGameId().equals(gameId) && gift.getRecipientId().equals(recipientId));
+    }
+
+    private Gift replayedGift(String giftId) {
+        log.info("Returning gift {} created by an earlier request with the same idempotency key", giftId);
+        return giftRepository.findById(giftId)
+                .orElseThrow(() -> new IllegalStateException("Regalo no encontrado: " + giftId));
+    }
+
     @Override
     public Gift claimGift(String giftId, String recipientId) {
         log.info("Claiming gift: {} by user: {}", giftId, recipientId);
@@ -197,21 +251,11 @@ public class GiftApplicationService implements GiftUseCase {
         log.info("Gift cancelled successfully: {}", giftId);
     }
 
-    public void expireOldGifts() {
-        log.info("Processing expired gifts");
-
-        List<Gift> expiredGifts = giftRepository.findExpiredGifts();
-
-        for (Gift gift : expiredGifts) {
-            if (gift.isPending()) {
-                gift.expire();
-                giftRepository.save(gift);
-
-                log.info("Expired gift: {}", gift.getId());
-            }
-        }
-
-        log.info("Processed {} expired gifts", expiredGifts.size());
+    @Override
+    public int expireGifts(LocalDateTime expiredBefore, int maxGifts) {
+        int expired = giftRepository.expirePending(expiredBefore, maxGifts);
+        log.debug("Expired {} gifts", expired);
+        return expired;
     }
 
     private void validateSendGiftCommand(SendGiftCommand command) {
@@ -235,6 +279,12 @@ public class GiftApplicationService implements GiftUseCase {
             throw new IllegalArgumentException("La moneda es obligatoria");
         }
 
+        if (command.idempotencyKey != null
+                && (command.idempotencyKey.trim().isEmpty() || command.idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new IllegalArgumentException("La clave de idempotencia debe tener entre 1 y "
+                    + MAX_IDEMPOTENCY_KEY_LENGTH + " caracteres");
+        }
+
         if (command.message != null && command.message.length() > 500) {
             throw new IllegalArgumentException("El mensaje no puede exceder 500 caracteres");
         }
@@ -0,0 +1,163 @@
+package org.acme.application.service;
+
+import org.acme.application.port.in.OfferUseCase;
+import org.acme.application.port.out.OfferSchedulePort;
+import org.acme.domain.model.Offer;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.repository.GameRepository;
+import org.acme.domain.repository.OfferRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@Transactional
+@Slf4j
+public class OfferApplicationService implements OfferUseCase {
+
+    private static final int MAX_EXPIRING_HOURS = 24 * 30;
+
+    @Inject
+    OfferRepository offerRepository;
+
+    @Inject
+    GameRepository gameRepository;
+
+    @Inject
+    OfferSchedulePort offerSchedule;
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Offer> getActiveOffers() {
+        log.debug("Fetching active offers");
+        return offerSchedule.activeOffers();
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Offer> getSeasonalOffers() {
+        log.debug("Fetching seasonal offers");
+        return offerSchedule.activeSeasonalOffers();
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Offer> getExpiringOffers(int hours) {
+        log.debug("Fetching offers expiring within {} hours", hours);
+
+        if (hours <= 0 || hours > MAX_EXPIRING_HOURS) {
+            throw new IllegalArgumentException("Las horas deben estar entre 1 y " + MAX_EXPIRING_HOURS);
+        }
+
+        return offerSchedule.expiringWithin(hours);
+    }
+
+    @Override
+    public Offer getOfferById(String id) {
+        log.debug("Fetching offer by ID: {}", id);
+
+        return offerRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Oferta no encontrada: " + id));
+    }
+
+    @Override
+    public List<Offer> getOffersByType(String offerType) {
+        log.debug("Fetching offers by type: {}", offerType);
+        return offerRepository.findByOfferType(offerType);
+    }
+
+    @Override
+    public List<Offer> getOffersByGame(String gameId) {
+        log.debug("Fetching offers by game: {}", gameId);
+
+        GameId id = new GameId(gameId);
+        if (!gameRepository.existsById(id)) {
+            throw new IllegalArgumentException("Juego no encontrado: " + gameId);
+        }
+
+        return offerRepository.findByGameId(id);
+    }
+
+    @Override
+    public Offer createOffer(CreateOfferCommand command) {
+        log.info("Creating new offer: {}", command.name);
+
+        validateCreateOfferCommand(command);
+
+        LocalDateTime startDate = parseDate(command.startDate, "inicio");
+        LocalDateTime endDate = parseDate(command.endDate, "fin");
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("La fecha de fin debe ser posterior a la fecha de inicio");
+        }
+
+        Set<GameId> gameIds = command.gameIds.stream()
+                .map(GameId::new)
+                .collect(Collectors.toSet());
+        for (GameId gameId : gameIds) {
+            if (!gameRepository.existsById(gameId)) {
+                throw new IllegalArgumentException("Juego no encontrado: " + gameId.getValue());
+            }
+        }
+
+        Offer offer = Offer.builder()
+                .id(UUID.randomUUID().toString())
+                .name(command.name)
+                .description(command.description)
+                .gameIds(gameIds)
+                .discountPercentage(command.discountPercentage)
+                .startDate(startDate)
+                .endDate(endDate)
+                .offerType(command.offerType.toUpperCase())
+                .build();
+
+        Offer savedOffer = offerRepository.save(offer);
+
+        log.info("Offer created successfully with ID: {}", savedOffer.getId());
+        return savedOffer;
+    }
+
+    @Override
+    public void deactivateOffer(String offerId) {
+        log.info("Deactivating offer: {}", offerId);
+
+        Offer offer = getOfferById(offerId);
+        offer.deactivate();
+        offerRepository.save(offer);
+
+        log.info("Offer deactivated successfully: {}", offerId);
+    }
+
+    private void validateCreateOfferCommand(CreateOfferCommand command) {
+        if (command.name == null || command.name.trim().isEmpty()) {
+            throw new IllegalArgumentException("El nombre es obligatorio");
+        }
+
+        if (command.gameIds == null || command.gameIds.isEmpty()) {
+            throw new IllegalArgumentException("Debe incluir al menos un juego");
+        }
+
+        if (command.discountPercentage == null || command.discountPercentage < 0 || command.discountPercentage > 100) {
+            throw new IllegalArgumentException("El descuento debe estar entre 0 y 100");
+        }
+
+        if (command.offerType == null || command.offerType.trim().isEmpty()) {
+            throw new IllegalArgumentException("El tipo de oferta es obligatorio");
+        }
+    }
+
+    private LocalDateTime parseDate(String value, String field) {
+        try {
+            return LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException("Fecha de " + field + " inválida: " + value);
+        }
+    }
+}
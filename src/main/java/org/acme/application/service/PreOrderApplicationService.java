@@ -2,25 +2,36 @@ package org.acme.application.service;
 
 import org.acme.application.port.in.PreOrderUseCase;
 import org.acme.application.port.out.*;
+import org.acme.domain.event.GamePurchasedEvent;
 import org.acme.domain.model.PreOrder;
 import org.acme.domain.model.Game;
 import org.acme.domain.model.valueobjects.*;
 import org.acme.domain.repository.GameRepository;
 import org.acme.domain.repository.PreOrderRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 @Transactional
 @Slf4j
 public class PreOrderApplicationService implements PreOrderUseCase {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     @Inject
     PreOrderRepository preOrderRepository;
 
@@ -36,6 +47,15 @@ public class PreOrderApplicationService implements PreOrderUseCase {
     @Inject
     NotificationServicePort notificationService;
 
+    @Inject
+    InventoryServicePort inventoryServicePort;
+
+    @Inject
+    Event<GamePurchasedEvent> gamePurchasedEvent;
+
+    @ConfigProperty(name = "catalog.validation.timeout", defaultValue = "2s")
+    Duration validationTimeout;
+
     @Override
     public PreOrder createPreOrder(CreatePreOrderCommand command) {
         log.info("Creating pre-order for game: {} by user: {}", command.gameId, command.userId);
@@ -43,19 +63,32 @@ public class PreOrderApplicationService implements PreOrderUseCase {
         validateCreatePreOrderCommand(command);
 
         GameId gameId = new GameId(command.gameId);
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("Juego no encontrado: " + command.gameId));
-
-        if (!game.isAvailableForPreOrder()) {
-            throw new IllegalStateException("El juego no está disponible para reserva");
-        }
-
-        if (!userServicePort.userExists(command.userId)) {
-            throw new IllegalArgumentException("Usuario no encontrado: " + command.userId);
-        }
-
-        if (preOrderRepository.existsByUserAndGame(command.userId, gameId)) {
-            throw new IllegalStateException("Ya tienes una pre-orden para este juego");
+        String idempotencyKey = command.idempotencyKey != null
+                ? "preorder:" + command.userId + ":" + command.idempotencyKey
+                : null;
+        Game game;
+        // The user lookup is the only remote check; it runs while the database checks do
+        try (ConcurrentChecks checks = new ConcurrentChecks(validationTimeout)) {
+            checks.require(() -> userServicePort.userExists(command.userId),
+                    () -> new IllegalArgumentException("Usuario no encontrado: " + command.userId));
+
+            game = gameRepository.findById(gameId)
+                    .orElseThrow(() -> new IllegalArgumentException("Juego no encontrado: " + command.gameId));
+
+            if (!game.isAvailableForPreOrder()) {
+                throw new IllegalStateException("El juego no está disponible para reserva");
+            }
+
+            if (preOrderRepository.existsByUserAndGame(command.userId, gameId)) {
+                // A retry of the request that created it gets the same pre-order back
+                Optional<PreOrder> replayed = replayedPreOrder(idempotencyKey, gameId);
+                if (replayed.isPresent()) {
+                    return replayed.get();
+                }
+                throw new IllegalStateException("Ya tienes una pre-orden para este juego");
+            }
+
+            checks.await();
         }
 
         Price amount = new Price(BigDecimal.valueOf(command.amount), command.currency);
@@ -66,6 +99,7 @@ public class PreOrderApplicationService implements PreOrderUseCase {
                 .gameId(command.gameId)
                 .paymentMethod("CREDIT_CARD")
                 .description("Pre-orden para " + game.getTitle())
+                .idempotencyKey(idempotencyKey)
                 .build();
 
         PaymentServicePort.PaymentResult paymentResult = paymentServicePort.processPayment(paymentRequest);
@@ -73,6 +107,9 @@ public class PreOrderApplicationService implements PreOrderUseCase {
         if (!"SUCCESS".equals(paymentResult.status)) {
             throw new IllegalStateException("Error en el pago: " + paymentResult.errorMessage);
         }
+        if (paymentResult.resourceId != null) {
+            return getPreOrderById(paymentResult.resourceId);
+        }
 
         PreOrder preOrder = PreOrder.builder()
                 .id(UUID.randomUUID().toString())
@@ -83,7 +120,16 @@ public class PreOrderApplicationService implements PreOrderUseCase {
                 .estimatedDeliveryDate(game.getReleaseDate())
                 .build();
 
+        // A concurrent retry with the same key may have linked its pre-order first; it wins
+        if (idempotencyKey != null) {
+            Optional<String> linked = paymentServicePort.linkResource(idempotencyKey, preOrder.getId());
+            if (linked.isPresent()) {
+                return getPreOrderById(linked.get());
+            }
+        }
+
         PreOrder savedPreOrder = preOrderRepository.save(preOrder);
+        gamePurchasedEvent.fire(new GamePurchasedEvent(gameId, amount, savedPreOrder.getPreOrderDate()));
 
         notificationService.sendPreOrderConfirmation(
                 NotificationServicePort.PreOrderNotificationRequest.builder()
@@ -99,6 +145,15 @@ public class PreOrderApplicationService implements PreOrderUseCase {
         return savedPreOrder;
     }
 
+    private Optional<PreOrder> replayedPreOrder(String idempotencyKey, GameId gameId) {
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+        return paymentServicePort.findLinkedResource(idempotencyKey)
+                .flatMap(preOrderRepository::findById)
+                .filter(preOrder -> preOrder.getGameId().equals(gameId));
+    }
+
     @Override
     public PreOrder getPreOrderById(String id) {
         log.debug("Fetching pre-order by ID: {}", id);
@@ -172,6 +227,52 @@ public class PreOrderApplicationService implements PreOrderUseCase {
         log.info("Pre-order completed successfully: {}", preOrderId);
     }
 
+    @Override
+    public int completePreOrders(List<String> preOrderIds) {
+        List<PreOrder> completed = preOrderRepository.completeConfirmed(preOrderIds);
+        if (completed.isEmpty()) {
+            return 0;
+        }
+
+        // Grants and notifications go out once per chunk, with one bulk notification per game
+        Map<GameId, List<PreOrder>> byGame = completed.stream()
+                .collect(Collectors.groupingBy(PreOrder::getGameId, LinkedHashMap::new, Collectors.toList()));
+        List<InventoryServicePort.AddGameRequest> grants = new ArrayList<>(completed.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        byGame.forEach((gameId, preOrders) -> {
+            Game game = gameRepository.findById(gameId)
+                    .orElseThrow(() -> new IllegalArgumentException("Juego no encontrado: " + gameId.getValue()));
+
+            List<String> userIds = new ArrayList<>(preOrders.size());
+            for (PreOrder preOrder : preOrders) {
+                userIds.add(preOrder.getUserId());
+                grants.add(InventoryServicePort.AddGameRequest.builder()
+                        .userId(preOrder.getUserId())
+                        .gameId(gameId.getValue())
+                        .gameName(game.getTitle())
+                        .acquisitionType("PREORDER")
+                        .transactionId(preOrder.getId())
+                        .acquiredAt(now)
+                        .build());
+            }
+
+            notificationService.sendBulkGameReleaseNotification(
+                    NotificationServicePort.BulkGameReleaseNotificationRequest.builder()
+                            .userIds(userIds)
+                            .gameName(game.getTitle())
+                            .downloadLink("https://steam.com/download/" + game.getId())
+                            .releaseNotes("El juego que pre-ordenaste ya está disponible!")
+                            .build()
+            );
+        });
+
+        inventoryServicePort.addGamesToLibrary(grants);
+
+        log.debug("Completed {} pre-orders across {} games", completed.size(), byGame.size());
+        return completed.size();
+    }
+
     private void validateCreatePreOrderCommand(CreatePreOrderCommand command) {
         if (command.gameId == null || command.gameId.trim().isEmpty()) {
             throw new IllegalArgumentException("El ID del juego es obligatorio");
@@ -188,5 +289,11 @@ public class PreOrderApplicationService implements PreOrderUseCase {
         if (command.currency == null || command.currency.trim().isEmpty()) {
             throw new IllegalArgumentException("La moneda es obligatoria");
         }
+
+        if (command.idempotencyKey != null
+                && (command.idempotencyKey.trim().isEmpty() || command.idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new IllegalArgumentException("La clave de idempotencia debe tener entre 1 y "
+                    + MAX_IDEMPOTENCY_KEY_LENGTH + " caracteres");
+        }
     }
 }
\ No newline at end of file
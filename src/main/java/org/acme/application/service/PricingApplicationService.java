@@ -0,0 +1,223 @@
+package org.acme.application.service;
+
+import org.acme.application.port.in.PricingUseCase;
+import org.acme.application.port.out.BundleCatalogPort;
+import org.acme.application.port.out.GameDiscountPort;
+import org.acme.domain.model.Bundle;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.valueobjects.CurrencyTable;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.MinorUnitPrice;
+import org.acme.domain.model.valueobjects.Price;
+import org.acme.domain.repository.GameRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@Transactional(Transactional.TxType.SUPPORTS)
+@Slf4j
+public class PricingApplicationService implements PricingUseCase {
+
+    static final int MAX_BATCH_SIZE = 100;
+    static final String SOURCE_BASE = "BASE";
+    static final String SOURCE_OFFER = "OFFER";
+    static final String SOURCE_BUNDLE = "BUNDLE";
+
+    @Inject
+    GameRepository gameRepository;
+
+    @Inject
+    GameDiscountPort gameDiscountPort;
+
+    @Inject
+    BundleCatalogPort bundleCatalog;
+
+    @Override
+    public PriceResolution resolvePrices(ResolvePricesCommand command) {
+        validateResolvePricesCommand(command);
+
+        String currency = Price.free(command.currency).getCurrency();
+        int currencyId = CurrencyTable.idOf(currency);
+        Set<String> requested = new LinkedHashSet<>(command.gameIds);
+        log.debug("Resolving prices - games: {}, currency: {}", requested.size(), currency);
+
+        List<Game> games = gameRepository.findByIds(requested.stream()
+                .map(GameId::new)
+                .collect(Collectors.toList()));
+
+        // All arithmetic below runs on long minor units; Price objects are only built for the response
+        Map<String, Line> lines = new LinkedHashMap<>();
+        for (Game game : games) {
+            if (Boolean.TRUE.equals(game.getIsActive()) && currency.equals(game.getPrice().getCurrency())) {
+                lines.put(game.getId().getValue(), resolveSingle(game));
+            }
+        }
+
+        applyBundles(lines, currency);
+
+        List<ResolvedPrice> prices = new ArrayList<>(lines.size());
+        List<String> unavailable = new ArrayList<>();
+        long total = 0;
+        for (String gameId : requested) {
+            Line line = lines.get(gameId);
+            if (line == null) {
+                unavailable.add(gameId);
+                continue;
+            }
+            total += line.effective;
+            prices.add(ResolvedPrice.builder()
+                    .gameId(gameId)
+                    .basePrice(line.basePrice)
+                    .effectivePrice(new MinorUnitPrice(line.effective, currencyId).toPrice())
+                    .discountPercentage(line.discountBasisPoints / 100.0)
+                    .source(line.source)
+                    .sourceId(line.sourceId)
+                    .build());
+        }
+
+        return PriceResolution.builder()
+                .currency(currency)
+                .prices(prices)
+                .total(new MinorUnitPrice(total, currencyId).toPrice())
+                .unavailableGameIds(unavailable)
+                .build();
+    }
+
+    // Best single-game price: list price, or the deepest active offer
+    private Line resolveSingle(Game game) {
+        Line line = new Line(game.getPrice(), MinorUnitPrice.of(game.getPrice()).getMinorUnits());
+        gameDiscountPort.findByGameId(game.getId())
+                .filter(discount -> discount.getDiscountPercentage() > 0)
+                .ifPresent(discount -> {
+                    int basisPoints = MinorUnitPrice.toBasisPoints(discount.getDiscountPercentage());
+                    line.effective = MinorUnitPrice.discount(line.base, basisPoints);
+                    line.discountBasisPoints = basisPoints;
+                    line.source = SOURCE_OFFER;
+                    line.sourceId = discount.getOfferId();
+                });
+        return line;
+    }
+
+    // A bundle applies only when every one of its games is in the batch. Bundles are taken greedily
+    // by savings over the per-game prices, and a game can be covered by at most one bundle.
+    private void applyBundles(Map<String, Line> lines, String currency) {
+        List<BundleCandidate> candidates = new ArrayList<>();
+        for (Bundle bundle : bundleCatalog.findActiveByGameIds(lines.keySet().stream()
+                .map(GameId::new)
+                .collect(Collectors.toList()))) {
+            if (!currency.equals(bundle.getBundlePrice().getCurrency())) {
+                continue;
+            }
+            List<String> gameIds = bundle.getGameIds().stream()
+                    .map(GameId::getValue)
+                    .sorted()
+                    .collect(Collectors.toList());
+            if (!lines.keySet().containsAll(gameIds)) {
+                continue;
+            }
+            long separately = 0;
+            for (String gameId : gameIds) {
+                separately += lines.get(gameId).effective;
+            }
+            long bundlePrice = MinorUnitPrice.of(bundle.getBundlePrice()).getMinorUnits();
+            if (separately > bundlePrice) {
+                candidates.add(new BundleCandidate(bundle, gameIds, bundlePrice, separately - bundlePrice));
+            }
+        }
+
+        candidates.sort(Comparator.comparingLong((BundleCandidate candidate) -> candidate.savings).reversed()
+                .thenComparing(candidate -> candidate.bundle.getId()));
+
+        Set<String> covered = new HashSet<>();
+        for (BundleCandidate candidate : candidates) {
+            if (candidate.gameIds.stream().noneMatch(covered::contains)) {
+                allocate(candidate, lines);
+                covered.addAll(candidate.gameIds);
+            }
+        }
+    }
+
+    // Splits the bundle price across its games in proportion to their list prices; the last
+    // game takes the rounding remainder so the parts add up to the bundle price exactly
+    private void allocate(BundleCandidate candidate, Map<String, Line> lines) {
+        long listTotal = 0;
+        for (String gameId : candidate.gameIds) {
+            listTotal += lines.get(gameId).base;
+        }
+
+        int count = candidate.gameIds.size();
+        long allocated = 0;
+        for (int i = 0; i < count; i++) {
+            Line line = lines.get(candidate.gameIds.get(i));
+
+            long share;
+            if (i == count - 1) {
+                share = candidate.bundlePrice - allocated;
+            } else if (listTotal == 0) {
+                share = candidate.bundlePrice / count;
+            } else {
+                share = Math.multiplyExact(candidate.bundlePrice, line.base) / listTotal;
+            }
+            allocated += share;
+
+            line.effective = share;
+            line.discountBasisPoints = MinorUnitPrice.discountBasisPoints(line.base, share);
+            line.source = SOURCE_BUNDLE;
+            line.sourceId = candidate.bundle.getId();
+        }
+    }
+
+    private void validateResolvePricesCommand(ResolvePricesCommand command) {
+        if (command.gameIds == null || command.gameIds.isEmpty()) {
+            throw new IllegalArgumentException("Debe incluir al menos un juego");
+        }
+
+        if (command.gameIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("No se pueden resolver más de " + MAX_BATCH_SIZE + " juegos por petición");
+        }
+
+        if (command.currency == null || command.currency.trim().isEmpty()) {
+            throw new IllegalArgumentException("La moneda es obligatoria");
+        }
+    }
+
+    private static class Line {
+        final Price basePrice;
+        final long base;
+        long effective;
+        int discountBasisPoints;
+        String source = SOURCE_BASE;
+        String sourceId;
+
+        Line(Price basePrice, long base) {
+            this.basePrice = basePrice;
+            this.base = base;
+            this.effective = base;
+        }
+    }
+
+    private static class BundleCandidate {
+        final Bundle bundle;
+        final List<String> gameIds;
+        final long bundlePrice;
+        final long savings;
+
+        BundleCandidate(Bundle bundle, List<String> gameIds, long bundlePrice, long savings) {
+            this.bundle = bundle;
+            this.gameIds = gameIds;
+            this.bundlePrice = bundlePrice;
+            this.savings = savings;
+        }
+    }
+}
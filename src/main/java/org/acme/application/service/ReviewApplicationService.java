@@ -0,0 +1,172 @@
+package org.acme.application.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.in.ReviewUseCase;
+import org.acme.application.port.out.ReviewVotePort;
+import org.acme.domain.model.Review;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.ReviewSummary;
+import org.acme.domain.repository.GameRepository;
+import org.acme.domain.repository.ReviewRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@Transactional
+@Slf4j
+public class ReviewApplicationService implements ReviewUseCase {
+
+    @Inject
+    ReviewRepository reviewRepository;
+
+    @Inject
+    GameRepository gameRepository;
+
+    @Inject
+    ReviewVotePort reviewVotePort;
+
+    @Override
+    public Review createReview(CreateReviewCommand command) {
+        log.info("Creating review for game: {} by user: {}", command.gameId, command.userId);
+
+        validateCreateReviewCommand(command);
+
+        GameId gameId = new GameId(command.gameId);
+        if (gameRepository.findById(gameId).isEmpty()) {
+            throw new IllegalArgumentException("Juego no encontrado: " + command.gameId);
+        }
+
+        if (reviewRepository.existsByUserAndGame(command.userId, gameId)) {
+            throw new IllegalStateException("El usuario ya tiene una reseña para este juego");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Review review = Review.builder()
+                .id(UUID.randomUUID().toString())
+                .gameId(gameId)
+                .userId(command.userId)
+                .content(command.content.trim())
+                .isRecommended(command.isRecommended)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        Review savedReview = reviewRepository.save(review);
+
+        log.info("Review created successfully with ID: {}", savedReview.getId());
+        return savedReview;
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Review> getGameReviews(String gameId, int page, int size) {
+        log.debug("Fetching reviews for game: {} - page: {}, size: {}", gameId, page, size);
+
+        validatePagination(page, size);
+        return reviewRepository.findByGameId(new GameId(gameId), page, size);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Review> getUserReviews(String userId, int page, int size) {
+        log.debug("Fetching reviews by user: {} - page: {}, size: {}", userId, page, size);
+
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID del usuario es obligatorio");
+        }
+
+        validatePagination(page, size);
+        return reviewRepository.findByUserId(userId, page, size);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public void voteReview(String reviewId, Boolean isHelpful) {
+        log.debug("Voting review: {} - helpful: {}", reviewId, isHelpful);
+
+        if (isHelpful == null) {
+            throw new IllegalArgumentException("El voto es obligatorio");
+        }
+
+        // Only the first vote on a review since it was last flushed needs the existence check
+        GameId gameId = reviewVotePort.trackedGame(reviewId)
+                .or(() -> reviewRepository.findById(reviewId).map(Review::getGameId))
+                .orElseThrow(() -> new IllegalArgumentException("Reseña no encontrada: " + reviewId));
+
+        reviewVotePort.recordVote(reviewId, gameId, isHelpful);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Review> getMostHelpfulReviews(String gameId, int limit) {
+        log.debug("Fetching most helpful reviews for game: {} - limit: {}", gameId, limit);
+
+        if (limit <= 0 || limit > 100) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y 100");
+        }
+
+        return reviewRepository.findMostHelpful(new GameId(gameId), limit);
+    }
+
+    @Override
+    public void deleteReview(String reviewId, String userId) {
+        log.info("Deleting review: {} by user: {}", reviewId, userId);
+
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("Reseña no encontrada: " + reviewId));
+
+        if (!review.getUserId().equals(userId)) {
+            throw new SecurityException("No puedes eliminar esta reseña");
+        }
+
+        reviewRepository.delete(reviewId);
+
+        log.info("Review deleted successfully: {}", reviewId);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public ReviewSummary getReviewSummary(String gameId) {
+        log.debug("Fetching review summary for game: {}", gameId);
+
+        return reviewRepository.getSummary(new GameId(gameId));
+    }
+
+    @Override
+    public String rebuildReviewSummaries(String afterGameId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("El límite debe ser mayor que cero");
+        }
+
+        return reviewRepository.rebuildSummaries(afterGameId, limit);
+    }
+
+    private void validateCreateReviewCommand(CreateReviewCommand command) {
+        if (command.gameId == null || command.gameId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID del juego es obligatorio");
+        }
+        if (command.userId == null || command.userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID del usuario es obligatorio");
+        }
+        if (command.content == null || command.content.trim().isEmpty()) {
+            throw new IllegalArgumentException("El contenido de la reseña no puede estar vacío");
+        }
+        if (command.isRecommended == null) {
+            throw new IllegalArgumentException("La recomendación es obligatoria");
+        }
+    }
+
+    private void validatePagination(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("La página no puede ser negativa");
+        }
+        if (size <= 0 || size > 100) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y 100");
+        }
+    }
+}
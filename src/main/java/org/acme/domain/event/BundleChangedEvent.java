@@ -0,0 +1,22 @@
+package org.acme.domain.event;
+
+import lombok.Value;
+import org.acme.domain.model.Bundle;
+
+@Value
+public class BundleChangedEvent {
+    String bundleId;
+    Bundle bundle; // null when the bundle was deleted
+
+    public static BundleChangedEvent saved(Bundle bundle) {
+        return new BundleChangedEvent(bundle.getId(), bundle);
+    }
+
+    public static BundleChangedEvent deleted(String bundleId) {
+        return new BundleChangedEvent(bundleId, null);
+    }
+
+    public boolean isDeleted() {
+        return bundle == null;
+    }
+}
@@ -0,0 +1,23 @@
+package org.acme.domain.event;
+
+import lombok.Value;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.valueobjects.GameId;
+
+@Value
+public class GameChangedEvent {
+    GameId gameId;
+    Game game; // null when the game was deleted
+
+    public static GameChangedEvent saved(Game game) {
+        return new GameChangedEvent(game.getId(), game);
+    }
+
+    public static GameChangedEvent deleted(GameId gameId) {
+        return new GameChangedEvent(gameId, null);
+    }
+
+    public boolean isDeleted() {
+        return game == null;
+    }
+}
@@ -0,0 +1,15 @@
+package org.acme.domain.event;
+
+import lombok.Value;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Price;
+
+import java.time.LocalDateTime;
+
+// A paid purchase of one copy of a game (direct gift or pre-order)
+@Value
+public class GamePurchasedEvent {
+    GameId gameId;
+    Price amount;
+    LocalDateTime purchasedAt;
+}
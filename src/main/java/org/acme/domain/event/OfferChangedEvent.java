@@ -0,0 +1,22 @@
+package org.acme.domain.event;
+
+import lombok.Value;
+import org.acme.domain.model.Offer;
+
+@Value
+public class OfferChangedEvent {
+    String offerId;
+    Offer offer; // null when the offer was deleted
+
+    public static OfferChangedEvent saved(Offer offer) {
+        return new OfferChangedEvent(offer.getId(), offer);
+    }
+
+    public static OfferChangedEvent deleted(String offerId) {
+        return new OfferChangedEvent(offerId, null);
+    }
+
+    public boolean isDeleted() {
+        return offer == null;
+    }
+}
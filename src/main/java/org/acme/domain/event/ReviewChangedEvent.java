@@ -0,0 +1,29 @@
+package org.acme.domain.event;
+
+import lombok.Value;
+import org.acme.domain.model.Review;
+import org.acme.domain.model.valueobjects.GameId;
+
+@Value
+public class ReviewChangedEvent {
+    String reviewId;
+    GameId gameId;
+    Review review; // null when the review was deleted
+    boolean votesOnly; // only the helpful vote counts changed
+
+    public static ReviewChangedEvent saved(Review review) {
+        return new ReviewChangedEvent(review.getId(), review.getGameId(), review, false);
+    }
+
+    public static ReviewChangedEvent votesAdded(Review review) {
+        return new ReviewChangedEvent(review.getId(), review.getGameId(), review, true);
+    }
+
+    public static ReviewChangedEvent deleted(String reviewId, GameId gameId) {
+        return new ReviewChangedEvent(reviewId, gameId, null, false);
+    }
+
+    public boolean isDeleted() {
+        return review == null;
+    }
+}
@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.MinorUnitPrice;
+import org.acme.domain.model.valueobjects.Price;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -29,7 +31,6 @@ public class Bundle {
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
-    @Builder
     public Bundle(String id, String name, String description, Set<GameId> gameIds,
                   Price originalPrice, Price bundlePrice) {
         this.id = id;
@@ -44,10 +45,10 @@ public class Bundle {
     }
 
     private Double calculateDiscountPercentage() {
-        if (originalPrice.getAmount().compareTo(bundlePrice.getAmount()) > 0) {
-            return (1 - bundlePrice.getAmount().doubleValue() / originalPrice.getAmount().doubleValue()) * 100;
-        }
-        return 0.0;
+        int basisPoints = MinorUnitPrice.discountBasisPoints(
+                MinorUnitPrice.of(originalPrice).getMinorUnits(),
+                MinorUnitPrice.of(bundlePrice).getMinorUnits());
+        return basisPoints / 100.0;
     }
 
     public boolean isValidBundle() {
@@ -8,11 +8,13 @@ import lombok.experimental.Accessors;
 import org.acme.domain.model.valueobjects.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Accessors(chain = true)
@@ -85,4 +87,12 @@ public class Game {
         this.isPreOrderAvailable = isPreOrderAvailable;
         this.updatedAt = LocalDateTime.now();
     }
+
+    public Game copy() {
+        return toBuilder()
+                .categories(categories != null ? new HashSet<>(categories) : null)
+                .tags(tags != null ? new HashSet<>(tags) : null)
+                .images(images != null ? new ArrayList<>(images) : null)
+                .build();
+    }
 }
@@ -9,11 +9,15 @@ import lombok.experimental.Accessors;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Accessors(chain = true)
 public class Review {
+
+    // 95% confidence for the helpfulness lower bound
+    private static final double Z = 1.96;
+
     private String id;
     private GameId gameId;
     private String userId; // External domain reference
@@ -64,7 +68,27 @@ public class Review {
         return isRecommended != null && isRecommended;
     }
 
+    // Lower bound of the Wilson score interval: a few unanimous votes rank below many mostly
+    // positive ones, unlike the raw ratio
+    public double getHelpfulnessScore() {
+        return helpfulnessScore(helpfulVotes, totalVotes);
+    }
+
     public boolean isHelpful() {
-        return getHelpfulnessRatio() > 0.6; // Más del 60% considera útil
+        return getHelpfulnessScore() > 0.6; // Con 95% de confianza, más del 60% considera útil
+    }
+
+    public Review copy() {
+        return toBuilder().build();
+    }
+
+    public static double helpfulnessScore(long helpfulVotes, long totalVotes) {
+        if (totalVotes <= 0) {
+            return 0.0;
+        }
+        double n = totalVotes;
+        double p = helpfulVotes / n;
+        double z2 = Z * Z;
+        return (p + z2 / (2 * n) - Z * Math.sqrt((p * (1 - p) + z2 / (4 * n)) / n)) / (1 + z2 / n);
     }
 }
\ No newline at end of file
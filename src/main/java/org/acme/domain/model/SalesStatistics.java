@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.SalesWindow;
 
 import java.time.LocalDateTime;
 import java.math.BigDecimal;
@@ -22,15 +23,16 @@ public class SalesStatistics {
     @Builder.Default
     private Integer totalSales = 0;
     @Builder.Default
-    private Integer monthlySales = 0;
+    private BigDecimal totalRevenue = BigDecimal.ZERO;
+    // Rolling windows read from the sales counters; nothing has to reset them
     @Builder.Default
-    private Integer weeklySales = 0;
+    private SalesWindow lastDay = SalesWindow.empty();
     @Builder.Default
-    private Integer dailySales = 0;
+    private SalesWindow lastWeek = SalesWindow.empty();
     @Builder.Default
-    private BigDecimal totalRevenue = BigDecimal.ZERO;
+    private SalesWindow previousWeek = SalesWindow.empty();
     @Builder.Default
-    private BigDecimal monthlyRevenue = BigDecimal.ZERO;
+    private SalesWindow lastMonth = SalesWindow.empty();
     @Builder.Default
     private BigDecimal averageRating = BigDecimal.ZERO;
     @Builder.Default
@@ -49,11 +51,7 @@ public class SalesStatistics {
         }
 
         this.totalSales += newSales;
-        this.dailySales += newSales;
-        this.weeklySales += newSales;
-        this.monthlySales += newSales;
         this.totalRevenue = this.totalRevenue.add(revenue);
-        this.monthlyRevenue = this.monthlyRevenue.add(revenue);
         this.lastUpdated = LocalDateTime.now();
     }
 
@@ -74,27 +72,13 @@ public class SalesStatistics {
         return totalSales > 0 ? totalRevenue.divide(BigDecimal.valueOf(totalSales), 2, BigDecimal.ROUND_HALF_UP) : BigDecimal.ZERO;
     }
 
-    public void resetDailyStats() {
-        this.dailySales = 0;
-        this.lastUpdated = LocalDateTime.now();
-    }
-
-    public void resetWeeklyStats() {
-        this.weeklySales = 0;
-        this.lastUpdated = LocalDateTime.now();
-    }
-
-    public void resetMonthlyStats() {
-        this.monthlySales = 0;
-        this.monthlyRevenue = BigDecimal.ZERO;
-        this.lastUpdated = LocalDateTime.now();
-    }
-
     public boolean hasRecentActivity() {
         return lastUpdated.isAfter(LocalDateTime.now().minusDays(7));
     }
 
+    // Week-over-week change in percent
     public Double getSalesGrowthRate() {
-        return monthlySales > 0 ? (double) dailySales / monthlySales * 30 : 0.0;
+        long previous = previousWeek.getSales();
+        return previous > 0 ? (double) (lastWeek.getSales() - previous) / previous * 100 : 0.0;
     }
 }
\ No newline at end of file
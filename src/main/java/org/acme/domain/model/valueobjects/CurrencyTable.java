@@ -0,0 +1,57 @@
+package org.acme.domain.model.valueobjects;
+
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Interns ISO currency codes to small ints so hot paths compare and carry an int instead of
+// re-validating a String. Codes are validated once, on first use.
+public final class CurrencyTable {
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] codes = new String[0];
+
+    private CurrencyTable() {
+    }
+
+    public static int idOf(String currency) {
+        if (currency == null || currency.trim().isEmpty()) {
+            throw new IllegalArgumentException("La moneda no puede ser nula o vacía");
+        }
+        Integer id = IDS.get(currency);
+        return id != null ? id : register(currency);
+    }
+
+    public static String code(int id) {
+        String[] current = codes;
+        if (id < 0 || id >= current.length) {
+            throw new IllegalArgumentException("Moneda desconocida: " + id);
+        }
+        return current[id];
+    }
+
+    private static synchronized int register(String currency) {
+        String code = currency.toUpperCase();
+        try {
+            Currency.getInstance(code);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Código de moneda inválido: " + currency);
+        }
+
+        Integer existing = IDS.get(code);
+        int id;
+        if (existing != null) {
+            id = existing;
+        } else {
+            id = codes.length;
+            String[] grown = Arrays.copyOf(codes, id + 1);
+            grown[id] = code;
+            codes = grown;
+            IDS.put(code, id);
+        }
+        // Also remember the spelling the caller used, e.g. "usd"
+        IDS.putIfAbsent(currency, id);
+        return id;
+    }
+}
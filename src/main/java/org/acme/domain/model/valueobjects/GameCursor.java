@@ -0,0 +1,51 @@
+package org.acme.domain.model.valueobjects;
+
+import lombok.Builder;
+import lombok.Value;
+import org.acme.domain.model.Game;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Value
+@Builder
+public class GameCursor {
+    LocalDateTime createdAt;
+    String id;
+
+    public GameCursor(LocalDateTime createdAt, String id) {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("La fecha del cursor no puede ser nula");
+        }
+        if (id == null || id.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID del cursor no puede ser nulo o vacío");
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static GameCursor of(Game game) {
+        return new GameCursor(game.getCreatedAt(), game.getId().getValue());
+    }
+
+    public static GameCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            return new GameCursor(LocalDateTime.parse(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
@@ -0,0 +1,115 @@
+package org.acme.domain.model.valueobjects;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+// Price as a long count of minor units (hundredths, the same fixed scale Price uses) plus an
+// interned currency id. Arithmetic is exact integer math; conversion to and from Price is lossless.
+@Value
+public class MinorUnitPrice implements Comparable<MinorUnitPrice> {
+
+    public static final int SCALE = 2;
+    public static final int BASIS_POINTS = 10_000; // 100.00 %
+
+    long minorUnits;
+    int currencyId;
+
+    public MinorUnitPrice(long minorUnits, int currencyId) {
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("El precio no puede ser negativo");
+        }
+        this.minorUnits = minorUnits;
+        this.currencyId = currencyId;
+    }
+
+    public static MinorUnitPrice of(Price price) {
+        return new MinorUnitPrice(price.getAmount().unscaledValue().longValueExact(), CurrencyTable.idOf(price.getCurrency()));
+    }
+
+    public static MinorUnitPrice of(long minorUnits, String currency) {
+        return new MinorUnitPrice(minorUnits, CurrencyTable.idOf(currency));
+    }
+
+    public Price toPrice() {
+        return new Price(BigDecimal.valueOf(minorUnits, SCALE), getCurrency());
+    }
+
+    public String getCurrency() {
+        return CurrencyTable.code(currencyId);
+    }
+
+    public MinorUnitPrice applyDiscount(Double discountPercentage) {
+        return applyDiscountBasisPoints(toBasisPoints(discountPercentage));
+    }
+
+    public MinorUnitPrice applyDiscountBasisPoints(int basisPoints) {
+        return new MinorUnitPrice(discount(minorUnits, basisPoints), currencyId);
+    }
+
+    public MinorUnitPrice add(MinorUnitPrice other) {
+        requireSameCurrency(other, "No se pueden sumar precios con diferentes monedas");
+        return new MinorUnitPrice(Math.addExact(minorUnits, other.minorUnits), currencyId);
+    }
+
+    public MinorUnitPrice subtract(MinorUnitPrice other) {
+        requireSameCurrency(other, "No se pueden restar precios con diferentes monedas");
+        if (other.minorUnits > minorUnits) {
+            throw new IllegalArgumentException("El resultado no puede ser negativo");
+        }
+        return new MinorUnitPrice(minorUnits - other.minorUnits, currencyId);
+    }
+
+    public MinorUnitPrice multiply(int factor) {
+        if (factor < 0) {
+            throw new IllegalArgumentException("El factor no puede ser negativo");
+        }
+        return new MinorUnitPrice(Math.multiplyExact(minorUnits, factor), currencyId);
+    }
+
+    public boolean isFree() {
+        return minorUnits == 0;
+    }
+
+    @Override
+    public int compareTo(MinorUnitPrice other) {
+        requireSameCurrency(other, "No se pueden comparar precios con diferentes monedas");
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    // Primitive helpers for loops that keep amounts in long[] and never build objects
+
+    // Percentages are stored with two decimals, so they map exactly onto basis points
+    public static int toBasisPoints(Double discountPercentage) {
+        if (discountPercentage == null || discountPercentage < 0 || discountPercentage > 100) {
+            throw new IllegalArgumentException("El descuento debe estar entre 0 y 100");
+        }
+        return (int) Math.round(discountPercentage * 100);
+    }
+
+    // amount * (1 - discount), rounded half-up to a minor unit like Price.applyDiscount
+    public static long discount(long minorUnits, int basisPoints) {
+        long kept = BASIS_POINTS - basisPoints;
+        return (Math.multiplyExact(minorUnits, kept) + BASIS_POINTS / 2) / BASIS_POINTS;
+    }
+
+    // Discount that turns original into discounted, in basis points rounded half-up
+    public static int discountBasisPoints(long original, long discounted) {
+        if (original <= 0 || discounted >= original) {
+            return 0;
+        }
+        long saved = Math.multiplyExact(original - discounted, BASIS_POINTS);
+        return (int) ((saved + original / 2) / original);
+    }
+
+    private void requireSameCurrency(MinorUnitPrice other, String message) {
+        if (currencyId != other.currencyId) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toPrice().toString();
+    }
+}
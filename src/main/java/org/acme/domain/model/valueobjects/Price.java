@@ -44,7 +44,8 @@ public class Price {
         if (discountPercentage < 0 || discountPercentage > 100) {
             throw new IllegalArgumentException("El descuento debe estar entre 0 y 100");
         }
-        BigDecimal discount = BigDecimal.valueOf(discountPercentage / 100);
+        // movePointLeft keeps the percentage exact; dividing the double by 100 does not (0.35 -> 0.35000000000000003)
+        BigDecimal discount = BigDecimal.valueOf(discountPercentage).movePointLeft(2);
         BigDecimal discountedAmount = amount.multiply(BigDecimal.ONE.subtract(discount));
         return new Price(discountedAmount, currency);
     }
@@ -51,6 +51,15 @@ public class Rating {
         return Rating.of(0.0, 0);
     }
 
+    // Reviews are recommend / don't recommend, so the share of positive reviews maps onto 0-5
+    public static Rating fromReviews(long positiveReviews, long totalReviews) {
+        if (totalReviews <= 0) {
+            return unrated();
+        }
+        double value = Math.round(500.0 * positiveReviews / totalReviews) / 100.0;
+        return Rating.of(value, (int) Math.min(totalReviews, Integer.MAX_VALUE));
+    }
+
     public Rating addVote(BigDecimal newRating) {
         if (newRating.compareTo(BigDecimal.ZERO) < 0 || newRating.compareTo(BigDecimal.valueOf(5)) > 0) {
             throw new IllegalArgumentException("La nueva calificación debe estar entre 0 y 5");
@@ -0,0 +1,23 @@
+package org.acme.domain.model.valueobjects;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ReviewSummary {
+    String gameId;
+    long totalReviews;
+    long positiveReviews;
+    long negativeReviews;
+    long helpfulVotes;
+    long totalVotes;
+
+    public static ReviewSummary empty(String gameId) {
+        return new ReviewSummary(gameId, 0, 0, 0, 0, 0);
+    }
+
+    public double getPositiveRatio() {
+        return totalReviews > 0 ? (double) positiveReviews / totalReviews : 0.0;
+    }
+}
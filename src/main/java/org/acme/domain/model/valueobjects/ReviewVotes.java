@@ -0,0 +1,12 @@
+package org.acme.domain.model.valueobjects;
+
+import lombok.Value;
+
+// Helpful votes accumulated for one review since they were last stored
+@Value
+public class ReviewVotes {
+    String reviewId;
+    GameId gameId;
+    long helpfulVotes;
+    long totalVotes;
+}
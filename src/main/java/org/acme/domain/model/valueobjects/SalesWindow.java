@@ -0,0 +1,22 @@
+package org.acme.domain.model.valueobjects;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+@Value
+@Builder
+public class SalesWindow {
+    long sales;
+    BigDecimal revenue;
+
+    public static SalesWindow empty() {
+        return new SalesWindow(0, BigDecimal.ZERO);
+    }
+
+    // The part of this window that is not covered by a shorter window ending at the same time
+    public SalesWindow minus(SalesWindow recent) {
+        return new SalesWindow(sales - recent.sales, revenue.subtract(recent.revenue));
+    }
+}
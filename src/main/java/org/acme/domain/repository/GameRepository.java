@@ -3,23 +3,36 @@ package org.acme.domain.repository;
 import org.acme.domain.model.Game;
 import org.acme.domain.model.valueobjects.GameId;
 import org.acme.domain.model.valueobjects.Category;
+import org.acme.domain.model.valueobjects.GameCursor;
+import org.acme.domain.model.valueobjects.Rating;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface GameRepository {
     Game save(Game game);
     Optional<Game> findById(GameId id);
+    List<Game> findByIds(List<GameId> ids);
+    Set<GameId> findActiveIds(Collection<GameId> ids);
     List<Game> findAll(int page, int size);
     List<Game> findByCategory(Category category, int page, int size);
     List<Game> findByPublisher(String publisherId, int page, int size);
     List<Game> findAvailableForPreOrder();
     List<Game> searchByTitle(String title, int page, int size);
+    List<Game> findAllAfter(GameCursor cursor, int size);
+    List<Game> findByCategoryAfter(Category category, GameCursor cursor, int size);
+    List<Game> findByPublisherAfter(String publisherId, GameCursor cursor, int size);
     List<Game> findByPriceRange(java.math.BigDecimal minPrice, java.math.BigDecimal maxPrice, String currency);
     List<Game> findByReleaseYear(int year);
     List<Game> findTopRated(int limit);
     List<Game> findRecentlyAdded(int limit);
-    List<Game> findDiscounted();
     void delete(GameId id);
+    // Overwrites only the rating columns, leaving the rest of each game row untouched
+    void updateRatings(Map<GameId, Rating> ratings);
+    // Up to limit games after afterId, in id order, whose rating vote count differs from their review count
+    List<GameId> findRatingDrift(String afterId, int limit);
     long count();
     long countByCategory(Category category);
     boolean existsById(GameId id);
@@ -1,6 +1,8 @@
 package org.acme.domain.repository;
 
 import org.acme.domain.model.Gift;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +14,8 @@ public interface GiftRepository {
     List<Gift> findPendingByRecipientId(String recipientId);
     List<Gift> findByStatus(String status);
     List<Gift> findExpiredGifts();
+    // Set-based: marks up to limit pending gifts expired before expiredBefore as EXPIRED
+    int expirePending(LocalDateTime expiredBefore, int limit);
     void delete(String id);
     long count();
     long countByRecipientId(String recipientId);
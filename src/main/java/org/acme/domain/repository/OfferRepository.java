@@ -10,6 +10,7 @@ public interface OfferRepository {
     Optional<Offer> findById(String id);
     List<Offer> findAll(int page, int size);
     List<Offer> findActiveOffers();
+    List<Offer> findActiveOrUpcoming();
     List<Offer> findByOfferType(String offerType);
     List<Offer> findByGameId(GameId gameId);
     List<Offer> findExpiringSoon(int hours);
@@ -3,6 +3,8 @@ package org.acme.domain.repository;
 import org.acme.domain.model.PreOrder;
 import org.acme.domain.model.valueobjects.GameId;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +15,11 @@ public interface PreOrderRepository {
     List<PreOrder> findByGameId(GameId gameId);
     List<PreOrder> findByStatus(String status);
     List<PreOrder> findReadyToComplete();
+    // Keyset page of confirmed pre-order ids whose game was released by releasedBy, ordered by id
+    List<String> findReadyToCompleteIds(LocalDateTime releasedBy, String afterId, int limit);
+    long countReadyToComplete(LocalDateTime releasedBy, String afterId);
+    // Locks the given pre-orders, completes the ones still confirmed in one UPDATE and returns them
+    List<PreOrder> completeConfirmed(Collection<String> ids);
     void delete(String id);
     long count();
     long countByGameId(GameId gameId);
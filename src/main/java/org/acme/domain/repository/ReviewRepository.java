@@ -2,6 +2,8 @@ package org.acme.domain.repository;
 
 import org.acme.domain.model.Review;
 import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.ReviewSummary;
+import org.acme.domain.model.valueobjects.ReviewVotes;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +17,17 @@ public interface ReviewRepository {
     List<Review> findMostHelpful(GameId gameId, int limit);
     List<Review> findRecent(GameId gameId, int limit);
     void delete(String id);
+    // Adds to the stored vote counts; returns the votes applied, skipping reviews that are gone or inactive
+    List<ReviewVotes> addVotes(List<ReviewVotes> votes);
     long countByGameId(GameId gameId);
     long countPositiveByGameId(GameId gameId);
     long countNegativeByGameId(GameId gameId);
+    ReviewSummary getSummary(GameId gameId);
+    // One summary per requested game, in the same order; games without reviews get an empty one
+    List<ReviewSummary> getSummaries(List<GameId> gameIds);
+    // Recomputes the summaries and stale helpfulness scores of up to limit games after afterGameId;
+    // returns the last game id, or null when done
+    String rebuildSummaries(String afterGameId, int limit);
     boolean existsByUserAndGame(String userId, GameId gameId);
 }
 
@@ -0,0 +1,79 @@
+package org.acme.infrastructure.adapter.in.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.in.GiftUseCase;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Expires pending gifts with set-based UPDATEs of at most chunk-size rows, each committed on its own,
+// so a large backlog never turns into one huge transaction or a heap full of Gift objects
+@ApplicationScoped
+@Slf4j
+public class GiftExpiryJob {
+
+    @ConfigProperty(name = "catalog.gifts.expiry.chunk-size", defaultValue = "5000")
+    int chunkSize;
+
+    @Inject
+    GiftUseCase giftUseCase;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final AtomicLong lastRunExpired = new AtomicLong();
+    private Counter expiredCounter;
+    private Timer runTimer;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("gifts.expiry.last_run.expired", lastRunExpired, AtomicLong::get)
+                .description("Gifts expired by the last expiry run")
+                .register(meterRegistry);
+        expiredCounter = meterRegistry.counter("gifts.expiry.expired");
+        runTimer = meterRegistry.timer("gifts.expiry.run");
+    }
+
+    @Scheduled(every = "${catalog.gifts.expiry.interval:5m}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledRun() {
+        try {
+            run();
+        } catch (Exception e) {
+            log.error("Error expiring gifts", e);
+        }
+    }
+
+    // Returns how many gifts this run expired
+    public long run() {
+        // A fixed cutoff keeps the run bounded even while gifts keep expiring
+        LocalDateTime expiredBefore = LocalDateTime.now();
+        long startTime = System.nanoTime();
+        long expired = 0;
+        int chunks = 0;
+
+        int chunkExpired;
+        do {
+            // Each call is its own transaction
+            chunkExpired = giftUseCase.expireGifts(expiredBefore, chunkSize);
+            expired += chunkExpired;
+            chunks++;
+        } while (chunkExpired == chunkSize);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        runTimer.record(elapsed);
+        expiredCounter.increment(expired);
+        lastRunExpired.set(expired);
+        log.info("Gift expiry run expired {} gifts in {} chunks in {} ms", expired, chunks, elapsed.toMillis());
+        return expired;
+    }
+}
@@ -0,0 +1,295 @@
+package org.acme.infrastructure.adapter.in.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.in.PreOrderUseCase;
+import org.acme.domain.repository.PreOrderRepository;
+import org.acme.infrastructure.adapter.out.persistence.entity.PreOrderCompletionQuarantineEntity;
+import org.acme.infrastructure.adapter.out.persistence.entity.PreOrderCompletionRunEntity;
+import org.acme.infrastructure.adapter.out.persistence.repository.PreOrderCompletionQuarantineRepository;
+import org.acme.infrastructure.adapter.out.persistence.repository.PreOrderCompletionRunRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Completes every confirmed pre-order whose game has been released. Ready ids are read in keyset
+// order and handed out as chunks to up to `parallelism` workers, each completing its chunk in one
+// transaction. The checkpoint only moves past a chunk once it and every chunk before it committed,
+// so a crashed run resumes from the checkpoint without skipping anything. A chunk that keeps failing
+// is retried up to max-chunk-attempts times, then completed id by id with the failing ids quarantined.
+@ApplicationScoped
+@Slf4j
+public class PreOrderCompletionJob {
+
+    // Unpooled for the reason given in ConcurrentChecks; the permits in completeFrom bound it
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @ConfigProperty(name = "catalog.preorders.completion.chunk-size", defaultValue = "1000")
+    int chunkSize;
+
+    @ConfigProperty(name = "catalog.preorders.completion.parallelism", defaultValue = "4")
+    int parallelism;
+
+    @ConfigProperty(name = "catalog.preorders.completion.max-chunk-attempts", defaultValue = "3")
+    int maxChunkAttempts;
+
+    @Inject
+    PreOrderUseCase preOrderUseCase;
+
+    @Inject
+    PreOrderRepository preOrderRepository;
+
+    @Inject
+    PreOrderCompletionRunRepository runRepository;
+
+    @Inject
+    PreOrderCompletionQuarantineRepository quarantineRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final AtomicLong runCompleted = new AtomicLong();
+    private final AtomicLong runRemaining = new AtomicLong();
+    private Counter completedCounter;
+    private Counter quarantinedCounter;
+    private Timer chunkTimer;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("preorders.completion.run.completed", runCompleted, AtomicLong::get)
+                .description("Pre-orders completed by the current or last completion run")
+                .register(meterRegistry);
+        Gauge.builder("preorders.completion.run.remaining", runRemaining, AtomicLong::get)
+                .description("Pre-orders still to be completed by the current completion run")
+                .register(meterRegistry);
+        completedCounter = meterRegistry.counter("preorders.completion.completed");
+        quarantinedCounter = meterRegistry.counter("preorders.completion.quarantined");
+        chunkTimer = meterRegistry.timer("preorders.completion.chunk");
+    }
+
+    @Scheduled(every = "${catalog.preorders.completion.interval:1m}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledRun() {
+        try {
+            run();
+        } catch (Exception e) {
+            log.error("Error completing released pre-orders", e);
+        }
+    }
+
+    // Returns how many pre-orders this run completed
+    public long run() {
+        Optional<PreOrderCompletionRunEntity> started = startOrResume();
+        if (started.isEmpty()) {
+            return 0;
+        }
+
+        PreOrderCompletionRunEntity checkpoint = started.get();
+        long startTime = System.currentTimeMillis();
+        long completedBefore = checkpoint.getCompleted();
+        runCompleted.set(completedBefore);
+        runRemaining.set(QuarkusTransaction.requiringNew().call(() ->
+                preOrderRepository.countReadyToComplete(checkpoint.getReleasedBy(), checkpoint.getLastPreOrderId())));
+        log.info("Completing pre-orders released by {} from checkpoint {} ({} ready)",
+                checkpoint.getReleasedBy(), checkpoint.getLastPreOrderId(), runRemaining.get());
+
+        boolean failed;
+        try {
+            Chunk failedChunk = completeFrom(checkpoint);
+            while (failedChunk != null && retriesExhausted(checkpoint)) {
+                quarantine(checkpoint, failedChunk);
+                failedChunk = completeFrom(checkpoint);
+            }
+            failed = failedChunk != null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed = true;
+        }
+
+        if (!failed) {
+            finish(checkpoint);
+        }
+
+        long completed = checkpoint.getCompleted() - completedBefore;
+        log.info("Pre-order completion run {} {}: {} completed in {} ms",
+                checkpoint.getId(), failed ? "paused at checkpoint " + checkpoint.getLastPreOrderId() : "finished",
+                completed, System.currentTimeMillis() - startTime);
+        return completed;
+    }
+
+    // Pipelines chunks from the checkpoint until the ready ids run out or a chunk fails; returns the
+    // first failed chunk, or null when everything up to the end committed
+    private Chunk completeFrom(PreOrderCompletionRunEntity checkpoint) throws InterruptedException {
+        Semaphore permits = new Semaphore(parallelism);
+        Deque<Chunk> inFlight = new ArrayDeque<>();
+        String cursor = checkpoint.getLastPreOrderId();
+        Chunk failed = null;
+
+        try {
+            while (failed == null) {
+                String after = cursor;
+                List<String> ids = QuarkusTransaction.requiringNew().call(() ->
+                        preOrderRepository.findReadyToCompleteIds(checkpoint.getReleasedBy(), after, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                cursor = ids.get(ids.size() - 1);
+
+                permits.acquire();
+                inFlight.addLast(new Chunk(ids, EXECUTOR.submit(() -> {
+                    try {
+                        return completeChunk(ids);
+                    } finally {
+                        permits.release();
+                    }
+                })));
+
+                failed = advance(checkpoint, inFlight, null, false);
+            }
+            return advance(checkpoint, inFlight, failed, true);
+        } catch (InterruptedException e) {
+            inFlight.forEach(chunk -> chunk.result.cancel(true));
+            throw e;
+        }
+    }
+
+    private int completeChunk(List<String> ids) {
+        return chunkTimer.record(() -> preOrderUseCase.completePreOrders(ids));
+    }
+
+    // Pops finished chunks off the head of the queue and moves the checkpoint past them. The checkpoint
+    // never passes a failed chunk: chunks behind it are still awaited, but only re-read (and found no
+    // longer confirmed) when the run resumes. Returns the first failed chunk seen so far.
+    private Chunk advance(PreOrderCompletionRunEntity checkpoint, Deque<Chunk> inFlight, Chunk failed, boolean wait)
+            throws InterruptedException {
+        String lastId = null;
+        long completed = 0;
+
+        while (!inFlight.isEmpty() && (wait || (failed == null && inFlight.peekFirst().result.isDone()))) {
+            Chunk chunk = inFlight.pollFirst();
+            try {
+                completed += chunk.result.get();
+                if (failed == null) {
+                    lastId = chunk.lastId();
+                }
+            } catch (ExecutionException e) {
+                log.error("Error completing pre-order chunk ending at {}", chunk.lastId(), e.getCause());
+                if (failed == null) {
+                    failed = chunk;
+                }
+            }
+        }
+
+        if (lastId != null || completed > 0) {
+            saveCheckpoint(checkpoint, lastId, completed);
+        }
+        return failed;
+    }
+
+    // Counts one more failed attempt at the chunk after the checkpoint, across runs
+    private boolean retriesExhausted(PreOrderCompletionRunEntity checkpoint) {
+        checkpoint.setFailedAttempts(checkpoint.getFailedAttempts() + 1);
+        checkpoint.setCheckpointedAt(LocalDateTime.now());
+        QuarkusTransaction.requiringNew().run(() -> runRepository.getEntityManager().merge(checkpoint));
+        return checkpoint.getFailedAttempts() >= maxChunkAttempts;
+    }
+
+    // Retries the chunk one pre-order at a time and sets aside the ones that still fail, so a single
+    // bad pre-order cannot hold the run at its checkpoint forever
+    private void quarantine(PreOrderCompletionRunEntity checkpoint, Chunk chunk) {
+        long completed = 0;
+        long quarantined = 0;
+        for (String id : chunk.ids) {
+            try {
+                completed += completeChunk(List.of(id));
+            } catch (Exception e) {
+                log.error("Quarantining pre-order {} after {} failed attempts of its chunk", id, checkpoint.getFailedAttempts(), e);
+                String error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+                QuarkusTransaction.requiringNew().run(() -> quarantineRepository.persist(PreOrderCompletionQuarantineEntity.builder()
+                        .preOrderId(id)
+                        .runId(checkpoint.getId())
+                        .lastError(error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH))
+                        .build()));
+                quarantined++;
+            }
+        }
+
+        checkpoint.setQuarantined(checkpoint.getQuarantined() + quarantined);
+        quarantinedCounter.increment(quarantined);
+        saveCheckpoint(checkpoint, chunk.lastId(), completed);
+    }
+
+    private void saveCheckpoint(PreOrderCompletionRunEntity checkpoint, String lastId, long completed) {
+        if (lastId != null) {
+            checkpoint.setLastPreOrderId(lastId);
+            checkpoint.setFailedAttempts(0);
+        }
+        checkpoint.setCompleted(checkpoint.getCompleted() + completed);
+        checkpoint.setCheckpointedAt(LocalDateTime.now());
+        QuarkusTransaction.requiringNew().run(() -> runRepository.getEntityManager().merge(checkpoint));
+
+        completedCounter.increment(completed);
+        runCompleted.set(checkpoint.getCompleted());
+        runRemaining.updateAndGet(remaining -> Math.max(0, remaining - completed));
+        log.info("Pre-order completion checkpoint at {}: {} completed, ~{} remaining",
+                checkpoint.getLastPreOrderId(), checkpoint.getCompleted(), runRemaining.get());
+    }
+
+    private Optional<PreOrderCompletionRunEntity> startOrResume() {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            Optional<PreOrderCompletionRunEntity> running = runRepository.findRunning();
+            if (running.isPresent()) {
+                return running;
+            }
+
+            LocalDateTime releasedBy = LocalDateTime.now();
+            if (preOrderRepository.findReadyToCompleteIds(releasedBy, null, 1).isEmpty()) {
+                return Optional.empty();
+            }
+            PreOrderCompletionRunEntity run = PreOrderCompletionRunEntity.builder()
+                    .releasedBy(releasedBy)
+                    .build();
+            runRepository.persist(run);
+            return Optional.of(run);
+        });
+    }
+
+    private void finish(PreOrderCompletionRunEntity checkpoint) {
+        checkpoint.setStatus(PreOrderCompletionRunEntity.STATUS_FINISHED);
+        checkpoint.setFinishedAt(LocalDateTime.now());
+        QuarkusTransaction.requiringNew().run(() -> runRepository.getEntityManager().merge(checkpoint));
+        runRemaining.set(0);
+    }
+
+    private static class Chunk {
+        final List<String> ids;
+        final Future<Integer> result;
+
+        Chunk(List<String> ids, Future<Integer> result) {
+            this.ids = ids;
+            this.result = result;
+        }
+
+        String lastId() {
+            return ids.get(ids.size() - 1);
+        }
+    }
+}
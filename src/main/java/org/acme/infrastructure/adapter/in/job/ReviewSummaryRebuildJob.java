@@ -0,0 +1,63 @@
+package org.acme.infrastructure.adapter.in.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.in.ReviewUseCase;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+
+// Recomputes every game's review summary from the reviews table, chunk-size games per transaction.
+// Summaries are maintained incrementally on each write; this only repairs drift and backfills
+// games reviewed before summaries existed, along with the helpfulness scores of reviews voted on
+// before the score was stored. Interval triggers also fire once right after startup.
+@ApplicationScoped
+@Slf4j
+public class ReviewSummaryRebuildJob {
+
+    @ConfigProperty(name = "catalog.reviews.summary-rebuild.chunk-size", defaultValue = "500")
+    int chunkSize;
+
+    @Inject
+    ReviewUseCase reviewUseCase;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private Timer runTimer;
+
+    @PostConstruct
+    void init() {
+        runTimer = meterRegistry.timer("reviews.summary_rebuild.run");
+    }
+
+    @Scheduled(every = "${catalog.reviews.summary-rebuild.interval:24h}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledRun() {
+        try {
+            run();
+        } catch (Exception e) {
+            log.error("Error rebuilding review summaries", e);
+        }
+    }
+
+    // Returns how many chunks were processed
+    public int run() {
+        long startTime = System.nanoTime();
+        int chunks = 0;
+
+        String lastGameId = null;
+        while ((lastGameId = reviewUseCase.rebuildReviewSummaries(lastGameId, chunkSize)) != null) {
+            chunks++;
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        runTimer.record(elapsed);
+        log.info("Review summary rebuild processed {} chunks of up to {} games in {} ms", chunks, chunkSize, elapsed.toMillis());
+        return chunks;
+    }
+}
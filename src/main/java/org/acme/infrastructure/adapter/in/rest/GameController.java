@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.acme.application.port.in.GameUseCase;
+import org.acme.application.port.out.GameSuggestionPort;
 import org.acme.domain.model.Game;
 import org.acme.domain.model.valueobjects.GameId;
 import org.acme.domain.model.valueobjects.Category;
@@ -23,6 +24,7 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 @Path("/api/games")
@@ -32,6 +34,8 @@ import java.util.List;
 @Slf4j
 public class GameController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Inject
     GameUseCase gameUseCase;
 
@@ -66,10 +70,27 @@ public class GameController {
             @QueryParam("size") @DefaultValue("20") @Min(1) @Max(100) int size,
 
             @Parameter(description = "Filtrar por categoría", example = "Accion")
-            @QueryParam("category") String category) {
+            @QueryParam("category") String category,
+
+            @Parameter(description = "Cursor opaco de la página siguiente; si se envía (aunque sea vacío) " +
+                    "se ignora 'page' y se pagina por cursor")
+            @QueryParam("cursor") String cursor) {
 
         try {
-            log.info("GET /api/games - page: {}, size: {}, category: {}", page, size, category);
+            log.info("GET /api/games - page: {}, size: {}, category: {}, cursor: {}", page, size, category, cursor);
+
+            if (cursor != null) {
+                GameUseCase.GamePage gamePage;
+                if (category != null && !category.isEmpty()) {
+                    Category cat = new Category(category, "");
+                    gamePage = gameUseCase.getGamesByCategory(cat, cursor, size);
+                } else {
+                    gamePage = gameUseCase.getAllGames(cursor, size);
+                }
+
+                log.info("Found {} games", gamePage.games.size());
+                return cursorResponse(gamePage);
+            }
 
             List<Game> games;
             if (category != null && !category.isEmpty()) {
@@ -192,10 +213,14 @@ public class GameController {
             @QueryParam("page") @DefaultValue("0") @Min(0) int page,
 
             @Parameter(description = "Tamaño de página", example = "20")
-            @QueryParam("size") @DefaultValue("20") @Min(1) @Max(100) int size) {
+            @QueryParam("size") @DefaultValue("20") @Min(1) @Max(100) int size,
+
+            @Parameter(description = "Cursor opaco de la página siguiente; si se envía (aunque sea vacío) " +
+                    "se ignora 'page' y se pagina por cursor")
+            @QueryParam("cursor") String cursor) {
 
         try {
-            log.info("GET /api/games/search - title: '{}', page: {}, size: {}", title, page, size);
+            log.info("GET /api/games/search - title: '{}', page: {}, size: {}, cursor: {}", title, page, size, cursor);
 
             if (title == null || title.trim().isEmpty()) {
                 return Response.status(Response.Status.BAD_REQUEST)
@@ -206,6 +231,13 @@ public class GameController {
                         .build();
             }
 
+            if (cursor != null) {
+                GameUseCase.GamePage gamePage = gameUseCase.searchGames(title, cursor, size);
+
+                log.info("Search completed. Found {} games for title: '{}'", gamePage.games.size(), title);
+                return cursorResponse(gamePage);
+            }
+
             List<Game> games = gameUseCase.searchGames(title, page, size);
 
             log.info("Search completed. Found {} games for title: '{}'", games.size(), title);
@@ -230,6 +262,105 @@ public class GameController {
         }
     }
 
+    @GET
+    @Path("/suggest")
+    @Operation(
+            summary = "Sugerir títulos de juegos",
+            description = "Autocompletado para la caja de búsqueda: devuelve los juegos más populares " +
+                    "cuyo título empieza con el prefijo indicado"
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Sugerencias obtenidas exitosamente",
+                    content = @Content(schema = @Schema(implementation = GameSuggestionPort.GameSuggestion.class))
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Parámetros inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public Response suggestGames(
+            @Parameter(description = "Prefijo del título", required = true, example = "cyb")
+            @QueryParam("prefix") @NotBlank String prefix,
+
+            @Parameter(description = "Número máximo de sugerencias", example = "10")
+            @QueryParam("limit") @DefaultValue("10") @Min(1) @Max(10) int limit) {
+
+        try {
+            log.debug("GET /api/games/suggest - prefix: '{}', limit: {}", prefix, limit);
+
+            return Response.ok(gameUseCase.suggestGames(prefix, limit)).build();
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for suggestGames: {}", e.getMessage());
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(ErrorResponse.builder()
+                            .message("Parámetros inválidos")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
+        } catch (Exception e) {
+            log.error("Internal error in suggestGames for prefix: " + prefix, e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(ErrorResponse.builder()
+                            .message("Error interno del servidor")
+                            .details("Error al obtener sugerencias")
+                            .build())
+                    .build();
+        }
+    }
+
+    @GET
+    @Path("/owned")
+    @Operation(
+            summary = "Consultar juegos ya adquiridos",
+            description = "Indica cuáles de los juegos de una página del catálogo ya están en la biblioteca " +
+                    "del usuario, con una sola consulta"
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "IDs de los juegos que el usuario ya posee"
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Parámetros inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public Response getOwnedGames(
+            @Parameter(description = "ID del usuario", required = true)
+            @QueryParam("userId") @NotBlank String userId,
+
+            @Parameter(description = "IDs de los juegos a comprobar (máximo 100)")
+            @QueryParam("gameIds") List<String> gameIds) {
+
+        try {
+            log.debug("GET /api/games/owned - userId: {}, games: {}", userId, gameIds.size());
+
+            return Response.ok(gameUseCase.getOwnedGameIds(userId, new LinkedHashSet<>(gameIds))).build();
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for getOwnedGames: {}", e.getMessage());
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(ErrorResponse.builder()
+                            .message("Parámetros inválidos")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
+        } catch (Exception e) {
+            log.error("Internal error in getOwnedGames for user: " + userId, e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(ErrorResponse.builder()
+                            .message("Error interno del servidor")
+                            .details("Error al consultar la biblioteca del usuario")
+                            .build())
+                    .build();
+        }
+    }
+
     @GET
     @Path("/top-rated")
     @Operation(
@@ -292,17 +423,48 @@ public class GameController {
     @Path("/discounted")
     @Operation(
             summary = "Obtener juegos con descuento",
-            description = "Obtiene una lista de todos los juegos que actualmente tienen descuento"
+            description = "Obtiene una lista paginada de los juegos con una oferta vigente, ordenados por descuento, " +
+                    "junto con su precio rebajado"
     )
-    public Response getDiscountedGames() {
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Juegos con descuento obtenidos exitosamente",
+                    content = @Content(schema = @Schema(implementation = GameUseCase.DiscountedGame.class))
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Parámetros de consulta inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public Response getDiscountedGames(
+            @Parameter(description = "Número de página (comienza en 0)", example = "0")
+            @QueryParam("page") @DefaultValue("0") @Min(0) int page,
+
+            @Parameter(description = "Tamaño de página", example = "20")
+            @QueryParam("size") @DefaultValue("20") @Min(1) @Max(100) int size) {
         try {
-            log.info("GET /api/games/discounted");
+            log.info("GET /api/games/discounted - page: {}, size: {}", page, size);
 
-            List<Game> games = gameUseCase.getDiscountedGames();
+            List<GameUseCase.DiscountedGame> games = gameUseCase.getDiscountedGames(page, size);
 
             log.info("Found {} discounted games", games.size());
             return Response.ok(games).build();
 
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for getDiscountedGames: {}", e.getMessage());
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(ErrorResponse.builder()
+                            .message("Parámetros inválidos")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
         } catch (Exception e) {
             log.error("Internal error in getDiscountedGames", e);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -508,6 +670,14 @@ public class GameController {
     }
 
     // Helper methods
+    private Response cursorResponse(GameUseCase.GamePage gamePage) {
+        Response.ResponseBuilder response = Response.ok(gamePage.games);
+        if (gamePage.nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, gamePage.nextCursor);
+        }
+        return response.build();
+    }
+
     private GameUseCase.SystemRequirementsDto mapToSystemRequirementsDto(SystemRequirementsRequest req) {
         if (req == null) return null;
         return GameUseCase.SystemRequirementsDto.builder()
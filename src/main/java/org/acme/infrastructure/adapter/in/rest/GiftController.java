@@ -1,5 +1,7 @@
 package org.acme.infrastructure.adapter.in.rest;
 
+import org.acme.application.exception.ServiceUnavailableException;
+import org.acme.application.exception.ValidationTimeoutException;
 import org.acme.application.port.in.GiftUseCase;
 import org.acme.domain.model.Gift;
 import lombok.*;
@@ -56,13 +58,26 @@ public class GiftController {
                     description = "El destinatario ya posee el juego",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             ),
+            @APIResponse(
+                    responseCode = "504",
+                    description = "Las validaciones previas no terminaron a tiempo",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @APIResponse(
+                    responseCode = "503",
+                    description = "El servicio de usuarios no está disponible",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @APIResponse(
                     responseCode = "500",
                     description = "Error interno del servidor",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    public Response sendGift(@Valid SendGiftRequest request) {
+    public Response sendGift(
+            @Valid SendGiftRequest request,
+            @Parameter(description = "Clave de idempotencia; un reintento con la misma clave no vuelve a cobrar")
+            @HeaderParam("Idempotency-Key") String idempotencyKey) {
         try {
             log.info("POST /api/gifts - Sending gift of game: {} from: {} to: {}",
                     request.gameId, request.senderId, request.recipientId);
@@ -74,6 +89,7 @@ public class GiftController {
                     .message(request.message)
                     .amount(request.amount)
                     .currency(request.currency)
+                    .idempotencyKey(idempotencyKey)
                     .build();
 
             Gift gift = giftUseCase.sendGift(command);
@@ -97,6 +113,14 @@ public class GiftController {
                             .details(e.getMessage())
                             .build())
                     .build();
+        } catch (ServiceUnavailableException e) {
+            log.warn("Service unavailable in sendGift: {}", e.getMessage());
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .entity(ErrorResponse.builder()
+                            .message("Servicio no disponible")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
         } catch (IllegalStateException e) {
             log.warn("Conflict in sendGift: {}", e.getMessage());
             return Response.status(Response.Status.CONFLICT)
@@ -105,6 +129,14 @@ public class GiftController {
                             .details(e.getMessage())
                             .build())
                     .build();
+        } catch (ValidationTimeoutException e) {
+            log.warn("Timeout in sendGift: {}", e.getMessage());
+            return Response.status(Response.Status.GATEWAY_TIMEOUT)
+                    .entity(ErrorResponse.builder()
+                            .message("Tiempo de espera agotado")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
         } catch (Exception e) {
             log.error("Internal error in sendGift", e);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -210,6 +242,11 @@ public class GiftController {
                     description = "Regalos pendientes obtenidos exitosamente",
                     content = @Content(schema = @Schema(implementation = Gift.class))
             ),
+            @APIResponse(
+                    responseCode = "503",
+                    description = "El servicio de usuarios no está disponible",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @APIResponse(
                     responseCode = "500",
                     description = "Error interno del servidor",
@@ -227,6 +264,14 @@ public class GiftController {
             log.info("Found {} pending gifts for user: {}", gifts.size(), recipientId);
             return Response.ok(gifts).build();
 
+        } catch (ServiceUnavailableException e) {
+            log.warn("Service unavailable in getPendingGifts: {}", e.getMessage());
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .entity(ErrorResponse.builder()
+                            .message("Servicio no disponible")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
         } catch (Exception e) {
             log.error("Internal error in getPendingGifts for user: " + recipientId, e);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -250,6 +295,11 @@ public class GiftController {
                     description = "Regalos enviados obtenidos exitosamente",
                     content = @Content(schema = @Schema(implementation = Gift.class))
             ),
+            @APIResponse(
+                    responseCode = "503",
+                    description = "El servicio de usuarios no está disponible",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @APIResponse(
                     responseCode = "500",
                     description = "Error interno del servidor",
@@ -267,6 +317,14 @@ public class GiftController {
             log.info("Found {} sent gifts for user: {}", gifts.size(), senderId);
             return Response.ok(gifts).build();
 
+        } catch (ServiceUnavailableException e) {
+            log.warn("Service unavailable in getSentGifts: {}", e.getMessage());
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .entity(ErrorResponse.builder()
+                            .message("Servicio no disponible")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
         } catch (Exception e) {
             log.error("Internal error in getSentGifts for user: " + senderId, e);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -106,6 +106,59 @@ public class OfferController {
         }
     }
 
+    @GET
+    @Path("/expiring")
+    @Operation(
+            summary = "Obtener ofertas por vencer",
+            description = "Obtiene las ofertas vigentes que terminan dentro de las próximas N horas"
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Ofertas por vencer obtenidas exitosamente",
+                    content = @Content(schema = @Schema(implementation = Offer.class))
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Número de horas inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public Response getExpiringOffers(
+            @Parameter(description = "Ventana en horas", example = "24")
+            @QueryParam("hours") @DefaultValue("24") @Min(1) int hours) {
+        try {
+            log.info("GET /api/offers/expiring - hours: {}", hours);
+
+            List<Offer> offers = offerUseCase.getExpiringOffers(hours);
+
+            log.info("Found {} offers expiring within {} hours", offers.size(), hours);
+            return Response.ok(offers).build();
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for getExpiringOffers: {}", e.getMessage());
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(ErrorResponse.builder()
+                            .message("Parámetros inválidos")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
+        } catch (Exception e) {
+            log.error("Internal error in getExpiringOffers", e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(ErrorResponse.builder()
+                            .message("Error interno del servidor")
+                            .details("Error al obtener ofertas por vencer")
+                            .build())
+                    .build();
+        }
+    }
+
     @GET
     @Path("/{id}")
     @Operation(
@@ -1,5 +1,7 @@
 package org.acme.infrastructure.adapter.in.rest;
 
+import org.acme.application.exception.ServiceUnavailableException;
+import org.acme.application.exception.ValidationTimeoutException;
 import org.acme.application.port.in.PreOrderUseCase;
 import org.acme.domain.model.PreOrder;
 import lombok.*;
@@ -51,13 +53,26 @@ public class PreOrderController {
                     description = "El juego no está disponible para pre-orden",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             ),
+            @APIResponse(
+                    responseCode = "504",
+                    description = "Las validaciones previas no terminaron a tiempo",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @APIResponse(
+                    responseCode = "503",
+                    description = "El servicio de usuarios no está disponible",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @APIResponse(
                     responseCode = "500",
                     description = "Error interno del servidor",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    public Response createPreOrder(@Valid CreatePreOrderRequest request) {
+    public Response createPreOrder(
+            @Valid CreatePreOrderRequest request,
+            @Parameter(description = "Clave de idempotencia; un reintento con la misma clave no vuelve a cobrar")
+            @HeaderParam("Idempotency-Key") String idempotencyKey) {
         try {
             log.info("POST /api/preorders - Creating pre-order for game: {} by user: {}",
                     request.gameId, request.userId);
@@ -68,6 +83,7 @@ public class PreOrderController {
                     .amount(request.amount)
                     .currency(request.currency)
                     .bonusContent(request.bonusContent)
+                    .idempotencyKey(idempotencyKey)
                     .build();
 
             PreOrder preOrder = preOrderUseCase.createPreOrder(command);
@@ -83,6 +99,14 @@ public class PreOrderController {
                             .details(e.getMessage())
                             .build())
                     .build();
+        } catch (ServiceUnavailableException e) {
+            log.warn("Service unavailable in createPreOrder: {}", e.getMessage());
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .entity(ErrorResponse.builder()
+                            .message("Servicio no disponible")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
         } catch (IllegalStateException e) {
             log.warn("Conflict in createPreOrder: {}", e.getMessage());
             return Response.status(Response.Status.CONFLICT)
@@ -91,6 +115,14 @@ public class PreOrderController {
                             .details(e.getMessage())
                             .build())
                     .build();
+        } catch (ValidationTimeoutException e) {
+            log.warn("Timeout in createPreOrder: {}", e.getMessage());
+            return Response.status(Response.Status.GATEWAY_TIMEOUT)
+                    .entity(ErrorResponse.builder()
+                            .message("Tiempo de espera agotado")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
         } catch (Exception e) {
             log.error("Internal error in createPreOrder", e);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -114,6 +146,11 @@ public class PreOrderController {
                     description = "Pre-órdenes obtenidas exitosamente",
                     content = @Content(schema = @Schema(implementation = PreOrder.class))
             ),
+            @APIResponse(
+                    responseCode = "503",
+                    description = "El servicio de usuarios no está disponible",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @APIResponse(
                     responseCode = "500",
                     description = "Error interno del servidor",
@@ -131,6 +168,14 @@ public class PreOrderController {
             log.info("Found {} pre-orders for user: {}", preOrders.size(), userId);
             return Response.ok(preOrders).build();
 
+        } catch (ServiceUnavailableException e) {
+            log.warn("Service unavailable in getUserPreOrders: {}", e.getMessage());
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .entity(ErrorResponse.builder()
+                            .message("Servicio no disponible")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
         } catch (Exception e) {
             log.error("Internal error in getUserPreOrders for user: " + userId, e);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,122 @@
+package org.acme.infrastructure.adapter.in.rest;
+
+import org.acme.application.port.in.PricingUseCase;
+import lombok.*;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import java.time.Instant;
+import java.util.List;
+
+@Path("/api/prices")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Prices", description = "Resolución de precios efectivos con ofertas y bundles")
+@Slf4j
+public class PriceController {
+
+    @Inject
+    PricingUseCase pricingUseCase;
+
+    @POST
+    @Path("/resolve")
+    @Operation(
+            summary = "Resolver precios efectivos",
+            description = "Calcula en una sola llamada el mejor precio de un lote de juegos, " +
+                    "combinando ofertas vigentes y bundles completos incluidos en el lote"
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Precios resueltos exitosamente",
+                    content = @Content(schema = @Schema(implementation = PricingUseCase.PriceResolution.class))
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public Response resolvePrices(@Valid ResolvePricesRequest request) {
+        try {
+            log.info("POST /api/prices/resolve - games: {}, currency: {}", request.gameIds.size(), request.currency);
+
+            PricingUseCase.ResolvePricesCommand command = PricingUseCase.ResolvePricesCommand.builder()
+                    .gameIds(request.gameIds)
+                    .currency(request.currency)
+                    .build();
+
+            PricingUseCase.PriceResolution resolution = pricingUseCase.resolvePrices(command);
+
+            log.info("Resolved {} prices, {} unavailable", resolution.prices.size(), resolution.unavailableGameIds.size());
+            return Response.ok(resolution).build();
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for resolvePrices: {}", e.getMessage());
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(ErrorResponse.builder()
+                            .message("Error de validación")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
+        } catch (Exception e) {
+            log.error("Internal error in resolvePrices", e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(ErrorResponse.builder()
+                            .message("Error interno del servidor")
+                            .details("Error al resolver precios")
+                            .build())
+                    .build();
+        }
+    }
+
+    // Request DTOs
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Lote de juegos a cotizar")
+    public static class ResolvePricesRequest {
+        @NotNull(message = "La lista de juegos es obligatoria")
+        @Size(min = 1, max = 100, message = "Debe incluir entre 1 y 100 juegos")
+        @Schema(description = "IDs de los juegos a cotizar", example = "[\"game1\", \"game2\"]", required = true)
+        public List<String> gameIds;
+
+        @NotBlank(message = "La moneda es obligatoria")
+        @Size(min = 3, max = 3, message = "La moneda debe ser un código ISO de 3 letras")
+        @Schema(description = "Moneda de los precios", example = "USD", required = true)
+        public String currency;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Respuesta de error estándar")
+    public static class ErrorResponse {
+        @Schema(description = "Mensaje de error", example = "Error de validación")
+        public String message;
+
+        @Schema(description = "Detalles adicionales del error", example = "Debe incluir al menos un juego")
+        public String details;
+
+        @Schema(description = "Timestamp del error", example = "2025-06-06T10:30:00Z")
+        @Builder.Default
+        public String timestamp = Instant.now().toString();
+    }
+}
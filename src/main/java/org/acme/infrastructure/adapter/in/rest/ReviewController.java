@@ -2,6 +2,7 @@ package org.acme.infrastructure.adapter.in.rest;
 
 import org.acme.application.port.in.ReviewUseCase;
 import org.acme.domain.model.Review;
+import org.acme.domain.model.valueobjects.ReviewSummary;
 import lombok.*;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -301,7 +302,7 @@ public class ReviewController {
     @Path("/game/{gameId}/helpful")
     @Operation(
             summary = "Obtener reseñas más útiles",
-            description = "Obtiene las reseñas más útiles de un juego específico"
+            description = "Obtiene las reseñas más útiles de un juego específico, ordenadas por el límite inferior del intervalo de Wilson de sus votos"
     )
     @APIResponses({
             @APIResponse(
@@ -353,6 +354,56 @@ public class ReviewController {
         }
     }
 
+    @GET
+    @Path("/game/{gameId}/summary")
+    @Operation(
+            summary = "Obtener resumen de reseñas",
+            description = "Obtiene el total de reseñas positivas y negativas y los votos de utilidad de un juego"
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Resumen obtenido exitosamente",
+                    content = @Content(schema = @Schema(implementation = ReviewSummary.class))
+            ),
+            @APIResponse(
+                    responseCode = "404",
+                    description = "Juego no encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public Response getReviewSummary(
+            @Parameter(description = "ID del juego", required = true)
+            @PathParam("gameId") String gameId) {
+        try {
+            log.debug("GET /api/reviews/game/{}/summary", gameId);
+
+            return Response.ok(reviewUseCase.getReviewSummary(gameId)).build();
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Game not found: {}", gameId);
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(ErrorResponse.builder()
+                            .message("Juego no encontrado")
+                            .details(e.getMessage())
+                            .build())
+                    .build();
+        } catch (Exception e) {
+            log.error("Internal error in getReviewSummary for gameId: " + gameId, e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(ErrorResponse.builder()
+                            .message("Error interno del servidor")
+                            .details("Error al obtener el resumen de reseñas")
+                            .build())
+                    .build();
+        }
+    }
+
     @DELETE
     @Path("/{reviewId}/user/{userId}")
     @Operation(
@@ -0,0 +1,174 @@
+package org.acme.infrastructure.adapter.out.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import org.acme.application.port.out.AnalyticsServicePort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Pre-aggregated counts for one flush window: views, purchases and offer clicks per game and
+// minute, search frequencies per normalized query. Only touched by the drainer, not thread-safe.
+public class AnalyticsAggregate {
+
+    private final Map<MinuteKey, Long> views = new HashMap<>();
+    private final Map<PurchaseKey, PurchaseTotal> purchases = new HashMap<>();
+    private final Map<MinuteKey, Long> offerClicks = new HashMap<>();
+    private final Map<String, QueryCount> searches = new HashMap<>();
+    private long events;
+
+    void add(Object event) {
+        if (event instanceof AnalyticsServicePort.GameViewEvent view) {
+            views.merge(new MinuteKey(view.gameId, minute(view.timestamp)), 1L, Long::sum);
+        } else if (event instanceof AnalyticsServicePort.SearchQueryEvent search) {
+            String query = normalizeQuery(search.query);
+            if (query.isEmpty()) {
+                return;
+            }
+            boolean empty = search.resultsCount != null && search.resultsCount == 0;
+            searches.merge(query, new QueryCount(query, 1, empty ? 1 : 0), QueryCount::plus);
+        } else if (event instanceof AnalyticsServicePort.GamePurchaseEvent purchase) {
+            PurchaseKey key = new PurchaseKey(purchase.gameId, purchase.currency, minute(purchase.timestamp));
+            BigDecimal price = purchase.price != null ? purchase.price : BigDecimal.ZERO;
+            purchases.merge(key, new PurchaseTotal(key.getGameId(), key.getMinute(), key.getCurrency(), 1, price),
+                    PurchaseTotal::plus);
+        } else if (event instanceof AnalyticsServicePort.OfferClickEvent click) {
+            offerClicks.merge(new MinuteKey(click.offerId, minute(click.timestamp)), 1L, Long::sum);
+        } else {
+            return;
+        }
+        events++;
+    }
+
+    void merge(AnalyticsAggregate other) {
+        other.views.forEach((key, count) -> views.merge(key, count, Long::sum));
+        other.purchases.forEach((key, total) -> purchases.merge(key, total, PurchaseTotal::plus));
+        other.offerClicks.forEach((key, count) -> offerClicks.merge(key, count, Long::sum));
+        other.searches.forEach((query, count) -> searches.merge(query, count, QueryCount::plus));
+        events += other.events;
+    }
+
+    boolean isEmpty() {
+        return events == 0;
+    }
+
+    long events() {
+        return events;
+    }
+
+    int keys() {
+        return views.size() + purchases.size() + offerClicks.size() + searches.size();
+    }
+
+    long views(String gameId, LocalDateTime at) {
+        return views.getOrDefault(new MinuteKey(gameId, minute(at)), 0L);
+    }
+
+    AnalyticsBatch toBatch(LocalDateTime windowStart, LocalDateTime windowEnd) {
+        List<GameViewCount> viewCounts = new ArrayList<>(views.size());
+        views.forEach((key, count) -> viewCounts.add(new GameViewCount(key.getId(), key.getMinute(), count)));
+        List<OfferClickCount> clickCounts = new ArrayList<>(offerClicks.size());
+        offerClicks.forEach((key, count) -> clickCounts.add(new OfferClickCount(key.getId(), key.getMinute(), count)));
+
+        return AnalyticsBatch.builder()
+                .windowStart(windowStart)
+                .windowEnd(windowEnd)
+                .events(events)
+                .gameViews(viewCounts)
+                .purchases(new ArrayList<>(purchases.values()))
+                .offerClicks(clickCounts)
+                .searchQueries(new ArrayList<>(searches.values()))
+                .build();
+    }
+
+    static String normalizeQuery(String query) {
+        return query == null ? "" : query.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private static LocalDateTime minute(LocalDateTime timestamp) {
+        return (timestamp != null ? timestamp : LocalDateTime.now()).truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    @Value
+    private static class MinuteKey {
+        String id;
+        LocalDateTime minute;
+    }
+
+    // Revenue is only summed within one currency
+    @Value
+    private static class PurchaseKey {
+        String gameId;
+        String currency;
+        LocalDateTime minute;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AnalyticsBatch {
+        public LocalDateTime windowStart;
+        public LocalDateTime windowEnd;
+        public long events;
+        public List<GameViewCount> gameViews;
+        public List<PurchaseTotal> purchases;
+        public List<OfferClickCount> offerClicks;
+        public List<QueryCount> searchQueries;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GameViewCount {
+        public String gameId;
+        public LocalDateTime minute;
+        public long views;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OfferClickCount {
+        public String offerId;
+        public LocalDateTime minute;
+        public long clicks;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PurchaseTotal {
+        public String gameId;
+        public LocalDateTime minute;
+        public String currency;
+        public long purchases;
+        public BigDecimal revenue;
+
+        PurchaseTotal plus(PurchaseTotal other) {
+            return new PurchaseTotal(gameId, minute, currency, purchases + other.purchases, revenue.add(other.revenue));
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QueryCount {
+        public String query;
+        public long count;
+        public long zeroResults;
+
+        QueryCount plus(QueryCount other) {
+            return new QueryCount(query, count + other.count, zeroResults + other.zeroResults);
+        }
+    }
+}
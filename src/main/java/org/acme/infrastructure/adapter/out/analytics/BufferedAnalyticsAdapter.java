@@ -0,0 +1,242 @@
+package org.acme.infrastructure.adapter.out.analytics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.AnalyticsServicePort;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuard;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuards;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallRejectedException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Tracking calls only publish into a lock-free ring and return; when the ring is full the event
+// is dropped and counted. A background drainer folds events into per-minute aggregates and
+// sends one compact batch per flush interval to the analytics service.
+@ApplicationScoped
+@Slf4j
+public class BufferedAnalyticsAdapter implements AnalyticsServicePort {
+
+    @ConfigProperty(name = "catalog.analytics.buffer-capacity", defaultValue = "65536")
+    int bufferCapacity;
+
+    @ConfigProperty(name = "catalog.analytics.max-pending-keys", defaultValue = "50000")
+    int maxPendingKeys;
+
+    @Inject
+    @RestClient
+    AnalyticsServiceClient analyticsServiceClient;
+
+    @Inject
+    RemoteCallGuards remoteCallGuards;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private EventRingBuffer<Object> buffer;
+    private AnalyticsAggregate current = new AnalyticsAggregate();
+    private LocalDateTime windowStart = LocalDateTime.now();
+    private Counter droppedViews;
+    private Counter droppedPurchases;
+    private Counter droppedSearches;
+    private Counter droppedOfferClicks;
+    private Counter drainedCounter;
+    private Counter flushedCounter;
+    private Counter lostCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        buffer = new EventRingBuffer<>(bufferCapacity);
+
+        Gauge.builder("analytics.buffer.size", buffer, EventRingBuffer::size)
+                .description("Tracked events waiting for the drainer")
+                .register(meterRegistry);
+        droppedViews = droppedCounter("view");
+        droppedPurchases = droppedCounter("purchase");
+        droppedSearches = droppedCounter("search");
+        droppedOfferClicks = droppedCounter("offer_click");
+        drainedCounter = meterRegistry.counter("analytics.events.drained");
+        flushedCounter = meterRegistry.counter("analytics.events.flushed");
+        lostCounter = meterRegistry.counter("analytics.events.lost");
+        flushTimer = meterRegistry.timer("analytics.flush");
+
+        log.info("Analytics buffer initialized - capacity: {}", buffer.capacity());
+    }
+
+    @Override
+    public void trackGameView(GameViewEvent event) {
+        if (!buffer.offer(event)) {
+            droppedViews.increment();
+        }
+    }
+
+    @Override
+    public void trackGamePurchase(GamePurchaseEvent event) {
+        if (!buffer.offer(event)) {
+            droppedPurchases.increment();
+        }
+    }
+
+    @Override
+    public void trackSearchQuery(SearchQueryEvent event) {
+        if (!buffer.offer(event)) {
+            droppedSearches.increment();
+        }
+    }
+
+    @Override
+    public void trackOfferClick(OfferClickEvent event) {
+        if (!buffer.offer(event)) {
+            droppedOfferClicks.increment();
+        }
+    }
+
+    @Override
+    public AnalyticsReport getGameAnalytics(String gameId, String period) {
+        try {
+            log.debug("Fetching analytics for game {} - period: {}", gameId, period);
+            return guard().call(() -> analyticsServiceClient.getGameAnalytics(gameId, period));
+        } catch (RemoteCallRejectedException e) {
+            log.warn("Cannot fetch analytics for game {}: {}", gameId, e.getMessage());
+            throw new IllegalStateException("Servicio de analíticas no disponible, inténtalo más tarde");
+        }
+    }
+
+    @Scheduled(every = "${catalog.analytics.drain-interval:200ms}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledDrain() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.error("Error draining analytics buffer", e);
+        }
+    }
+
+    @Scheduled(every = "${catalog.analytics.flush-interval:5s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Error flushing analytics aggregates", e);
+        }
+    }
+
+    void onShutdown(@Observes ShutdownEvent event) {
+        scheduledFlush();
+    }
+
+    // Returns how many events were moved from the ring into the current aggregate
+    public int drain() {
+        drainLock.lock();
+        try {
+            return drainBuffer();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    // Returns how many events the sent batch summarized. A failed batch is folded back into the
+    // next window unless that would grow the pending aggregate past max-pending-keys.
+    public long flush() {
+        AnalyticsAggregate batch;
+        LocalDateTime from;
+        LocalDateTime to = LocalDateTime.now();
+
+        drainLock.lock();
+        try {
+            drainBuffer();
+            if (current.isEmpty()) {
+                return 0;
+            }
+            batch = current;
+            from = windowStart;
+            current = new AnalyticsAggregate();
+            windowStart = to;
+        } finally {
+            drainLock.unlock();
+        }
+
+        try {
+            flushTimer.record(() -> guard().run(() -> analyticsServiceClient.sendBatch(batch.toBatch(from, to))));
+            flushedCounter.increment(batch.events());
+            log.debug("Sent analytics batch with {} events in {} keys", batch.events(), batch.keys());
+            return batch.events();
+        } catch (Exception e) {
+            log.warn("Error sending analytics batch with {} events: {}", batch.events(), e.getMessage());
+            retain(batch, from);
+            return 0;
+        }
+    }
+
+    AnalyticsAggregate currentAggregate() {
+        return current;
+    }
+
+    private int drainBuffer() {
+        int drained = buffer.drain(current::add, buffer.capacity());
+        drainedCounter.increment(drained);
+        return drained;
+    }
+
+    private void retain(AnalyticsAggregate batch, LocalDateTime from) {
+        drainLock.lock();
+        try {
+            if (batch.keys() + current.keys() > maxPendingKeys) {
+                log.error("Discarding analytics batch with {} events, pending aggregate is full", batch.events());
+                lostCounter.increment(batch.events());
+                return;
+            }
+            batch.merge(current);
+            current = batch;
+            windowStart = from;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private Counter droppedCounter(String type) {
+        return Counter.builder("analytics.events.dropped")
+                .description("Tracked events discarded because the buffer was full")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private RemoteCallGuard guard() {
+        return remoteCallGuards.forDependency("analytics-service");
+    }
+
+    @RegisterRestClient(configKey = "analytics-service")
+    public interface AnalyticsServiceClient {
+
+        @POST
+        @Path("/analytics/batches")
+        @Consumes(MediaType.APPLICATION_JSON)
+        void sendBatch(AnalyticsAggregate.AnalyticsBatch batch);
+
+        @GET
+        @Path("/analytics/games/{gameId}")
+        @Produces(MediaType.APPLICATION_JSON)
+        AnalyticsReport getGameAnalytics(@PathParam("gameId") String gameId, @QueryParam("period") String period);
+    }
+}
@@ -0,0 +1,65 @@
+package org.acme.infrastructure.adapter.out.analytics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+// Bounded multi-producer, single-consumer ring. Producers claim a slot with one CAS and never
+// wait: when the ring is full, offer returns false and the caller decides what to drop.
+final class EventRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // next slot to claim, shared by producers
+    private final AtomicLong head = new AtomicLong(); // next slot to read, written by the consumer only
+
+    EventRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacidad del buffer fuera de rango: " + requestedCapacity);
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+
+    boolean offer(E event) {
+        while (true) {
+            long claim = tail.get();
+            if (claim - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(claim, claim + 1)) {
+                slots.lazySet((int) claim & mask, event);
+                return true;
+            }
+        }
+    }
+
+    // Must only be called from one thread at a time. Stops early at a slot that has been claimed
+    // but not yet written; that event is picked up by the next drain.
+    int drain(Consumer<E> consumer, int max) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) position & mask;
+            E event = slots.get(index);
+            if (event == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            position++;
+            head.lazySet(position);
+            consumer.accept(event);
+            drained++;
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
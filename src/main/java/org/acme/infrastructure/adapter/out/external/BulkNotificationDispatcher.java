@@ -0,0 +1,145 @@
+package org.acme.infrastructure.adapter.out.external;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+// Pipelines notification chunks to the notification service with at most max-concurrency requests
+// in flight, so a fan-out to 100k recipients is a few hundred POSTs instead of 100k sequential ones
+@ApplicationScoped
+@Slf4j
+public class BulkNotificationDispatcher {
+
+    public static final String TYPE_RELEASE = "release";
+    public static final String TYPE_OFFER = "offer";
+
+    private static final String METRIC_PREFIX = "notifications.bulk";
+
+    // Unpooled for the reason given in ConcurrentChecks; max-concurrency permits bound it
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    @ConfigProperty(name = "catalog.notifications.bulk.chunk-size", defaultValue = "500")
+    int chunkSize;
+
+    @ConfigProperty(name = "catalog.notifications.bulk.max-concurrency", defaultValue = "8")
+    int maxConcurrency;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    public <T> List<List<T>> chunk(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>((items.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(List.copyOf(items.subList(from, Math.min(items.size(), from + chunkSize))));
+        }
+        return chunks;
+    }
+
+    public DispatchReport<List<String>> dispatch(String type, List<List<String>> chunks, Consumer<List<String>> sender) {
+        return dispatch(type, chunks, List::size, sender);
+    }
+
+    public <T> DispatchReport<T> dispatch(String type, List<T> chunks, ToIntFunction<T> recipients, Consumer<T> sender) {
+        return dispatch(METRIC_PREFIX, type, chunks, recipients, sender);
+    }
+
+    // Failed chunks are reported back instead of thrown, so one bad chunk doesn't stop the rest.
+    // Callers with their own delivery pipeline (the outbox) record under their own metric prefix.
+    public <T> DispatchReport<T> dispatch(String metricPrefix, String type, List<T> chunks,
+                                          ToIntFunction<T> recipients, Consumer<T> sender) {
+        long start = System.nanoTime();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<?>> futures = new ArrayList<>(chunks.size());
+        List<Failure<T>> failures = new ArrayList<>();
+
+        try {
+            for (T chunk : chunks) {
+                permits.acquire();
+                futures.add(EXECUTOR.submit(() -> {
+                    try {
+                        sender.accept(chunk);
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    log.warn("Error sending {} notification chunk {}/{}: {}", type, i + 1, chunks.size(), cause.getMessage());
+                    failures.add(new Failure<>(chunks.get(i), cause));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Envío de notificaciones interrumpido", e);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long total = 0;
+        long failed = 0;
+        for (T chunk : chunks) {
+            total += recipients.applyAsInt(chunk);
+        }
+        for (Failure<T> failure : failures) {
+            failed += recipients.applyAsInt(failure.getChunk());
+        }
+        DispatchReport<T> report = new DispatchReport<>(chunks.size(), total - failed, failed, elapsedNanos, failures);
+        record(metricPrefix, type, report);
+        return report;
+    }
+
+    private void record(String metricPrefix, String type, DispatchReport<?> report) {
+        meterRegistry.counter(metricPrefix + ".recipients", "type", type, "outcome", "sent").increment(report.getSent());
+        meterRegistry.counter(metricPrefix + ".recipients", "type", type, "outcome", "failed").increment(report.getFailed());
+        Timer.builder(metricPrefix + ".dispatch")
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(report.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (report.getChunks() > 0) {
+            log.info("Sent {} {} notifications in {} chunks ({} failed) in {} ms, {} recipients/s",
+                    report.getSent(), type, report.getChunks(), report.getFailed(),
+                    report.getElapsedNanos() / 1_000_000, Math.round(report.recipientsPerSecond()));
+        }
+    }
+
+    @Value
+    public static class DispatchReport<T> {
+        int chunks;
+        long sent;
+        long failed;
+        long elapsedNanos;
+        List<Failure<T>> failures;
+
+        public double recipientsPerSecond() {
+            return elapsedNanos == 0 ? 0 : sent * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+
+    @Value
+    public static class Failure<T> {
+        T chunk;
+        Throwable error;
+    }
+}
@@ -0,0 +1,437 @@
+package org.acme.infrastructure.adapter.out.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.InventoryServicePort;
+import org.acme.infrastructure.adapter.out.external.cache.OwnedGamesCache;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuard;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuards;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallRejectedException;
+import org.acme.infrastructure.adapter.out.persistence.entity.InventoryGrantOutboxEntity;
+import org.acme.infrastructure.adapter.out.persistence.repository.InventoryGrantOutboxRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.acme.infrastructure.adapter.out.persistence.entity.InventoryGrantOutboxEntity.STATUS_IN_FLIGHT;
+import static org.acme.infrastructure.adapter.out.persistence.entity.InventoryGrantOutboxEntity.STATUS_PARKED;
+import static org.acme.infrastructure.adapter.out.persistence.entity.InventoryGrantOutboxEntity.STATUS_PENDING;
+
+// Ownership reads are answered from a per-user library cache. Single grants are written behind:
+// they are stored in the inventory_grant_outbox table with the caller's transaction and sent to
+// the inventory service in batches, and until then they count as owned for reads through this
+// adapter. Grants the service keeps refusing are parked in the table and requeued periodically.
+@ApplicationScoped
+@Slf4j
+public class InventoryServiceAdapter implements InventoryServicePort {
+
+    private static final ExecutorService FLUSHER = Executors.newVirtualThreadPerTaskExecutor();
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @ConfigProperty(name = "catalog.inventory.write-behind.batch-size", defaultValue = "200")
+    int batchSize;
+
+    @ConfigProperty(name = "catalog.inventory.write-behind.max-attempts", defaultValue = "5")
+    int maxAttempts;
+
+    @ConfigProperty(name = "catalog.inventory.write-behind.claim-lease", defaultValue = "5m")
+    Duration claimLease;
+
+    @Inject
+    @RestClient
+    InventoryServiceClient inventoryServiceClient;
+
+    @Inject
+    OwnedGamesCache ownedGamesCache;
+
+    @Inject
+    RemoteCallGuards remoteCallGuards;
+
+    @Inject
+    InventoryGrantOutboxRepository grantRepository;
+
+    @Inject
+    Event<GrantAccepted> grantAccepted;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Accepted grants not yet confirmed by the inventory service, by user
+    private final Map<String, Set<String>> unflushed = new ConcurrentHashMap<>();
+    private final AtomicInteger acceptedSinceFlush = new AtomicInteger();
+    private final AtomicLong depth = new AtomicLong();
+    private RemoteCallGuard guard;
+    private Counter flushedCounter;
+    private Counter retriedCounter;
+    private Counter parkedCounter;
+    private Counter requeuedCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        guard = remoteCallGuards.forDependency("inventory-service");
+
+        Gauge.builder("inventory.write_behind.pending", depth, AtomicLong::get)
+                .description("Unsent library grants in the outbox, as of the last flush")
+                .register(meterRegistry);
+        flushedCounter = Counter.builder("inventory.write_behind.flushed").register(meterRegistry);
+        retriedCounter = Counter.builder("inventory.write_behind.retried").register(meterRegistry);
+        parkedCounter = Counter.builder("inventory.write_behind.parked").register(meterRegistry);
+        requeuedCounter = Counter.builder("inventory.write_behind.requeued").register(meterRegistry);
+        flushTimer = Timer.builder("inventory.write_behind.flush").register(meterRegistry);
+    }
+
+    // Grants stored by an earlier run still count as owned until they are sent
+    void onStart(@Observes StartupEvent event) {
+        List<InventoryGrantOutboxEntity> stored = QuarkusTransaction.requiringNew().call(() -> grantRepository.findUnsent());
+        stored.forEach(grant -> remember(grant.getUserId(), grant.getGameId()));
+        depth.set(stored.size());
+        if (!stored.isEmpty()) {
+            log.info("Found {} unsent library grants from a previous run", stored.size());
+        }
+    }
+
+    @Override
+    public void addGameToLibrary(AddGameRequest request) {
+        log.debug("Queueing game {} for library of user {}", request.gameId, request.userId);
+        // Stored in the caller's transaction, so the grant exists exactly when the purchase does
+        QuarkusTransaction.joiningExisting().run(() -> grantRepository.persist(toEntity(request)));
+        // Delivered right away outside a transaction, after commit inside one
+        grantAccepted.fire(new GrantAccepted(request));
+    }
+
+    void onGrantAccepted(@Observes(during = TransactionPhase.AFTER_SUCCESS) GrantAccepted event) {
+        AddGameRequest request = event.getRequest();
+        remember(request.userId, request.gameId);
+        depth.incrementAndGet();
+
+        if (acceptedSinceFlush.incrementAndGet() >= batchSize && !flushLock.isLocked()) {
+            FLUSHER.execute(this::scheduledFlush);
+        }
+    }
+
+    @Override
+    public void addGamesToLibrary(List<AddGameRequest> requests) {
+        // Bulk grants are written through, so callers know they landed before moving on
+        for (int from = 0; from < requests.size(); from += batchSize) {
+            List<AddGameRequest> chunk = requests.subList(from, Math.min(requests.size(), from + batchSize));
+            try {
+                guard.run(() -> inventoryServiceClient.addGamesToLibrary(chunk));
+            } catch (RemoteCallRejectedException e) {
+                log.warn("Cannot add {} games to libraries: {}", chunk.size(), e.getMessage());
+                throw new IllegalStateException("Servicio de inventario no disponible, inténtalo más tarde");
+            }
+            chunk.forEach(request -> ownedGamesCache.added(request.userId, request.gameId));
+        }
+        log.debug("Added {} games to libraries", requests.size());
+    }
+
+    @Override
+    public boolean userOwnsGame(String userId, String gameId) {
+        if (isUnflushed(userId, gameId)) {
+            return true;
+        }
+        try {
+            log.debug("Checking if user {} owns game {}", userId, gameId);
+            return library(userId).contains(gameId);
+        } catch (RemoteCallRejectedException e) {
+            // Ownership gates gifts, so an unknown answer is an error rather than "not owned"
+            log.warn("Cannot check ownership of game {} for user {}: {}", gameId, userId, e.getMessage());
+            throw new IllegalStateException("Servicio de inventario no disponible, inténtalo más tarde");
+        } catch (Exception e) {
+            log.error("Error checking ownership of game {} for user {}", gameId, userId, e);
+            throw new IllegalStateException("No se pudo comprobar la biblioteca del usuario: " + userId);
+        }
+    }
+
+    @Override
+    public Set<String> ownsGames(String userId, Set<String> gameIds) {
+        if (gameIds.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            log.debug("Checking ownership of {} games for user {}", gameIds.size(), userId);
+            Set<String> library = library(userId);
+            Set<String> owned = new HashSet<>();
+            for (String gameId : gameIds) {
+                if (library.contains(gameId) || isUnflushed(userId, gameId)) {
+                    owned.add(gameId);
+                }
+            }
+            return owned;
+        } catch (RemoteCallRejectedException e) {
+            // Display-only: without the library the page simply shows nothing as owned
+            log.warn("Cannot check ownership for user {}: {}", userId, e.getMessage());
+            return Set.of();
+        } catch (Exception e) {
+            log.error("Error checking ownership for user {}", userId, e);
+            return Set.of();
+        }
+    }
+
+    @Override
+    public List<String> getUserGames(String userId) {
+        try {
+            log.debug("Fetching library for user {}", userId);
+            Set<String> games = new HashSet<>(library(userId));
+            games.addAll(unflushed.getOrDefault(userId, Set.of()));
+            return List.copyOf(games);
+        } catch (RemoteCallRejectedException e) {
+            log.warn("Cannot fetch library for user {}: {}", userId, e.getMessage());
+            throw new IllegalStateException("Servicio de inventario no disponible, inténtalo más tarde");
+        }
+    }
+
+    @Override
+    public void removeGameFromLibrary(String userId, String gameId) {
+        // A queued grant of the same game must land first, or it would undo the removal
+        if (isUnflushed(userId, gameId)) {
+            flush();
+        }
+        try {
+            log.info("Removing game {} from library of user {}", gameId, userId);
+            guard.run(() -> inventoryServiceClient.removeGameFromLibrary(userId, gameId));
+            ownedGamesCache.removed(userId, gameId);
+        } catch (RemoteCallRejectedException e) {
+            log.warn("Cannot remove game {} from library of user {}: {}", gameId, userId, e.getMessage());
+            throw new IllegalStateException("Servicio de inventario no disponible, inténtalo más tarde");
+        }
+    }
+
+    @Scheduled(every = "${catalog.inventory.write-behind.flush-interval:500ms}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Error flushing stored library grants", e);
+        }
+    }
+
+    @Scheduled(every = "${catalog.inventory.write-behind.parked-retry-interval:1h}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledRequeue() {
+        try {
+            requeueParked();
+        } catch (Exception e) {
+            log.error("Error requeueing parked library grants", e);
+        }
+    }
+
+    void onShutdown(@Observes ShutdownEvent event) {
+        log.info("Flushing {} stored library grants before shutdown", depth.get());
+        scheduledFlush();
+    }
+
+    // Sends what is stored right now; grants put back by a failed batch wait for the next run
+    public int flush() {
+        flushLock.lock();
+        try {
+            acceptedSinceFlush.set(0);
+            int flushed = 0;
+            long cursor = 0;
+            List<InventoryGrantOutboxEntity> batch;
+            while (!(batch = claimBatch(cursor)).isEmpty()) {
+                cursor = batch.get(batch.size() - 1).getId();
+                flushed += send(batch);
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+            depth.set(QuarkusTransaction.requiringNew().call(() -> grantRepository.countUnsent()));
+            return flushed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Gives parked grants a fresh set of attempts; returns how many were requeued
+    public int requeueParked() {
+        List<InventoryGrantOutboxEntity> requeued = QuarkusTransaction.requiringNew().call(() -> {
+            List<InventoryGrantOutboxEntity> parked = grantRepository.findParked();
+            for (InventoryGrantOutboxEntity grant : parked) {
+                grant.setStatus(STATUS_PENDING);
+                grant.setAttempts(0);
+                grant.setParkedAt(null);
+            }
+            return parked;
+        });
+        requeued.forEach(grant -> remember(grant.getUserId(), grant.getGameId()));
+        depth.addAndGet(requeued.size());
+        requeuedCounter.increment(requeued.size());
+        if (!requeued.isEmpty()) {
+            log.info("Requeued {} parked library grants", requeued.size());
+        }
+        return requeued.size();
+    }
+
+    public long pending() {
+        return QuarkusTransaction.requiringNew().call(() -> grantRepository.countUnsent());
+    }
+
+    public long parked() {
+        return QuarkusTransaction.requiringNew().call(() -> grantRepository.count("status", STATUS_PARKED));
+    }
+
+    private List<InventoryGrantOutboxEntity> claimBatch(long afterId) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<InventoryGrantOutboxEntity> due = grantRepository.findDue(afterId, now.minus(claimLease), batchSize);
+            for (InventoryGrantOutboxEntity grant : due) {
+                grant.setStatus(STATUS_IN_FLIGHT);
+                grant.setClaimedAt(now);
+            }
+            return due;
+        });
+    }
+
+    private int send(List<InventoryGrantOutboxEntity> batch) {
+        List<AddGameRequest> requests = batch.stream().map(InventoryServiceAdapter::toRequest).toList();
+
+        try {
+            flushTimer.record(() -> guard.run(() -> inventoryServiceClient.addGamesToLibrary(requests)));
+        } catch (Exception e) {
+            boolean rejected = e instanceof WebApplicationException wae && wae.getResponse().getStatus() < 500;
+            log.warn("Error adding {} stored games to libraries: {}", batch.size(), e.getMessage());
+            retryOrPark(batch, rejected, e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+            return 0;
+        }
+
+        List<Long> ids = batch.stream().map(InventoryGrantOutboxEntity::getId).toList();
+        QuarkusTransaction.requiringNew().run(() -> grantRepository.deleteByIds(ids));
+        for (AddGameRequest request : requests) {
+            ownedGamesCache.added(request.userId, request.gameId);
+            forget(request.userId, request.gameId);
+        }
+        flushedCounter.increment(requests.size());
+        return requests.size();
+    }
+
+    // A refused batch is parked at once; a failed one goes back to pending until it runs out of attempts
+    private void retryOrPark(List<InventoryGrantOutboxEntity> batch, boolean rejected, String error) {
+        String lastError = error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        QuarkusTransaction.requiringNew().run(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (InventoryGrantOutboxEntity claimed : batch) {
+                InventoryGrantOutboxEntity grant = grantRepository.findById(claimed.getId());
+                if (grant == null) {
+                    continue;
+                }
+                grant.setAttempts(grant.getAttempts() + 1);
+                grant.setClaimedAt(null);
+                grant.setLastError(lastError);
+                if (!rejected && grant.getAttempts() < maxAttempts) {
+                    grant.setStatus(STATUS_PENDING);
+                    retriedCounter.increment();
+                    continue;
+                }
+                log.error("Parking library grant of game {} for user {} (transaction {}) after {} attempts",
+                        grant.getGameId(), grant.getUserId(), grant.getTransactionId(), grant.getAttempts());
+                grant.setStatus(STATUS_PARKED);
+                grant.setParkedAt(now);
+                forget(grant.getUserId(), grant.getGameId());
+                parkedCounter.increment();
+            }
+        });
+    }
+
+    private Set<String> library(String userId) {
+        return ownedGamesCache.getLibrary(userId, () -> guard.call(() -> inventoryServiceClient.getUserGames(userId)));
+    }
+
+    private void remember(String userId, String gameId) {
+        unflushed.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(gameId);
+    }
+
+    private boolean isUnflushed(String userId, String gameId) {
+        Set<String> games = unflushed.get(userId);
+        return games != null && games.contains(gameId);
+    }
+
+    private void forget(String userId, String gameId) {
+        unflushed.computeIfPresent(userId, (key, games) -> {
+            games.remove(gameId);
+            return games.isEmpty() ? null : games;
+        });
+    }
+
+    private static InventoryGrantOutboxEntity toEntity(AddGameRequest request) {
+        return InventoryGrantOutboxEntity.builder()
+                .userId(request.userId)
+                .gameId(request.gameId)
+                .gameName(request.gameName)
+                .acquisitionType(request.acquisitionType)
+                .transactionId(request.transactionId)
+                .acquiredAt(request.acquiredAt)
+                .build();
+    }
+
+    private static AddGameRequest toRequest(InventoryGrantOutboxEntity grant) {
+        return AddGameRequest.builder()
+                .userId(grant.getUserId())
+                .gameId(grant.getGameId())
+                .gameName(grant.getGameName())
+                .acquisitionType(grant.getAcquisitionType())
+                .transactionId(grant.getTransactionId())
+                .acquiredAt(grant.getAcquiredAt())
+                .build();
+    }
+
+    @Value
+    public static class GrantAccepted {
+        AddGameRequest request;
+    }
+
+    @RegisterRestClient(configKey = "inventory-service")
+    public interface InventoryServiceClient {
+
+        @POST
+        @Path("/inventory/library/batch")
+        @Consumes(MediaType.APPLICATION_JSON)
+        void addGamesToLibrary(List<AddGameRequest> requests);
+
+        @GET
+        @Path("/inventory/users/{userId}/games")
+        @Produces(MediaType.APPLICATION_JSON)
+        List<String> getUserGames(@PathParam("userId") String userId);
+
+        @DELETE
+        @Path("/inventory/users/{userId}/games/{gameId}")
+        void removeGameFromLibrary(@PathParam("userId") String userId, @PathParam("gameId") String gameId);
+    }
+}
@@ -1,5 +1,6 @@
 package org.acme.infrastructure.adapter.out.external;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
@@ -8,6 +9,8 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.MediaType;
 import lombok.extern.slf4j.Slf4j;
 import org.acme.application.port.out.NotificationServicePort;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuard;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuards;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
@@ -21,21 +24,24 @@ public class NotificationServiceAdapter implements NotificationServicePort {
     @RestClient
     NotificationServiceClient notificationServiceClient;
 
+    @Inject
+    BulkNotificationDispatcher bulkDispatcher;
+
+    @Inject
+    RemoteCallGuards remoteCallGuards;
+
+    private RemoteCallGuard guard;
+
+    @PostConstruct
+    void init() {
+        guard = remoteCallGuards.forDependency("notification-service");
+    }
+
     @Override
     public void sendGiftNotification(GiftNotificationRequest request) {
         try {
             log.info("Sending gift notification to user: {}", request.recipientId);
-
-            NotificationServiceClient.GiftNotificationDto dto = NotificationServiceClient.GiftNotificationDto.builder()
-                    .recipientId(request.recipientId)
-                    .senderName(request.senderName)
-                    .gameName(request.gameName)
-                    .message(request.message)
-                    .giftId(request.giftId)
-                    .build();
-
-            notificationServiceClient.sendGiftNotification(dto);
-
+            deliverGiftNotification(request);
         } catch (Exception e) {
             log.error("Error sending gift notification to user: {}", request.recipientId, e);
             // Non-critical error, continue execution
@@ -46,17 +52,7 @@ public class NotificationServiceAdapter implements NotificationServicePort {
     public void sendPreOrderConfirmation(PreOrderNotificationRequest request) {
         try {
             log.info("Sending pre-order confirmation to user: {}", request.userId);
-
-            NotificationServiceClient.PreOrderNotificationDto dto = NotificationServiceClient.PreOrderNotificationDto.builder()
-                    .userId(request.userId)
-                    .gameName(request.gameName)
-                    .releaseDate(request.releaseDate)
-                    .bonusContent(request.bonusContent)
-                    .preOrderId(request.preOrderId)
-                    .build();
-
-            notificationServiceClient.sendPreOrderConfirmation(dto);
-
+            deliverPreOrderConfirmation(request);
         } catch (Exception e) {
             log.error("Error sending pre-order confirmation to user: {}", request.userId, e);
             // Non-critical error, continue execution
@@ -67,16 +63,7 @@ public class NotificationServiceAdapter implements NotificationServicePort {
     public void sendGameReleaseNotification(GameReleaseNotificationRequest request) {
         try {
             log.info("Sending game release notification to user: {}", request.userId);
-
-            NotificationServiceClient.GameReleaseNotificationDto dto = NotificationServiceClient.GameReleaseNotificationDto.builder()
-                    .userId(request.userId)
-                    .gameName(request.gameName)
-                    .downloadLink(request.downloadLink)
-                    .releaseNotes(request.releaseNotes)
-                    .build();
-
-            notificationServiceClient.sendGameReleaseNotification(dto);
-
+            deliverGameReleaseNotification(request);
         } catch (Exception e) {
             log.error("Error sending game release notification to user: {}", request.userId, e);
             // Non-critical error, continue execution
@@ -87,17 +74,7 @@ public class NotificationServiceAdapter implements NotificationServicePort {
     public void sendOfferNotification(OfferNotificationRequest request) {
         try {
             log.info("Sending offer notification to user: {}", request.userId);
-
-            NotificationServiceClient.OfferNotificationDto dto = NotificationServiceClient.OfferNotificationDto.builder()
-                    .userId(request.userId)
-                    .offerName(request.offerName)
-                    .discountPercentage(request.discountPercentage)
-                    .validUntil(request.validUntil)
-                    .gameNames(request.gameNames)
-                    .build();
-
-            notificationServiceClient.sendOfferNotification(dto);
-
+            deliverOfferNotification(request);
         } catch (Exception e) {
             log.error("Error sending offer notification to user: {}", request.userId, e);
             // Non-critical error, continue execution
@@ -108,24 +85,112 @@ public class NotificationServiceAdapter implements NotificationServicePort {
     public void sendReviewNotification(ReviewNotificationRequest request) {
         try {
             log.info("Sending review notification to publisher: {}", request.publisherId);
-
-            NotificationServiceClient.ReviewNotificationDto dto = NotificationServiceClient.ReviewNotificationDto.builder()
-                    .publisherId(request.publisherId)
-                    .gameName(request.gameName)
-                    .reviewerName(request.reviewerName)
-                    .reviewContent(request.reviewContent)
-                    .isRecommended(request.isRecommended)
-                    .reviewId(request.reviewId)
-                    .build();
-
-            notificationServiceClient.sendReviewNotification(dto);
-
+            deliverReviewNotification(request);
         } catch (Exception e) {
             log.error("Error sending review notification to publisher: {}", request.publisherId, e);
             // Non-critical error, continue execution
         }
     }
 
+    @Override
+    public void sendBulkGameReleaseNotification(BulkGameReleaseNotificationRequest request) {
+        log.info("Sending game release notification for {} to {} users", request.gameName, request.userIds.size());
+        bulkDispatcher.dispatch(BulkNotificationDispatcher.TYPE_RELEASE, bulkDispatcher.chunk(request.userIds),
+                userIds -> deliverBulkGameReleaseNotification(request, userIds));
+    }
+
+    @Override
+    public void sendBulkOfferNotification(BulkOfferNotificationRequest request) {
+        log.info("Sending offer notification for {} to {} users", request.offerName, request.userIds.size());
+        bulkDispatcher.dispatch(BulkNotificationDispatcher.TYPE_OFFER, bulkDispatcher.chunk(request.userIds),
+                userIds -> deliverBulkOfferNotification(request, userIds));
+    }
+
+    // Throwing variants used by the outbox dispatcher, which needs to know whether delivery worked
+    public void deliverGiftNotification(GiftNotificationRequest request) {
+        NotificationServiceClient.GiftNotificationDto dto = NotificationServiceClient.GiftNotificationDto.builder()
+                .recipientId(request.recipientId)
+                .senderName(request.senderName)
+                .gameName(request.gameName)
+                .message(request.message)
+                .giftId(request.giftId)
+                .build();
+
+        guard.run(() -> notificationServiceClient.sendGiftNotification(dto));
+    }
+
+    public void deliverPreOrderConfirmation(PreOrderNotificationRequest request) {
+        NotificationServiceClient.PreOrderNotificationDto dto = NotificationServiceClient.PreOrderNotificationDto.builder()
+                .userId(request.userId)
+                .gameName(request.gameName)
+                .releaseDate(request.releaseDate)
+                .bonusContent(request.bonusContent)
+                .preOrderId(request.preOrderId)
+                .build();
+
+        guard.run(() -> notificationServiceClient.sendPreOrderConfirmation(dto));
+    }
+
+    public void deliverGameReleaseNotification(GameReleaseNotificationRequest request) {
+        NotificationServiceClient.GameReleaseNotificationDto dto = NotificationServiceClient.GameReleaseNotificationDto.builder()
+                .userId(request.userId)
+                .gameName(request.gameName)
+                .downloadLink(request.downloadLink)
+                .releaseNotes(request.releaseNotes)
+                .build();
+
+        guard.run(() -> notificationServiceClient.sendGameReleaseNotification(dto));
+    }
+
+    public void deliverOfferNotification(OfferNotificationRequest request) {
+        NotificationServiceClient.OfferNotificationDto dto = NotificationServiceClient.OfferNotificationDto.builder()
+                .userId(request.userId)
+                .offerName(request.offerName)
+                .discountPercentage(request.discountPercentage)
+                .validUntil(request.validUntil)
+                .gameNames(request.gameNames)
+                .build();
+
+        guard.run(() -> notificationServiceClient.sendOfferNotification(dto));
+    }
+
+    public void deliverReviewNotification(ReviewNotificationRequest request) {
+        NotificationServiceClient.ReviewNotificationDto dto = NotificationServiceClient.ReviewNotificationDto.builder()
+                .publisherId(request.publisherId)
+                .gameName(request.gameName)
+                .reviewerName(request.reviewerName)
+                .reviewContent(request.reviewContent)
+                .isRecommended(request.isRecommended)
+                .reviewId(request.reviewId)
+                .build();
+
+        guard.run(() -> notificationServiceClient.sendReviewNotification(dto));
+    }
+
+    // Sends one chunk; userIds must not exceed the notification service's array limit
+    public void deliverBulkGameReleaseNotification(BulkGameReleaseNotificationRequest request, List<String> userIds) {
+        NotificationServiceClient.BulkGameReleaseNotificationDto dto = NotificationServiceClient.BulkGameReleaseNotificationDto.builder()
+                .userIds(userIds)
+                .gameName(request.gameName)
+                .downloadLink(request.downloadLink)
+                .releaseNotes(request.releaseNotes)
+                .build();
+
+        guard.run(() -> notificationServiceClient.sendBulkGameReleaseNotification(dto));
+    }
+
+    public void deliverBulkOfferNotification(BulkOfferNotificationRequest request, List<String> userIds) {
+        NotificationServiceClient.BulkOfferNotificationDto dto = NotificationServiceClient.BulkOfferNotificationDto.builder()
+                .userIds(userIds)
+                .offerName(request.offerName)
+                .discountPercentage(request.discountPercentage)
+                .validUntil(request.validUntil)
+                .gameNames(request.gameNames)
+                .build();
+
+        guard.run(() -> notificationServiceClient.sendBulkOfferNotification(dto));
+    }
+
     @RegisterRestClient(configKey = "notification-service")
     public interface NotificationServiceClient {
 
@@ -154,6 +219,16 @@ public class NotificationServiceAdapter implements NotificationServicePort {
         @Consumes(MediaType.APPLICATION_JSON)
         void sendReviewNotification(ReviewNotificationDto request);
 
+        @POST
+        @Path("/notifications/release/bulk")
+        @Consumes(MediaType.APPLICATION_JSON)
+        void sendBulkGameReleaseNotification(BulkGameReleaseNotificationDto request);
+
+        @POST
+        @Path("/notifications/offer/bulk")
+        @Consumes(MediaType.APPLICATION_JSON)
+        void sendBulkOfferNotification(BulkOfferNotificationDto request);
+
         // DTOs for external communication
         @lombok.Data
         @lombok.Builder
@@ -214,5 +289,28 @@ public class NotificationServiceAdapter implements NotificationServicePort {
             public Boolean isRecommended;
             public String reviewId;
         }
+
+        @lombok.Data
+        @lombok.Builder
+        @lombok.NoArgsConstructor
+        @lombok.AllArgsConstructor
+        class BulkGameReleaseNotificationDto {
+            public List<String> userIds;
+            public String gameName;
+            public String downloadLink;
+            public String releaseNotes;
+        }
+
+        @lombok.Data
+        @lombok.Builder
+        @lombok.NoArgsConstructor
+        @lombok.AllArgsConstructor
+        class BulkOfferNotificationDto {
+            public List<String> userIds;
+            public String offerName;
+            public String discountPercentage;
+            public String validUntil;
+            public List<String> gameNames;
+        }
     }
 }
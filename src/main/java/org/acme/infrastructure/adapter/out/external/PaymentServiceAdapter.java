@@ -1,14 +1,21 @@
 package org.acme.infrastructure.adapter.out.external;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import lombok.extern.slf4j.Slf4j;
 import org.acme.application.port.out.PaymentServicePort;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuard;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuards;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallRejectedException;
+import org.acme.infrastructure.adapter.out.payment.PaymentIdempotencyStore;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
+import java.util.Optional;
+
 @ApplicationScoped
 @Slf4j
 public class PaymentServiceAdapter implements PaymentServicePort {
@@ -17,8 +24,31 @@ public class PaymentServiceAdapter implements PaymentServicePort {
     @RestClient
     PaymentServiceClient paymentServiceClient;
 
+    @Inject
+    PaymentIdempotencyStore idempotencyStore;
+
+    @Inject
+    RemoteCallGuards remoteCallGuards;
+
+    private RemoteCallGuard guard;
+
+    @PostConstruct
+    void init() {
+        guard = remoteCallGuards.forDependency("payment-service");
+    }
+
     @Override
     public PaymentResult processPayment(PaymentRequest request) {
+        String idempotencyKey = request.idempotencyKey;
+        if (idempotencyKey != null) {
+            Optional<PaymentResult> stored = idempotencyStore.reserve(idempotencyKey, request);
+            if (stored.isPresent()) {
+                log.info("Returning stored payment result for idempotency key: {}", idempotencyKey);
+                return stored.get();
+            }
+        }
+
+        PaymentResult result;
         try {
             log.info("Processing payment for user: {} amount: {} {}",
                     request.userId, request.amount, request.currency);
@@ -32,30 +62,67 @@ public class PaymentServiceAdapter implements PaymentServicePort {
                     .description(request.description)
                     .build();
 
-            PaymentServiceClient.PaymentResultDto result = paymentServiceClient.processPayment(dto);
+            PaymentServiceClient.PaymentResultDto response = guard.call(() -> paymentServiceClient.processPayment(idempotencyKey, dto));
 
-            return PaymentResult.builder()
-                    .paymentId(result.paymentId)
-                    .status(result.status)
-                    .transactionId(result.transactionId)
-                    .errorMessage(result.errorMessage)
-                    .processedAt(result.processedAt)
+            result = PaymentResult.builder()
+                    .paymentId(response.paymentId)
+                    .status(response.status)
+                    .transactionId(response.transactionId)
+                    .errorMessage(response.errorMessage)
+                    .processedAt(response.processedAt)
                     .build();
 
-        } catch (Exception e) {
-            log.error("Error processing payment for user: {}", request.userId, e);
+        } catch (RemoteCallRejectedException e) {
+            // Never sent, so nothing was charged
+            log.warn("Payment for user {} not attempted: {}", request.userId, e.getMessage());
+            if (idempotencyKey != null) {
+                idempotencyStore.release(idempotencyKey);
+            }
             return PaymentServicePort.PaymentResult.builder()
                     .status("FAILED")
-                    .errorMessage("Error en el procesamiento del pago: " + e.getMessage())
+                    .errorMessage("Servicio de pagos no disponible, inténtalo más tarde")
                     .build();
+        } catch (WebApplicationException e) {
+            if (!isDefinitiveRejection(e.getResponse().getStatus())) {
+                return unknownOutcome(request, e);
+            }
+            log.warn("Payment rejected for user: {} with status {}", request.userId, e.getResponse().getStatus());
+            result = PaymentServicePort.PaymentResult.builder()
+                    .status("FAILED")
+                    .errorMessage("Pago rechazado: " + e.getMessage())
+                    .build();
+        } catch (Exception e) {
+            return unknownOutcome(request, e);
         }
+
+        if (idempotencyKey != null) {
+            idempotencyStore.complete(idempotencyKey, result);
+        }
+        return result;
+    }
+
+    // Timeouts, connection errors and 5xx don't tell us whether the charge happened. The key is released
+    // instead of storing a failure; the provider deduplicates on it, so retrying with it is safe.
+    private PaymentResult unknownOutcome(PaymentRequest request, Exception e) {
+        log.error("Error processing payment for user: {}", request.userId, e);
+        if (request.idempotencyKey != null) {
+            idempotencyStore.release(request.idempotencyKey);
+        }
+        return PaymentServicePort.PaymentResult.builder()
+                .status("FAILED")
+                .errorMessage("Error en el procesamiento del pago: " + e.getMessage())
+                .build();
+    }
+
+    private static boolean isDefinitiveRejection(int status) {
+        return status >= 400 && status < 500 && status != 408 && status != 409 && status != 429;
     }
 
     @Override
     public void refundPayment(String paymentId) {
         try {
             log.info("Processing refund for payment: {}", paymentId);
-            paymentServiceClient.refundPayment(paymentId);
+            guard.run(() -> paymentServiceClient.refundPayment(paymentId));
         } catch (Exception e) {
             log.error("Error processing refund for payment: {}", paymentId, e);
             throw new RuntimeException("Error al procesar reembolso", e);
@@ -66,7 +133,7 @@ public class PaymentServiceAdapter implements PaymentServicePort {
     public PaymentStatus getPaymentStatus(String paymentId) {
         try {
             log.debug("Fetching payment status: {}", paymentId);
-            PaymentServiceClient.PaymentStatusDto dto = paymentServiceClient.getPaymentStatus(paymentId);
+            PaymentServiceClient.PaymentStatusDto dto = guard.call(() -> paymentServiceClient.getPaymentStatus(paymentId));
 
             return PaymentStatus.builder()
                     .paymentId(dto.paymentId)
@@ -77,12 +144,25 @@ public class PaymentServiceAdapter implements PaymentServicePort {
                     .updatedAt(dto.updatedAt)
                     .build();
 
+        } catch (RemoteCallRejectedException e) {
+            log.warn("Cannot fetch payment status {}: {}", paymentId, e.getMessage());
+            throw new IllegalStateException("Servicio de pagos no disponible, inténtalo más tarde");
         } catch (Exception e) {
             log.error("Error fetching payment status: {}", paymentId, e);
             throw new IllegalArgumentException("Estado de pago no encontrado: " + paymentId);
         }
     }
 
+    @Override
+    public Optional<String> linkResource(String idempotencyKey, String resourceId) {
+        return idempotencyStore.linkResource(idempotencyKey, resourceId);
+    }
+
+    @Override
+    public Optional<String> findLinkedResource(String idempotencyKey) {
+        return idempotencyStore.findLinkedResource(idempotencyKey);
+    }
+
     @RegisterRestClient(configKey = "payment-service")
     public interface PaymentServiceClient {
 
@@ -90,7 +170,7 @@ public class PaymentServiceAdapter implements PaymentServicePort {
         @Path("/payments")
         @Consumes(MediaType.APPLICATION_JSON)
         @Produces(MediaType.APPLICATION_JSON)
-        PaymentResultDto processPayment(PaymentRequestDto request);
+        PaymentResultDto processPayment(@HeaderParam("Idempotency-Key") String idempotencyKey, PaymentRequestDto request);
 
         @POST
         @Path("/payments/{paymentId}/refund")
@@ -1,5 +1,6 @@
 package org.acme.infrastructure.adapter.out.external;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
@@ -8,11 +9,17 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import lombok.extern.slf4j.Slf4j;
+import org.acme.application.exception.ServiceUnavailableException;
 import org.acme.application.port.out.UserServicePort;
+import org.acme.infrastructure.adapter.out.external.cache.UserLookupCache;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuard;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuards;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallRejectedException;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 import java.util.List;
+import java.util.Optional;
 
 @ApplicationScoped
 @Slf4j
@@ -22,18 +29,30 @@ public class UserServiceAdapter implements UserServicePort {
     @RestClient
     UserServiceClient userServiceClient;
 
+    @Inject
+    UserLookupCache userLookupCache;
+
+    @Inject
+    RemoteCallGuards remoteCallGuards;
+
+    private RemoteCallGuard guard;
+
+    @PostConstruct
+    void init() {
+        guard = remoteCallGuards.forDependency("user-service");
+    }
+
     @Override
     public boolean userExists(String userId) {
         try {
             log.debug("Checking if user exists: {}", userId);
-            UserDto user = userServiceClient.getUserById(userId);
-            return user != null && user.isActive;
-        } catch (jakarta.ws.rs.NotFoundException e) {
-            log.debug("User not found: {}", userId);
-            return false;
+            return findUser(userId)
+                    .map(user -> Boolean.TRUE.equals(user.isActive))
+                    .orElse(false);
         } catch (Exception e) {
-            log.error("Error checking user existence: {}", userId, e);
-            return false;
+            // Only a 404 means the user does not exist; an unverifiable user is neither known nor
+            // unknown, so the caller answers 503, not 404
+            throw unavailable("Cannot check user existence for " + userId, e);
         }
     }
 
@@ -41,10 +60,12 @@ public class UserServiceAdapter implements UserServicePort {
     public UserDto getUserById(String userId) {
         try {
             log.debug("Fetching user by ID: {}", userId);
-            return userServiceClient.getUserById(userId);
+            return findUser(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado: " + userId));
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Error fetching user: {}", userId, e);
-            throw new IllegalArgumentException("Usuario no encontrado: " + userId);
+            throw unavailable("Cannot fetch user " + userId, e);
         }
     }
 
@@ -52,7 +73,11 @@ public class UserServiceAdapter implements UserServicePort {
     public boolean areUsersFriends(String userId1, String userId2) {
         try {
             log.debug("Checking friendship between users: {} and {}", userId1, userId2);
-            return userServiceClient.areUsersFriends(userId1, userId2);
+            return userLookupCache.areFriends(userId1, userId2,
+                    () -> Boolean.TRUE.equals(guard.call(() -> userServiceClient.areUsersFriends(userId1, userId2))));
+        } catch (RemoteCallRejectedException e) {
+            log.warn("Cannot check friendship between {} and {}: {}", userId1, userId2, e.getMessage());
+            return false;
         } catch (Exception e) {
             log.error("Error checking friendship: {} and {}", userId1, userId2, e);
             return false;
@@ -63,13 +88,38 @@ public class UserServiceAdapter implements UserServicePort {
     public List<String> getUserFriends(String userId) {
         try {
             log.debug("Fetching friends for user: {}", userId);
-            return userServiceClient.getUserFriends(userId);
+            return guard.call(() -> userServiceClient.getUserFriends(userId));
+        } catch (RemoteCallRejectedException e) {
+            log.warn("Cannot fetch friends for user {}: {}", userId, e.getMessage());
+            return List.of();
         } catch (Exception e) {
             log.error("Error fetching friends for user: {}", userId, e);
             return List.of();
         }
     }
 
+    private ServiceUnavailableException unavailable(String context, Exception e) {
+        if (e instanceof RemoteCallRejectedException) {
+            log.warn("{}: {}", context, e.getMessage());
+        } else {
+            log.error(context, e);
+        }
+        return new ServiceUnavailableException("Servicio de usuarios no disponible, inténtalo más tarde");
+    }
+
+    // userExists and getUserById share one cached lookup, so checking a user and then
+    // reading it costs a single remote call
+    private Optional<UserDto> findUser(String userId) {
+        return userLookupCache.getUser(userId, () -> {
+            try {
+                return Optional.ofNullable(guard.call(() -> userServiceClient.getUserById(userId)));
+            } catch (jakarta.ws.rs.NotFoundException e) {
+                log.debug("User not found: {}", userId);
+                return Optional.empty();
+            }
+        });
+    }
+
     @RegisterRestClient(configKey = "user-service")
     public interface UserServiceClient {
 
@@ -0,0 +1,83 @@
+package org.acme.infrastructure.adapter.out.external.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Per-user set of owned game ids, seeded from a single library fetch. Grants and removals done
+// through this service patch a cached library in place instead of dropping it.
+@ApplicationScoped
+@Slf4j
+public class OwnedGamesCache {
+
+    @ConfigProperty(name = "catalog.inventory-cache.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "catalog.inventory-cache.ttl", defaultValue = "2m")
+    Duration ttl;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private Cache<String, Set<String>> libraries;
+
+    @PostConstruct
+    void init() {
+        libraries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, libraries, "inventory-service-libraries");
+
+        log.info("Owned games cache initialized - maxSize: {}, ttl: {}", maxSize, ttl);
+    }
+
+    public Set<String> getLibrary(String userId, Supplier<List<String>> loader) {
+        return libraries.get(userId, key -> Set.copyOf(loader.get()));
+    }
+
+    public void added(String userId, String gameId) {
+        libraries.asMap().computeIfPresent(userId, (key, owned) -> {
+            if (owned.contains(gameId)) {
+                return owned;
+            }
+            Set<String> updated = new HashSet<>(owned);
+            updated.add(gameId);
+            return Set.copyOf(updated);
+        });
+    }
+
+    public void removed(String userId, String gameId) {
+        libraries.asMap().computeIfPresent(userId, (key, owned) -> {
+            if (!owned.contains(gameId)) {
+                return owned;
+            }
+            Set<String> updated = new HashSet<>(owned);
+            updated.remove(gameId);
+            return Set.copyOf(updated);
+        });
+    }
+
+    public void invalidate(String userId) {
+        libraries.invalidate(userId);
+    }
+
+    public CacheStats stats() {
+        return libraries.stats();
+    }
+}
@@ -0,0 +1,112 @@
+package org.acme.infrastructure.adapter.out.external.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.UserServicePort;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// Short-lived cache in front of the user service. Unknown users are cached too (for a shorter
+// time) and concurrent lookups of the same key share one remote call. Failed calls are not cached.
+@ApplicationScoped
+@Slf4j
+public class UserLookupCache {
+
+    @ConfigProperty(name = "catalog.user-cache.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "catalog.user-cache.ttl", defaultValue = "30s")
+    Duration ttl;
+
+    @ConfigProperty(name = "catalog.user-cache.negative-ttl", defaultValue = "5s")
+    Duration negativeTtl;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private Cache<String, Optional<UserServicePort.UserDto>> users;
+    private Cache<String, Boolean> friendships;
+
+    @PostConstruct
+    void init() {
+        users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PositiveNegativeExpiry<Optional<UserServicePort.UserDto>>(Optional::isPresent))
+                .recordStats()
+                .build();
+        friendships = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PositiveNegativeExpiry<Boolean>(Boolean::booleanValue))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "user-service-users");
+        CaffeineCacheMetrics.monitor(meterRegistry, friendships, "user-service-friendships");
+        Gauge.builder("user_service.cache.hit.ratio", users, cache -> cache.stats().hitRate())
+                .tag("cache", "users")
+                .register(meterRegistry);
+        Gauge.builder("user_service.cache.hit.ratio", friendships, cache -> cache.stats().hitRate())
+                .tag("cache", "friendships")
+                .register(meterRegistry);
+
+        log.info("User lookup cache initialized - maxSize: {}, ttl: {}, negativeTtl: {}", maxSize, ttl, negativeTtl);
+    }
+
+    public Optional<UserServicePort.UserDto> getUser(String userId, Supplier<Optional<UserServicePort.UserDto>> loader) {
+        return users.get(userId, key -> loader.get());
+    }
+
+    public boolean areFriends(String userId1, String userId2, Supplier<Boolean> loader) {
+        // Friendship is symmetric, so (a, b) and (b, a) share an entry
+        String key = userId1.compareTo(userId2) <= 0 ? userId1 + "|" + userId2 : userId2 + "|" + userId1;
+        return friendships.get(key, k -> loader.get());
+    }
+
+    public void invalidate(String userId) {
+        users.invalidate(userId);
+    }
+
+    public CacheStats userStats() {
+        return users.stats();
+    }
+
+    public CacheStats friendshipStats() {
+        return friendships.stats();
+    }
+
+    private class PositiveNegativeExpiry<V> implements Expiry<String, V> {
+        private final Predicate<V> positive;
+
+        PositiveNegativeExpiry(Predicate<V> positive) {
+            this.positive = positive;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, V value, long currentTime) {
+            return (positive.test(value) ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package org.acme.infrastructure.adapter.out.external.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.ws.rs.WebApplicationException;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Bulkhead plus circuit breaker in front of one remote dependency.
+//
+// Bulkhead: at most maxConcurrent calls run at once; up to maxQueued more wait up to maxQueueWait
+// for a slot, anything beyond that is rejected straight away. A slow dependency can therefore hold
+// at most maxConcurrent + maxQueued request threads.
+//
+// Circuit breaker: the outcome of the last windowSize calls is kept in a ring. Once at least
+// minimumCalls are recorded and the failure ratio reaches failureRatio, the circuit opens and calls
+// are rejected without touching the network. After openDuration it goes half-open and lets
+// halfOpenProbes trial calls through: all of them succeeding closes it, any failure reopens it.
+// Every transition starts a new generation; a call only counts towards the generation it was
+// admitted in, so a slow probe from an earlier half-open cycle cannot close or reopen a later one.
+//
+// Call timeouts are the REST client's connect/read timeouts; a timed-out call counts as a failure.
+// 4xx responses are answers from a healthy service and count as successes.
+@Slf4j
+public class RemoteCallGuard {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String dependency;
+    private final Settings settings;
+    private final LongSupplier clock;
+
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    // Guarded by this
+    private final boolean[] window;
+    private int windowPosition;
+    private int windowCount;
+    private int windowFailures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int generation;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter timeouts;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+    private final Timer callTimer;
+
+    RemoteCallGuard(String dependency, Settings settings, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.dependency = dependency;
+        this.settings = settings;
+        this.clock = clock;
+        this.permits = new Semaphore(settings.getMaxConcurrent(), true);
+        this.window = new boolean[settings.getWindowSize()];
+
+        successes = outcomeCounter(meterRegistry, "success");
+        failures = outcomeCounter(meterRegistry, "failure");
+        timeouts = outcomeCounter(meterRegistry, "timeout");
+        bulkheadRejections = outcomeCounter(meterRegistry, "rejected_bulkhead");
+        circuitRejections = outcomeCounter(meterRegistry, "rejected_circuit");
+        callTimer = Timer.builder("remote.call.duration").tag("dependency", dependency).register(meterRegistry);
+
+        Gauge.builder("remote.circuit.state", this, guard -> guard.state().ordinal())
+                .description("Circuit state: 0 closed, 1 open, 2 half-open")
+                .tag("dependency", dependency)
+                .register(meterRegistry);
+        Gauge.builder("remote.circuit.failure.ratio", this, RemoteCallGuard::failureRatio)
+                .tag("dependency", dependency)
+                .register(meterRegistry);
+        Gauge.builder("remote.bulkhead.in_use", this, guard -> settings.getMaxConcurrent() - guard.permits.availablePermits())
+                .tag("dependency", dependency)
+                .register(meterRegistry);
+        Gauge.builder("remote.bulkhead.queued", queued, AtomicInteger::get)
+                .tag("dependency", dependency)
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> remoteCall) {
+        Admission admission = acquireCircuit();
+        try {
+            acquireBulkhead();
+        } catch (RuntimeException e) {
+            releaseProbe(admission);
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = remoteCall.get();
+            recordSuccess(admission);
+            return result;
+        } catch (WebApplicationException e) {
+            if (e.getResponse() != null && e.getResponse().getStatus() < 500) {
+                recordSuccess(admission);
+            } else {
+                recordFailure(admission, e);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            recordFailure(admission, e);
+            throw e;
+        } finally {
+            callTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            permits.release();
+        }
+    }
+
+    public void run(Runnable remoteCall) {
+        call(() -> {
+            remoteCall.run();
+            return null;
+        });
+    }
+
+    public synchronized State state() {
+        if (state == State.OPEN && openDurationElapsed()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized double failureRatio() {
+        return windowCount == 0 ? 0 : (double) windowFailures / windowCount;
+    }
+
+    private synchronized Admission acquireCircuit() {
+        if (state == State.OPEN) {
+            if (!openDurationElapsed()) {
+                circuitRejections.increment();
+                throw new RemoteCallRejectedException(dependency, "circuito abierto");
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= settings.getHalfOpenProbes()) {
+                circuitRejections.increment();
+                throw new RemoteCallRejectedException(dependency, "circuito semiabierto");
+            }
+            probesInFlight++;
+            return new Admission(generation, true);
+        }
+        return new Admission(generation, false);
+    }
+
+    private synchronized void releaseProbe(Admission admission) {
+        if (admission.probe() && admission.generation() == generation) {
+            probesInFlight--;
+        }
+    }
+
+    private void acquireBulkhead() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (queued.incrementAndGet() > settings.getMaxQueued()) {
+            queued.decrementAndGet();
+            bulkheadRejections.increment();
+            throw new RemoteCallRejectedException(dependency, "demasiadas solicitudes en curso");
+        }
+        try {
+            if (!permits.tryAcquire(settings.getMaxQueueWait().toNanos(), TimeUnit.NANOSECONDS)) {
+                bulkheadRejections.increment();
+                throw new RemoteCallRejectedException(dependency, "tiempo de espera en cola agotado");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RemoteCallRejectedException(dependency, "espera interrumpida");
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private synchronized void recordSuccess(Admission admission) {
+        successes.increment();
+        if (admission.generation() != generation) {
+            return;
+        }
+        if (admission.probe()) {
+            probesInFlight--;
+            probeSuccesses++;
+            if (probeSuccesses >= settings.getHalfOpenProbes()) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    private synchronized void recordFailure(Admission admission, RuntimeException error) {
+        if (isTimeout(error)) {
+            timeouts.increment();
+        } else {
+            failures.increment();
+        }
+        if (admission.generation() != generation) {
+            return;
+        }
+        if (admission.probe()) {
+            probesInFlight--;
+            transition(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= settings.getMinimumCalls()
+                    && (double) windowFailures / windowCount >= settings.getFailureRatio()) {
+                transition(State.OPEN);
+            }
+        }
+    }
+
+    private void record(boolean failed) {
+        if (windowCount == window.length) {
+            if (window[windowPosition]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowPosition] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowPosition = (windowPosition + 1) % window.length;
+    }
+
+    private void transition(State next) {
+        if (next == state) {
+            return;
+        }
+        log.warn("Circuit for {} moved from {} to {} (failure ratio {})", dependency, state, next,
+                String.format("%.2f", failureRatio()));
+        state = next;
+        generation++;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = clock.getAsLong();
+        } else if (next == State.CLOSED) {
+            windowPosition = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+
+    private boolean openDurationElapsed() {
+        return clock.getAsLong() - openedAt >= settings.getOpenDuration().toNanos();
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("remote.calls")
+                .tag("dependency", dependency)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // The circuit generation a call was let through in, and whether it is a half-open probe
+    private record Admission(int generation, boolean probe) {
+    }
+
+    @Value
+    @Builder
+    public static class Settings {
+        int maxConcurrent;
+        int maxQueued;
+        Duration maxQueueWait;
+        int windowSize;
+        int minimumCalls;
+        double failureRatio;
+        Duration openDuration;
+        int halfOpenProbes;
+    }
+}
@@ -0,0 +1,48 @@
+package org.acme.infrastructure.adapter.out.external.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.Config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// One guard per dependency, configured under catalog.remote.<dependency>.*
+@ApplicationScoped
+@Slf4j
+public class RemoteCallGuards {
+
+    @Inject
+    Config config;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final Map<String, RemoteCallGuard> guards = new ConcurrentHashMap<>();
+
+    public RemoteCallGuard forDependency(String dependency) {
+        return guards.computeIfAbsent(dependency, this::create);
+    }
+
+    private RemoteCallGuard create(String dependency) {
+        RemoteCallGuard.Settings settings = RemoteCallGuard.Settings.builder()
+                .maxConcurrent(value(dependency, "max-concurrent", Integer.class, 20))
+                .maxQueued(value(dependency, "max-queued", Integer.class, 50))
+                .maxQueueWait(value(dependency, "max-queue-wait", Duration.class, Duration.ofMillis(500)))
+                .windowSize(value(dependency, "window-size", Integer.class, 20))
+                .minimumCalls(value(dependency, "minimum-calls", Integer.class, 10))
+                .failureRatio(value(dependency, "failure-ratio", Double.class, 0.5))
+                .openDuration(value(dependency, "open-duration", Duration.class, Duration.ofSeconds(10)))
+                .halfOpenProbes(value(dependency, "half-open-probes", Integer.class, 3))
+                .build();
+        log.info("Remote call guard for {}: {}", dependency, settings);
+        return new RemoteCallGuard(dependency, settings, meterRegistry, System::nanoTime);
+    }
+
+    private <T> T value(String dependency, String key, Class<T> type, T defaultValue) {
+        return config.getOptionalValue("catalog.remote." + dependency + "." + key, type).orElse(defaultValue);
+    }
+}
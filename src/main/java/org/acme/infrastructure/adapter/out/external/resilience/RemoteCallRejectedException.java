@@ -0,0 +1,17 @@
+package org.acme.infrastructure.adapter.out.external.resilience;
+
+// Thrown instead of calling a dependency whose circuit is open or whose bulkhead is full;
+// the request never reached the remote service
+public class RemoteCallRejectedException extends RuntimeException {
+
+    private final String dependency;
+
+    public RemoteCallRejectedException(String dependency, String reason) {
+        super("Servicio " + dependency + " no disponible: " + reason);
+        this.dependency = dependency;
+    }
+
+    public String getDependency() {
+        return dependency;
+    }
+}
@@ -0,0 +1,295 @@
+package org.acme.infrastructure.adapter.out.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.NotificationServicePort;
+import org.acme.infrastructure.adapter.out.external.BulkNotificationDispatcher;
+import org.acme.infrastructure.adapter.out.external.NotificationServiceAdapter;
+import org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity.STATUS_FAILED;
+import static org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity.STATUS_IN_FLIGHT;
+import static org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity.STATUS_PENDING;
+import static org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity.STATUS_SENT;
+
+// Drains the notification outbox. Each batch is claimed in a short transaction, delivered with no
+// transaction open, and its outcome recorded in a second short transaction.
+@ApplicationScoped
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String METRIC_PREFIX = "notifications.outbox";
+
+    @ConfigProperty(name = "catalog.notifications.outbox.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @ConfigProperty(name = "catalog.notifications.outbox.max-batches-per-run", defaultValue = "50")
+    int maxBatchesPerRun;
+
+    @ConfigProperty(name = "catalog.notifications.outbox.max-attempts", defaultValue = "10")
+    int maxAttempts;
+
+    @ConfigProperty(name = "catalog.notifications.outbox.backoff-base", defaultValue = "1s")
+    Duration backoffBase;
+
+    @ConfigProperty(name = "catalog.notifications.outbox.backoff-max", defaultValue = "5m")
+    Duration backoffMax;
+
+    @ConfigProperty(name = "catalog.notifications.outbox.claim-lease", defaultValue = "5m")
+    Duration claimLease;
+
+    @ConfigProperty(name = "catalog.notifications.outbox.sent-retention", defaultValue = "7d")
+    Duration sentRetention;
+
+    @Inject
+    NotificationOutboxRepository outboxRepository;
+
+    @Inject
+    NotificationServiceAdapter notificationServiceAdapter;
+
+    @Inject
+    BulkNotificationDispatcher bulkDispatcher;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+    private Timer deliveryTimer;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("notifications.outbox.in_flight", inFlight, AtomicInteger::get)
+                .description("Notifications claimed and currently being delivered")
+                .register(meterRegistry);
+        Gauge.builder("notifications.outbox.depth", depth, AtomicLong::get)
+                .description("Undelivered notifications in the outbox, as of the last drain")
+                .register(meterRegistry);
+        Gauge.builder("notifications.outbox.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest undelivered notification, as of the last drain")
+                .register(meterRegistry);
+        sentCounter = meterRegistry.counter("notifications.outbox.sent");
+        retriedCounter = meterRegistry.counter("notifications.outbox.retried");
+        failedCounter = meterRegistry.counter("notifications.outbox.failed");
+        deliveryTimer = meterRegistry.timer("notifications.outbox.delivery");
+    }
+
+    @Scheduled(every = "${catalog.notifications.outbox.poll-interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledDrain() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.error("Error draining notification outbox", e);
+        }
+    }
+
+    @Scheduled(every = "${catalog.notifications.outbox.purge-interval:1h}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledPurge() {
+        try {
+            purgeSent();
+        } catch (Exception e) {
+            log.error("Error purging sent notifications from the outbox", e);
+        }
+    }
+
+    // Returns how many delivered rows older than the retention were deleted
+    public long purgeSent() {
+        long purged = QuarkusTransaction.requiringNew().call(() ->
+                outboxRepository.deleteSentBefore(LocalDateTime.now().minus(sentRetention)));
+        if (purged > 0) {
+            log.info("Purged {} sent notifications from the outbox", purged);
+        }
+        return purged;
+    }
+
+    // Returns how many notifications were delivered
+    public int drain() {
+        int delivered = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<NotificationOutboxEntity> claimed = claimBatch();
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            // Claimed rows are delivered concurrently; each row is one request to the notification service
+            List<Outcome> outcomes = new ArrayList<>(claimed.size());
+            inFlight.addAndGet(claimed.size());
+            try {
+                BulkNotificationDispatcher.DispatchReport<NotificationOutboxEntity> report = bulkDispatcher.dispatch(
+                        METRIC_PREFIX, "outbox", claimed, NotificationOutboxEntity::getRecipients, this::deliver);
+                Map<Long, String> errors = new HashMap<>();
+                for (BulkNotificationDispatcher.Failure<NotificationOutboxEntity> failure : report.getFailures()) {
+                    errors.put(failure.getChunk().getId(), describe(failure.getError()));
+                }
+                for (NotificationOutboxEntity entry : claimed) {
+                    outcomes.add(new Outcome(entry.getId(), errors.get(entry.getId())));
+                }
+            } finally {
+                inFlight.addAndGet(-claimed.size());
+            }
+
+            recordOutcomes(outcomes);
+            delivered += (int) outcomes.stream().filter(outcome -> outcome.error == null).count();
+
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+
+        refreshBacklogMetrics();
+        return delivered;
+    }
+
+    private List<NotificationOutboxEntity> claimBatch() {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationOutboxEntity> due = outboxRepository.findDue(now, now.minus(claimLease), batchSize);
+            for (NotificationOutboxEntity entry : due) {
+                entry.setStatus(STATUS_IN_FLIGHT);
+                entry.setClaimedAt(now);
+            }
+            return due;
+        });
+    }
+
+    private void deliver(NotificationOutboxEntity entry) {
+        long start = System.nanoTime();
+        try {
+            switch (entry.getType()) {
+                case OutboxNotificationAdapter.TYPE_GIFT -> notificationServiceAdapter.deliverGiftNotification(
+                        read(entry, NotificationServicePort.GiftNotificationRequest.class));
+                case OutboxNotificationAdapter.TYPE_PREORDER -> notificationServiceAdapter.deliverPreOrderConfirmation(
+                        read(entry, NotificationServicePort.PreOrderNotificationRequest.class));
+                case OutboxNotificationAdapter.TYPE_RELEASE -> notificationServiceAdapter.deliverGameReleaseNotification(
+                        read(entry, NotificationServicePort.GameReleaseNotificationRequest.class));
+                case OutboxNotificationAdapter.TYPE_OFFER -> notificationServiceAdapter.deliverOfferNotification(
+                        read(entry, NotificationServicePort.OfferNotificationRequest.class));
+                case OutboxNotificationAdapter.TYPE_REVIEW -> notificationServiceAdapter.deliverReviewNotification(
+                        read(entry, NotificationServicePort.ReviewNotificationRequest.class));
+                case OutboxNotificationAdapter.TYPE_RELEASE_BULK -> {
+                    NotificationServicePort.BulkGameReleaseNotificationRequest request =
+                            read(entry, NotificationServicePort.BulkGameReleaseNotificationRequest.class);
+                    notificationServiceAdapter.deliverBulkGameReleaseNotification(request, request.userIds);
+                }
+                case OutboxNotificationAdapter.TYPE_OFFER_BULK -> {
+                    NotificationServicePort.BulkOfferNotificationRequest request =
+                            read(entry, NotificationServicePort.BulkOfferNotificationRequest.class);
+                    notificationServiceAdapter.deliverBulkOfferNotification(request, request.userIds);
+                }
+                default -> throw new IllegalStateException("Tipo de notificación desconocido: " + entry.getType());
+            }
+        } finally {
+            deliveryTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private <T> T read(NotificationOutboxEntity entry, Class<T> type) {
+        try {
+            return objectMapper.readValue(entry.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo leer la notificación " + entry.getId(), e);
+        }
+    }
+
+    private static String describe(Throwable error) {
+        return error.getMessage() != null ? error.getMessage() : error.getClass().getName();
+    }
+
+    private void recordOutcomes(List<Outcome> outcomes) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (Outcome outcome : outcomes) {
+                NotificationOutboxEntity entry = outboxRepository.findById(outcome.id);
+                if (entry == null) {
+                    continue;
+                }
+                entry.setAttempts(entry.getAttempts() + 1);
+                entry.setClaimedAt(null);
+
+                if (outcome.error == null) {
+                    entry.setStatus(STATUS_SENT);
+                    entry.setSentAt(now);
+                    sentCounter.increment();
+                } else if (entry.getAttempts() >= maxAttempts) {
+                    entry.setStatus(STATUS_FAILED);
+                    entry.setLastError(truncate(outcome.error));
+                    failedCounter.increment();
+                    log.error("Giving up on {} notification {} after {} attempts", entry.getType(), entry.getId(), entry.getAttempts());
+                } else {
+                    entry.setStatus(STATUS_PENDING);
+                    entry.setLastError(truncate(outcome.error));
+                    entry.setNextAttemptAt(now.plus(backoff(entry.getAttempts())));
+                    retriedCounter.increment();
+                }
+            }
+        });
+    }
+
+    // Exponential backoff with +/-20% jitter so a recovering service isn't hit by every retry at once
+    Duration backoff(int attempts) {
+        long baseMillis = backoffBase.toMillis();
+        long maxMillis = backoffMax.toMillis();
+        long exponential = attempts >= 31 ? maxMillis : Math.min(maxMillis, baseMillis << (attempts - 1));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (exponential * jitter));
+    }
+
+    private void refreshBacklogMetrics() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            depth.set(outboxRepository.countUndelivered());
+            LocalDateTime oldest = outboxRepository.oldestUndeliveredCreatedAt();
+            lagSeconds.set(oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()) : 0);
+        });
+    }
+
+    public long depth() {
+        return depth.get();
+    }
+
+    public long lagSeconds() {
+        return lagSeconds.get();
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static class Outcome {
+        final Long id;
+        final String error; // null when delivered
+
+        Outcome(Long id, String error) {
+            this.id = id;
+            this.error = error;
+        }
+    }
+}
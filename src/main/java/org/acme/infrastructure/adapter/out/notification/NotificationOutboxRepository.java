@@ -0,0 +1,54 @@
+package org.acme.infrastructure.adapter.out.notification;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity.STATUS_IN_FLIGHT;
+import static org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity.STATUS_PENDING;
+import static org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity.STATUS_SENT;
+
+@ApplicationScoped
+public class NotificationOutboxRepository implements PanacheRepository<NotificationOutboxEntity> {
+
+    // SKIP LOCKED lets several instances drain the outbox without handing out the same rows
+    private static final int SKIP_LOCKED = -2;
+
+    // Due rows, plus in-flight rows whose claim has outlived the lease (the dispatcher died mid-send)
+    public List<NotificationOutboxEntity> findDue(LocalDateTime now, LocalDateTime staleClaim, int limit) {
+        return getEntityManager()
+                .createQuery("SELECT o FROM NotificationOutboxEntity o"
+                        + " WHERE (o.status = :pending AND o.nextAttemptAt <= :now)"
+                        + " OR (o.status = :inFlight AND o.claimedAt < :staleClaim)"
+                        + " ORDER BY o.id", NotificationOutboxEntity.class)
+                .setParameter("pending", STATUS_PENDING)
+                .setParameter("inFlight", STATUS_IN_FLIGHT)
+                .setParameter("now", now)
+                .setParameter("staleClaim", staleClaim)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", SKIP_LOCKED)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public long countUndelivered() {
+        return count("status IN ?1", List.of(STATUS_PENDING, STATUS_IN_FLIGHT));
+    }
+
+    public LocalDateTime oldestUndeliveredCreatedAt() {
+        return getEntityManager()
+                .createQuery("SELECT MIN(o.createdAt) FROM NotificationOutboxEntity o WHERE o.status IN :statuses",
+                        LocalDateTime.class)
+                .setParameter("statuses", List.of(STATUS_PENDING, STATUS_IN_FLIGHT))
+                .getSingleResult();
+    }
+
+    // FAILED rows are kept for inspection; only delivered ones expire
+    public long deleteSentBefore(LocalDateTime cutoff) {
+        return delete("status = ?1 AND sentAt < ?2", STATUS_SENT, cutoff);
+    }
+}
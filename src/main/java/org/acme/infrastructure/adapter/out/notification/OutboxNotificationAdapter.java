@@ -0,0 +1,115 @@
+package org.acme.infrastructure.adapter.out.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.NotificationServicePort;
+import org.acme.infrastructure.adapter.out.external.BulkNotificationDispatcher;
+import org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Selected over NotificationServiceAdapter: notifications are written to the outbox in the caller's
+// transaction and delivered later by NotificationOutboxDispatcher, so a slow or failing notification
+// service never holds a business transaction open.
+@ApplicationScoped
+@Alternative
+@Priority(1)
+@Transactional
+@Slf4j
+public class OutboxNotificationAdapter implements NotificationServicePort {
+
+    static final String TYPE_GIFT = "GIFT";
+    static final String TYPE_PREORDER = "PREORDER";
+    static final String TYPE_RELEASE = "RELEASE";
+    static final String TYPE_OFFER = "OFFER";
+    static final String TYPE_REVIEW = "REVIEW";
+    static final String TYPE_RELEASE_BULK = "RELEASE_BULK";
+    static final String TYPE_OFFER_BULK = "OFFER_BULK";
+
+    @Inject
+    NotificationOutboxRepository outboxRepository;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    BulkNotificationDispatcher bulkDispatcher;
+
+    @Override
+    public void sendGiftNotification(GiftNotificationRequest request) {
+        enqueue(TYPE_GIFT, request);
+    }
+
+    @Override
+    public void sendPreOrderConfirmation(PreOrderNotificationRequest request) {
+        enqueue(TYPE_PREORDER, request);
+    }
+
+    @Override
+    public void sendGameReleaseNotification(GameReleaseNotificationRequest request) {
+        enqueue(TYPE_RELEASE, request);
+    }
+
+    @Override
+    public void sendOfferNotification(OfferNotificationRequest request) {
+        enqueue(TYPE_OFFER, request);
+    }
+
+    @Override
+    public void sendReviewNotification(ReviewNotificationRequest request) {
+        enqueue(TYPE_REVIEW, request);
+    }
+
+    // One outbox row per chunk, so a failed chunk is retried on its own
+    @Override
+    public void sendBulkGameReleaseNotification(BulkGameReleaseNotificationRequest request) {
+        for (List<String> userIds : bulkDispatcher.chunk(request.userIds)) {
+            BulkGameReleaseNotificationRequest chunk = BulkGameReleaseNotificationRequest.builder()
+                    .userIds(userIds)
+                    .gameName(request.gameName)
+                    .downloadLink(request.downloadLink)
+                    .releaseNotes(request.releaseNotes)
+                    .build();
+            enqueue(TYPE_RELEASE_BULK, chunk, userIds.size());
+        }
+    }
+
+    @Override
+    public void sendBulkOfferNotification(BulkOfferNotificationRequest request) {
+        for (List<String> userIds : bulkDispatcher.chunk(request.userIds)) {
+            BulkOfferNotificationRequest chunk = BulkOfferNotificationRequest.builder()
+                    .userIds(userIds)
+                    .offerName(request.offerName)
+                    .discountPercentage(request.discountPercentage)
+                    .validUntil(request.validUntil)
+                    .gameNames(request.gameNames)
+                    .build();
+            enqueue(TYPE_OFFER_BULK, chunk, userIds.size());
+        }
+    }
+
+    private void enqueue(String type, Object request) {
+        enqueue(type, request, 1);
+    }
+
+    private void enqueue(String type, Object request, int recipients) {
+        try {
+            outboxRepository.persist(NotificationOutboxEntity.builder()
+                    .type(type)
+                    .payload(objectMapper.writeValueAsString(request))
+                    .recipients(recipients)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build());
+            log.debug("Queued {} notification in outbox", type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la notificación " + type, e);
+        }
+    }
+}
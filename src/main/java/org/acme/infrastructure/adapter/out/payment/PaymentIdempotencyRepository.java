@@ -0,0 +1,21 @@
+package org.acme.infrastructure.adapter.out.payment;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import org.acme.infrastructure.adapter.out.persistence.entity.PaymentIdempotencyEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@ApplicationScoped
+public class PaymentIdempotencyRepository implements PanacheRepositoryBase<PaymentIdempotencyEntity, String> {
+
+    public Optional<PaymentIdempotencyEntity> findForUpdate(String idempotencyKey) {
+        return findByIdOptional(idempotencyKey, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    public long deleteCreatedBefore(LocalDateTime cutoff) {
+        return delete("createdAt < ?1", cutoff);
+    }
+}
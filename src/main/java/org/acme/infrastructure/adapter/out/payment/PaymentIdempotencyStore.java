@@ -0,0 +1,247 @@
+package org.acme.infrastructure.adapter.out.payment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.PaymentServicePort;
+import org.acme.infrastructure.adapter.out.persistence.entity.PaymentIdempotencyEntity;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+// Remembers the outcome of every payment submitted with an idempotency key. Entries are written in
+// their own transactions, so a charge is remembered even when the business transaction that asked
+// for it rolls back; a client retrying with the same key gets the stored result back. A successful
+// payment is only final once the gift or pre-order it paid for is linked to it; final entries are
+// also held in memory, so a retry storm is served without touching the database.
+@ApplicationScoped
+@Slf4j
+public class PaymentIdempotencyStore {
+
+    @ConfigProperty(name = "catalog.payments.idempotency.ttl", defaultValue = "24h")
+    Duration ttl;
+
+    @ConfigProperty(name = "catalog.payments.idempotency.in-progress-lease", defaultValue = "1m")
+    Duration inProgressLease;
+
+    @ConfigProperty(name = "catalog.payments.idempotency.cache-size", defaultValue = "100000")
+    long cacheSize;
+
+    @Inject
+    PaymentIdempotencyRepository repository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private Cache<String, StoredPayment> completed;
+
+    @PostConstruct
+    void init() {
+        completed = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "payment-idempotency");
+    }
+
+    // Returns the stored result when the key already completed; otherwise reserves the key for the
+    // caller, who must then call complete() or release()
+    public Optional<PaymentServicePort.PaymentResult> reserve(String idempotencyKey, PaymentServicePort.PaymentRequest request) {
+        String fingerprint = fingerprint(request);
+
+        StoredPayment cached = completed.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            return Optional.of(replay(cached, fingerprint));
+        }
+
+        Optional<StoredPayment> stored;
+        try {
+            stored = QuarkusTransaction.requiringNew().call(() -> reserveInTransaction(idempotencyKey, fingerprint));
+        } catch (PersistenceException e) {
+            if (!isDuplicateKey(e)) {
+                throw e;
+            }
+            // Another request inserted the same key between our lookup and insert
+            throw new IllegalStateException("Ya hay un pago en curso con esta clave de idempotencia");
+        }
+
+        stored.filter(payment -> isFinal(payment.getResult()))
+                .ifPresent(payment -> completed.put(idempotencyKey, payment));
+        return stored.map(payment -> replay(payment, fingerprint));
+    }
+
+    public void complete(String idempotencyKey, PaymentServicePort.PaymentResult result) {
+        Optional<String> fingerprint = QuarkusTransaction.requiringNew().call(() -> repository.findByIdOptional(idempotencyKey)
+                .map(entry -> {
+                    entry.setStatus(PaymentIdempotencyEntity.STATUS_COMPLETED);
+                    entry.setPaymentId(result.paymentId);
+                    entry.setPaymentStatus(result.status);
+                    entry.setTransactionId(result.transactionId);
+                    entry.setErrorMessage(result.errorMessage);
+                    entry.setProcessedAt(result.processedAt);
+                    entry.setUpdatedAt(LocalDateTime.now());
+                    return entry.getFingerprint();
+                }));
+        // Cached only once the outcome has committed
+        if (fingerprint.isPresent() && isFinal(result)) {
+            completed.put(idempotencyKey, new StoredPayment(fingerprint.get(), copy(result)));
+        }
+    }
+
+    // Joins the caller's transaction: the link commits or rolls back with the resource it points to.
+    // The row lock makes a concurrent retry wait here and then see the first request's resource.
+    public Optional<String> linkResource(String idempotencyKey, String resourceId) {
+        return QuarkusTransaction.joiningExisting().call(() -> {
+            Optional<PaymentIdempotencyEntity> existing = repository.findForUpdate(idempotencyKey);
+            if (existing.isEmpty()) {
+                return Optional.empty();
+            }
+            PaymentIdempotencyEntity entry = existing.get();
+            if (entry.getResourceId() != null) {
+                return Optional.of(entry.getResourceId());
+            }
+            entry.setResourceId(resourceId);
+            entry.setUpdatedAt(LocalDateTime.now());
+            return Optional.empty();
+        });
+    }
+
+    public Optional<String> findLinkedResource(String idempotencyKey) {
+        StoredPayment cached = completed.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            return Optional.ofNullable(cached.getResult().resourceId);
+        }
+        return QuarkusTransaction.requiringNew().call(() -> repository.findByIdOptional(idempotencyKey)
+                .map(PaymentIdempotencyEntity::getResourceId));
+    }
+
+    // Gives the key back when the outcome is unknown, so the next retry asks the provider again
+    public void release(String idempotencyKey) {
+        QuarkusTransaction.requiringNew().run(() -> repository.deleteById(idempotencyKey));
+    }
+
+    @Scheduled(every = "${catalog.payments.idempotency.purge-interval:1h}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void purgeExpired() {
+        try {
+            long purged = QuarkusTransaction.requiringNew().call(() ->
+                    repository.deleteCreatedBefore(LocalDateTime.now().minus(ttl)));
+            if (purged > 0) {
+                log.info("Purged {} expired payment idempotency keys", purged);
+            }
+        } catch (Exception e) {
+            log.error("Error purging payment idempotency keys", e);
+        }
+    }
+
+    // Returns the completed entry, if any; the caller caches and replays it after the commit
+    private Optional<StoredPayment> reserveInTransaction(String idempotencyKey, String fingerprint) {
+        Optional<PaymentIdempotencyEntity> existing = repository.findForUpdate(idempotencyKey);
+        if (existing.isEmpty()) {
+            repository.persist(PaymentIdempotencyEntity.builder()
+                    .idempotencyKey(idempotencyKey)
+                    .fingerprint(fingerprint)
+                    .build());
+            repository.flush();
+            return Optional.empty();
+        }
+
+        PaymentIdempotencyEntity entry = existing.get();
+        if (PaymentIdempotencyEntity.STATUS_COMPLETED.equals(entry.getStatus())) {
+            return Optional.of(new StoredPayment(entry.getFingerprint(), toResult(entry)));
+        }
+
+        if (!entry.getFingerprint().equals(fingerprint)) {
+            throw new IllegalArgumentException("La clave de idempotencia ya se usó con otra solicitud de pago");
+        }
+        // An in-progress entry whose lease ran out belongs to a request that died mid-payment
+        if (entry.getUpdatedAt().isAfter(LocalDateTime.now().minus(inProgressLease))) {
+            throw new IllegalStateException("Ya hay un pago en curso con esta clave de idempotencia");
+        }
+        log.warn("Taking over stale payment idempotency key: {}", idempotencyKey);
+        entry.setUpdatedAt(LocalDateTime.now());
+        return Optional.empty();
+    }
+
+    // A success whose resource isn't linked yet may still gain one, so it is not cached
+    private static boolean isFinal(PaymentServicePort.PaymentResult result) {
+        return !"SUCCESS".equals(result.status) || result.resourceId != null;
+    }
+
+    private static boolean isDuplicateKey(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PaymentServicePort.PaymentResult replay(StoredPayment stored, String fingerprint) {
+        if (!stored.getFingerprint().equals(fingerprint)) {
+            throw new IllegalArgumentException("La clave de idempotencia ya se usó con otra solicitud de pago");
+        }
+        return copy(stored.getResult());
+    }
+
+    private static PaymentServicePort.PaymentResult toResult(PaymentIdempotencyEntity entry) {
+        return PaymentServicePort.PaymentResult.builder()
+                .paymentId(entry.getPaymentId())
+                .status(entry.getPaymentStatus())
+                .transactionId(entry.getTransactionId())
+                .errorMessage(entry.getErrorMessage())
+                .processedAt(entry.getProcessedAt())
+                .resourceId(entry.getResourceId())
+                .build();
+    }
+
+    // PaymentResult is mutable; callers never share the stored instance
+    private static PaymentServicePort.PaymentResult copy(PaymentServicePort.PaymentResult result) {
+        return PaymentServicePort.PaymentResult.builder()
+                .paymentId(result.paymentId)
+                .status(result.status)
+                .transactionId(result.transactionId)
+                .errorMessage(result.errorMessage)
+                .processedAt(result.processedAt)
+                .resourceId(result.resourceId)
+                .build();
+    }
+
+    static String fingerprint(PaymentServicePort.PaymentRequest request) {
+        String canonical = String.join("|",
+                String.valueOf(request.userId),
+                request.amount != null ? request.amount.stripTrailingZeros().toPlainString() : "null",
+                String.valueOf(request.currency),
+                String.valueOf(request.gameId),
+                String.valueOf(request.recipientId),
+                String.valueOf(request.paymentMethod));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 no disponible en esta JVM", e);
+        }
+    }
+
+    @Value
+    private static class StoredPayment {
+        String fingerprint;
+        PaymentServicePort.PaymentResult result;
+    }
+}
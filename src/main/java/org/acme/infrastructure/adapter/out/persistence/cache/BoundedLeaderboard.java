@@ -0,0 +1,124 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+// Holds the best `capacity` eligible entries in order. The comparator must be total, so it
+// breaks ties on id. Everything outside the board ranks below its last entry, so the board is
+// always an exact prefix of the full ranking. Entries are copied in and out, so callers may
+// mutate theirs.
+final class BoundedLeaderboard<T> {
+
+    private final Comparator<T> order;
+    private final Predicate<T> eligible;
+    private final Function<T, String> idOf;
+    private final UnaryOperator<T> copy;
+    private final int capacity;
+    private final int minSize;
+
+    private final ConcurrentSkipListSet<T> ranked;
+    private final Map<String, T> byId = new HashMap<>();
+    private volatile boolean loaded;
+    private boolean complete; // true when the board holds every eligible game
+
+    BoundedLeaderboard(Comparator<T> order, Predicate<T> eligible, Function<T, String> idOf, UnaryOperator<T> copy,
+                       int capacity, int minSize) {
+        this.order = order;
+        this.eligible = eligible;
+        this.idOf = idOf;
+        this.copy = copy;
+        this.capacity = capacity;
+        this.minSize = minSize;
+        this.ranked = new ConcurrentSkipListSet<>(this.order);
+    }
+
+    List<T> top(int limit, IntFunction<List<T>> loader) {
+        if (!loaded) {
+            reload(loader);
+        }
+
+        List<T> result = new ArrayList<>(limit);
+        for (T entry : ranked) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(copy.apply(entry));
+        }
+        return result;
+    }
+
+    synchronized void update(T item) {
+        if (!loaded) {
+            return; // the next read loads from the database anyway
+        }
+
+        String id = idOf.apply(item);
+        T previous = byId.remove(id);
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+
+        if (eligible.test(item)) {
+            T entry = copy.apply(item);
+            if (complete || (!ranked.isEmpty() && order.compare(entry, ranked.last()) < 0)) {
+                ranked.add(entry);
+                byId.put(id, entry);
+                if (ranked.size() > capacity) {
+                    T evicted = ranked.pollLast();
+                    byId.remove(idOf.apply(evicted));
+                    complete = false;
+                }
+            }
+        }
+
+        checkSize();
+    }
+
+    synchronized void remove(String id) {
+        T previous = byId.remove(id);
+        if (previous != null) {
+            ranked.remove(previous);
+            checkSize();
+        }
+    }
+
+    synchronized void invalidate() {
+        loaded = false;
+    }
+
+    private synchronized void reload(IntFunction<List<T>> loader) {
+        if (loaded) {
+            return;
+        }
+
+        // One extra row tells us whether the board can hold every eligible entry
+        List<T> rows = loader.apply(capacity + 1);
+        ranked.clear();
+        byId.clear();
+        rows.stream()
+                .limit(capacity)
+                .map(copy)
+                .forEach(entry -> {
+                    ranked.add(entry);
+                    byId.put(idOf.apply(entry), entry);
+                });
+        complete = rows.size() <= capacity;
+        loaded = true;
+    }
+
+    // After removals the board may no longer cover the largest page we serve; we can't tell
+    // what ranks next without the database, so refill on the next read
+    private void checkSize() {
+        if (!complete && ranked.size() < minSize) {
+            loaded = false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.valueobjects.GameId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@ApplicationScoped
+@Slf4j
+public class GameCatalogCache {
+
+    @ConfigProperty(name = "catalog.cache.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "catalog.cache.ttl", defaultValue = "5m")
+    Duration ttl;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    private Cache<String, Game> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "game-catalog");
+        log.info("Game catalog cache initialized - maxSize: {}, ttl: {}", maxSize, ttl);
+    }
+
+    public Optional<Game> get(GameId id, Function<GameId, Optional<Game>> loader) {
+        // Concurrent misses for the same id share a single load
+        // Entries are copied in and out, which also detaches them from any lazy Hibernate collection
+        Game cached = cache.get(id.getValue(), key -> loader.apply(id).map(Game::copy).orElse(null));
+        return Optional.ofNullable(cached).map(Game::copy);
+    }
+
+    public void invalidate(GameId id) {
+        cache.invalidate(id.getValue());
+
+        // A concurrent reader may reload the old row before our transaction commits,
+        // so evict again once the outcome is known.
+        if (transactionSynchronizationRegistry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id.getValue());
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+}
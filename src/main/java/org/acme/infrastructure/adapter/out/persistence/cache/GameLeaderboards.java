@@ -0,0 +1,68 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.domain.event.GameChangedEvent;
+import org.acme.domain.model.Game;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+
+@ApplicationScoped
+@Slf4j
+public class GameLeaderboards {
+
+    // Largest limit accepted by GameUseCase.getTopRatedGames/getRecentlyAddedGames
+    static final int MAX_LIMIT = 100;
+
+    // Same ordering as the database queries used to load the boards
+    private static final Comparator<Game> BY_RATING = Comparator
+            .comparing((Game game) -> game.getRating().getValue(), Comparator.reverseOrder())
+            .thenComparing(game -> game.getRating().getTotalVotes(), Comparator.reverseOrder())
+            .thenComparing(game -> game.getId().getValue());
+
+    private static final Comparator<Game> BY_CREATED_AT = Comparator
+            .comparing(Game::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(game -> game.getId().getValue(), Comparator.reverseOrder());
+
+    @ConfigProperty(name = "catalog.leaderboard.capacity", defaultValue = "200")
+    int capacity;
+
+    private BoundedLeaderboard<Game> topRated;
+    private BoundedLeaderboard<Game> recentlyAdded;
+
+    @PostConstruct
+    void init() {
+        int boardCapacity = Math.max(capacity, MAX_LIMIT);
+        topRated = new BoundedLeaderboard<>(BY_RATING,
+                game -> Boolean.TRUE.equals(game.getIsActive()) && game.getRating() != null,
+                game -> game.getId().getValue(), Game::copy, boardCapacity, MAX_LIMIT);
+        recentlyAdded = new BoundedLeaderboard<>(BY_CREATED_AT,
+                game -> Boolean.TRUE.equals(game.getIsActive()),
+                game -> game.getId().getValue(), Game::copy, boardCapacity, MAX_LIMIT);
+        log.info("Game leaderboards initialized - capacity: {}", boardCapacity);
+    }
+
+    public List<Game> topRated(int limit, IntFunction<List<Game>> loader) {
+        return topRated.top(limit, loader);
+    }
+
+    public List<Game> recentlyAdded(int limit, IntFunction<List<Game>> loader) {
+        return recentlyAdded.top(limit, loader);
+    }
+
+    void onGameChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameChangedEvent event) {
+        if (event.isDeleted()) {
+            topRated.remove(event.getGameId().getValue());
+            recentlyAdded.remove(event.getGameId().getValue());
+        } else {
+            topRated.update(event.getGame());
+            recentlyAdded.update(event.getGame());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.domain.event.ReviewChangedEvent;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Rating;
+import org.acme.domain.model.valueobjects.ReviewSummary;
+import org.acme.domain.repository.GameRepository;
+import org.acme.domain.repository.ReviewRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Keeps Game.rating in step with the review stream without touching the game row on every
+// review. Committed review changes only mark their game; each flush turns the per-game review
+// counts (kept exact by the summary table) into ratings and writes them in one batch, so a
+// burst of reviews for one game costs a single rating update. The dirty set only lives in memory,
+// so a periodic reconciliation (which also runs right after startup) picks up games whose rating
+// vote count no longer matches their review count, e.g. after a restart lost pending marks.
+@ApplicationScoped
+@Slf4j
+public class GameRatingAggregator {
+
+    @ConfigProperty(name = "catalog.ratings.batch-size", defaultValue = "200")
+    int batchSize;
+
+    @Inject
+    ReviewRepository reviewRepository;
+
+    @Inject
+    GameRepository gameRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final Set<String> dirtyGames = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Counter updatedCounter;
+    private Counter reconciledCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("ratings.pending_games", dirtyGames, Set::size)
+                .description("Games whose rating is waiting for the next flush")
+                .register(meterRegistry);
+        updatedCounter = meterRegistry.counter("ratings.games_updated");
+        reconciledCounter = meterRegistry.counter("ratings.games_reconciled");
+        flushTimer = meterRegistry.timer("ratings.flush");
+
+        log.info("Game rating aggregator initialized - batchSize: {}", batchSize);
+    }
+
+    void onReviewChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ReviewChangedEvent event) {
+        if (!event.isVotesOnly()) {
+            dirtyGames.add(event.getGameId().getValue());
+        }
+    }
+
+    @Scheduled(every = "${catalog.ratings.flush-interval:5s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Error flushing game ratings", e);
+        }
+    }
+
+    @Scheduled(every = "${catalog.ratings.reconcile-interval:1h}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("Error reconciling game ratings", e);
+        }
+    }
+
+    void onShutdown(@Observes ShutdownEvent event) {
+        scheduledFlush();
+    }
+
+    // Marks every game whose rating has drifted from its review summary and flushes them;
+    // returns how many games were found
+    public int reconcile() {
+        int found = 0;
+        String afterId = null;
+        List<GameId> drifted;
+        do {
+            String cursor = afterId;
+            drifted = QuarkusTransaction.requiringNew().call(() -> gameRepository.findRatingDrift(cursor, batchSize));
+            drifted.forEach(id -> dirtyGames.add(id.getValue()));
+            found += drifted.size();
+            if (!drifted.isEmpty()) {
+                afterId = drifted.get(drifted.size() - 1).getValue();
+            }
+        } while (drifted.size() == batchSize);
+
+        if (found > 0) {
+            log.warn("Found {} games whose rating drifted from their reviews", found);
+            reconciledCounter.increment(found);
+            flush();
+        }
+        return found;
+    }
+
+    // Returns how many game ratings were written. Games from a failed batch are marked again
+    // and retried on the next flush.
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushTimer.record(this::flushDirty);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushDirty() {
+        // Removed before reading, so a review committed during the flush marks the game again
+        List<String> pending = new ArrayList<>(dirtyGames.size());
+        for (String gameId : dirtyGames) {
+            if (dirtyGames.remove(gameId)) {
+                pending.add(gameId);
+            }
+        }
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<String> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            try {
+                updated += QuarkusTransaction.requiringNew().call(() -> writeRatings(chunk));
+            } catch (Exception e) {
+                log.warn("Error updating ratings for {} games, retrying on next flush: {}", chunk.size(), e.getMessage());
+                dirtyGames.addAll(chunk);
+            }
+        }
+
+        updatedCounter.increment(updated);
+        log.debug("Updated ratings for {} games", updated);
+        return updated;
+    }
+
+    private int writeRatings(List<String> gameIds) {
+        List<ReviewSummary> summaries = reviewRepository.getSummaries(gameIds.stream().map(GameId::new).toList());
+
+        Map<GameId, Rating> ratings = new HashMap<>();
+        for (ReviewSummary summary : summaries) {
+            ratings.put(new GameId(summary.getGameId()),
+                    Rating.fromReviews(summary.getPositiveReviews(), summary.getTotalReviews()));
+        }
+        gameRepository.updateRatings(ratings);
+        return ratings.size();
+    }
+}
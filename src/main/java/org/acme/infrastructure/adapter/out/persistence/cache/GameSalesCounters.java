@@ -0,0 +1,190 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+// Sales of one game in three rings of fixed-size buckets: minutes, hours and days. Each slot is
+// tagged with the bucket it holds, so a slot from an older lap is recycled on write and skipped
+// on read; nothing ever has to reset the counters. Buckets follow local wall-clock time, so a
+// day bucket runs from midnight to midnight.
+final class GameSalesCounters {
+
+    static final int MINUTE_BUCKETS = 60;
+    static final int HOUR_BUCKETS = 48;
+    static final int DAY_BUCKETS = 90;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final Ring minutes = new Ring(1, MINUTE_BUCKETS);
+    private final Ring hours = new Ring(60, HOUR_BUCKETS);
+    private final Ring days = new Ring(24 * 60, DAY_BUCKETS);
+    int idleSnapshots; // only touched by SalesCounterStore inside the map's compute
+
+    synchronized void record(LocalDateTime at, long sales, long revenueCents) {
+        long minute = epochMinute(at);
+        minutes.add(minute, sales, revenueCents);
+        hours.add(minute, sales, revenueCents);
+        days.add(minute, sales, revenueCents);
+    }
+
+    // Returns {sales, revenueCents}; O(buckets)
+    synchronized long[] window(ChronoUnit unit, int buckets, LocalDateTime at) {
+        return ring(unit).sum(epochMinute(at), buckets);
+    }
+
+    static int maxBuckets(ChronoUnit unit) {
+        return switch (unit) {
+            case MINUTES -> MINUTE_BUCKETS;
+            case HOURS -> HOUR_BUCKETS;
+            case DAYS -> DAY_BUCKETS;
+            default -> 0;
+        };
+    }
+
+    // Only occupied buckets are written, each as a varint gap from the previous bucket id
+    // followed by its sales and revenue, so a game with sparse sales encodes to a few bytes
+    synchronized byte[] snapshot() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            minutes.write(out);
+            hours.write(out);
+            days.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static GameSalesCounters restore(byte[] snapshot) {
+        GameSalesCounters counters = new GameSalesCounters();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Versión de instantánea de ventas no soportada: " + version);
+            }
+            counters.minutes.read(in);
+            counters.hours.read(in);
+            counters.days.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return counters;
+    }
+
+    private Ring ring(ChronoUnit unit) {
+        return switch (unit) {
+            case MINUTES -> minutes;
+            case HOURS -> hours;
+            case DAYS -> days;
+            default -> throw new IllegalArgumentException("Unidad de tiempo no soportada: " + unit);
+        };
+    }
+
+    private static long epochMinute(LocalDateTime at) {
+        // Local time read as UTC: bucket boundaries land on local minutes, hours and midnights
+        return Math.floorDiv(at.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint demasiado largo");
+    }
+
+    private static final class Ring {
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final int minutesPerBucket;
+        private final long[] bucketIds;
+        private final long[] sales;
+        private final long[] revenueCents;
+
+        Ring(int minutesPerBucket, int size) {
+            this.minutesPerBucket = minutesPerBucket;
+            this.bucketIds = new long[size];
+            this.sales = new long[size];
+            this.revenueCents = new long[size];
+            Arrays.fill(bucketIds, EMPTY);
+        }
+
+        void add(long minute, long count, long cents) {
+            long bucket = Math.floorDiv(minute, minutesPerBucket);
+            int slot = slot(bucket);
+            if (bucketIds[slot] != bucket) {
+                if (bucketIds[slot] > bucket) {
+                    return; // older than this ring reaches
+                }
+                bucketIds[slot] = bucket;
+                sales[slot] = 0;
+                revenueCents[slot] = 0;
+            }
+            sales[slot] += count;
+            revenueCents[slot] += cents;
+        }
+
+        long[] sum(long minute, int buckets) {
+            long current = Math.floorDiv(minute, minutesPerBucket);
+            long[] total = new long[2];
+            for (int i = 0; i < buckets; i++) {
+                int slot = slot(current - i);
+                if (bucketIds[slot] == current - i) {
+                    total[0] += sales[slot];
+                    total[1] += revenueCents[slot];
+                }
+            }
+            return total;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            long[] occupied = Arrays.stream(bucketIds).filter(id -> id != EMPTY).sorted().toArray();
+            writeVarLong(out, occupied.length);
+            long previous = 0;
+            for (long bucket : occupied) {
+                int slot = slot(bucket);
+                writeVarLong(out, bucket - previous);
+                writeVarLong(out, sales[slot]);
+                writeVarLong(out, revenueCents[slot]);
+                previous = bucket;
+            }
+        }
+
+        void read(DataInputStream in) throws IOException {
+            long count = readVarLong(in);
+            long bucket = 0;
+            for (long i = 0; i < count; i++) {
+                bucket += readVarLong(in);
+                int slot = slot(bucket);
+                bucketIds[slot] = bucket;
+                sales[slot] = readVarLong(in);
+                revenueCents[slot] = readVarLong(in);
+            }
+        }
+
+        private int slot(long bucket) {
+            return (int) Math.floorMod(bucket, (long) bucketIds.length);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.domain.event.ReviewChangedEvent;
+import org.acme.domain.model.Review;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+
+// Per-game board of the most helpful reviews, loaded from the database on first read and then
+// kept current from review writes and vote flushes instead of being re-sorted per request
+@ApplicationScoped
+@Slf4j
+public class HelpfulReviewIndex {
+
+    // Largest limit accepted by ReviewUseCase.getMostHelpfulReviews
+    static final int MAX_LIMIT = 100;
+
+    // Same ordering as ReviewRepositoryAdapter.queryMostHelpful
+    static final Comparator<Review> BY_HELPFULNESS = Comparator
+            .comparingDouble(Review::getHelpfulnessScore).reversed()
+            .thenComparing(Review::getTotalVotes, Comparator.reverseOrder())
+            .thenComparing(Review::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Review::getId);
+
+    // Rows kept beyond MAX_LIMIT absorb deletions and falling scores; at exactly MAX_LIMIT the
+    // first one drops the board below the largest limit and forces a reload
+    @ConfigProperty(name = "catalog.reviews.helpful-index.capacity", defaultValue = "200")
+    int capacity;
+
+    @ConfigProperty(name = "catalog.reviews.helpful-index.max-games", defaultValue = "5000")
+    long maxGames;
+
+    @ConfigProperty(name = "catalog.reviews.helpful-index.ttl", defaultValue = "30m")
+    Duration ttl;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private Cache<String, BoundedLeaderboard<Review>> boards;
+
+    @PostConstruct
+    void init() {
+        boards = Caffeine.newBuilder()
+                .maximumSize(maxGames)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, boards, "helpful-reviews");
+
+        log.info("Helpful review index initialized - capacity: {}, maxGames: {}, ttl: {}",
+                Math.max(capacity, MAX_LIMIT), maxGames, ttl);
+    }
+
+    public List<Review> mostHelpful(String gameId, int limit, IntFunction<List<Review>> loader) {
+        return boards.get(gameId, key -> newBoard()).top(limit, loader);
+    }
+
+    void onReviewChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ReviewChangedEvent event) {
+        // Games nobody has asked about are not tracked; their board is loaded on the first read
+        BoundedLeaderboard<Review> board = boards.getIfPresent(event.getGameId().getValue());
+        if (board == null) {
+            return;
+        }
+        if (event.isDeleted()) {
+            board.remove(event.getReviewId());
+        } else {
+            board.update(event.getReview());
+        }
+    }
+
+    private BoundedLeaderboard<Review> newBoard() {
+        return new BoundedLeaderboard<>(BY_HELPFULNESS,
+                review -> Boolean.TRUE.equals(review.getIsActive()),
+                Review::getId, Review::copy, Math.max(capacity, MAX_LIMIT), MAX_LIMIT);
+    }
+}
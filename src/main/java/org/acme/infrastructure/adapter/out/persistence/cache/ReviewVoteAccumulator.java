@@ -0,0 +1,195 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.ReviewVotePort;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.ReviewVotes;
+import org.acme.domain.repository.ReviewRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Votes land in per-review LongAdders, so concurrent voters on a popular review touch different
+// cells instead of contending on one row lock. Each flush moves the accumulated counts to the
+// database one chunk per transaction; a vote is visible in the row up to one flush interval later.
+@ApplicationScoped
+@Slf4j
+public class ReviewVoteAccumulator implements ReviewVotePort {
+
+    @ConfigProperty(name = "catalog.reviews.votes.batch-size", defaultValue = "500")
+    int batchSize;
+
+    // Consecutive empty flushes before a review's counter is dropped from memory
+    @ConfigProperty(name = "catalog.reviews.votes.idle-flushes", defaultValue = "60")
+    int idleFlushes;
+
+    @Inject
+    ReviewRepository reviewRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, VoteCounter> counters = new ConcurrentHashMap<>();
+    // Counters evicted on the previous flush; a voter may still have held a reference to one
+    // while it was removed, so they are drained once more before being forgotten
+    private final List<Map.Entry<String, VoteCounter>> retired = new ArrayList<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Counter flushedCounter;
+    private Counter discardedCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("reviews.votes.pending_reviews", counters, Map::size)
+                .description("Reviews with votes held in memory")
+                .register(meterRegistry);
+        flushedCounter = meterRegistry.counter("reviews.votes.flushed");
+        discardedCounter = meterRegistry.counter("reviews.votes.discarded");
+        flushTimer = meterRegistry.timer("reviews.votes.flush");
+
+        log.info("Review vote accumulator initialized - batchSize: {}, idleFlushes: {}", batchSize, idleFlushes);
+    }
+
+    @Override
+    public Optional<GameId> trackedGame(String reviewId) {
+        VoteCounter counter = counters.get(reviewId);
+        return counter != null ? Optional.of(counter.gameId) : Optional.empty();
+    }
+
+    @Override
+    public void recordVote(String reviewId, GameId gameId, boolean helpful) {
+        VoteCounter counter = counters.computeIfAbsent(reviewId, id -> new VoteCounter(gameId));
+        if (helpful) {
+            counter.helpful.increment();
+        } else {
+            counter.unhelpful.increment();
+        }
+    }
+
+    @Scheduled(every = "${catalog.reviews.votes.flush-interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Error flushing review votes", e);
+        }
+    }
+
+    void onShutdown(@Observes ShutdownEvent event) {
+        scheduledFlush();
+    }
+
+    // Returns how many votes were written. A chunk that fails to commit is added back to the
+    // counters and retried on the next flush.
+    public long flush() {
+        flushLock.lock();
+        try {
+            return flushTimer.record(this::flushPending);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private long flushPending() {
+        // Sorted so that concurrent writers always lock review rows in the same order
+        Map<String, PendingVotes> pending = new TreeMap<>();
+        for (Map.Entry<String, VoteCounter> entry : retired) {
+            collect(pending, entry.getKey(), entry.getValue());
+        }
+        retired.clear();
+
+        counters.forEach((reviewId, counter) -> {
+            if (collect(pending, reviewId, counter)) {
+                counter.idleFlushes = 0;
+            } else if (++counter.idleFlushes >= idleFlushes && counters.remove(reviewId, counter)) {
+                retired.add(Map.entry(reviewId, counter));
+            }
+        });
+
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        long written = 0;
+        List<ReviewVotes> votes = new ArrayList<>(pending.size());
+        pending.forEach((reviewId, counts) ->
+                votes.add(new ReviewVotes(reviewId, counts.gameId, counts.helpful, counts.helpful + counts.unhelpful)));
+        for (int from = 0; from < votes.size(); from += batchSize) {
+            List<ReviewVotes> chunk = votes.subList(from, Math.min(from + batchSize, votes.size()));
+            try {
+                written += QuarkusTransaction.requiringNew().call(() -> writeChunk(chunk));
+            } catch (Exception e) {
+                log.warn("Error writing votes for {} reviews, retrying on next flush: {}", chunk.size(), e.getMessage());
+                chunk.forEach(this::restore);
+            }
+        }
+
+        flushedCounter.increment(written);
+        log.debug("Flushed {} review votes for {} reviews", written, pending.size());
+        return written;
+    }
+
+    private long writeChunk(List<ReviewVotes> chunk) {
+        long offered = chunk.stream().mapToLong(ReviewVotes::getTotalVotes).sum();
+        long written = reviewRepository.addVotes(chunk).stream().mapToLong(ReviewVotes::getTotalVotes).sum();
+        discardedCounter.increment(offered - written);
+        return written;
+    }
+
+    private boolean collect(Map<String, PendingVotes> pending, String reviewId, VoteCounter counter) {
+        long helpful = counter.helpful.sumThenReset();
+        long unhelpful = counter.unhelpful.sumThenReset();
+        if (helpful == 0 && unhelpful == 0) {
+            return false;
+        }
+        PendingVotes votes = pending.computeIfAbsent(reviewId, id -> new PendingVotes(counter.gameId));
+        votes.helpful += helpful;
+        votes.unhelpful += unhelpful;
+        return true;
+    }
+
+    private void restore(ReviewVotes votes) {
+        VoteCounter counter = counters.computeIfAbsent(votes.getReviewId(), id -> new VoteCounter(votes.getGameId()));
+        counter.helpful.add(votes.getHelpfulVotes());
+        counter.unhelpful.add(votes.getTotalVotes() - votes.getHelpfulVotes());
+    }
+
+    private static final class VoteCounter {
+        final GameId gameId;
+        final LongAdder helpful = new LongAdder();
+        final LongAdder unhelpful = new LongAdder();
+        int idleFlushes; // only touched under flushLock
+
+        VoteCounter(GameId gameId) {
+            this.gameId = gameId;
+        }
+    }
+
+    private static final class PendingVotes {
+        final GameId gameId;
+        long helpful;
+        long unhelpful;
+
+        PendingVotes(GameId gameId) {
+            this.gameId = gameId;
+        }
+    }
+}
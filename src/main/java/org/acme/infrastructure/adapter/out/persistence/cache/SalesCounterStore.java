@@ -0,0 +1,187 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.SalesCounterPort;
+import org.acme.domain.event.GamePurchasedEvent;
+import org.acme.domain.model.valueobjects.SalesWindow;
+import org.acme.infrastructure.adapter.out.persistence.repository.SalesCounterSnapshotRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Rolling per-game sales counters fed by committed purchases. Games are loaded from their last
+// snapshot on first use; changed games are snapshotted periodically and dropped from memory after
+// catalog.sales.idle-snapshots quiet snapshot runs.
+@ApplicationScoped
+@Slf4j
+public class SalesCounterStore implements SalesCounterPort {
+
+    @ConfigProperty(name = "catalog.sales.snapshot-batch-size", defaultValue = "200")
+    int batchSize;
+
+    @ConfigProperty(name = "catalog.sales.idle-snapshots", defaultValue = "30")
+    int idleSnapshots;
+
+    @Inject
+    SalesCounterSnapshotRepository snapshotRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, GameSalesCounters> counters = new ConcurrentHashMap<>();
+    private final Set<String> dirtyGames = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private Counter recordedCounter;
+    private Counter snapshotCounter;
+    private Timer snapshotTimer;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("sales.counters.games", counters, Map::size)
+                .description("Games whose sales counters are held in memory")
+                .register(meterRegistry);
+        recordedCounter = meterRegistry.counter("sales.counters.recorded");
+        snapshotCounter = meterRegistry.counter("sales.counters.snapshots");
+        snapshotTimer = meterRegistry.timer("sales.counters.snapshot");
+
+        log.info("Sales counter store initialized - batchSize: {}, idleSnapshots: {}", batchSize, idleSnapshots);
+    }
+
+    void onGamePurchased(@Observes(during = TransactionPhase.AFTER_SUCCESS) GamePurchasedEvent event) {
+        record(event.getGameId().getValue(), event.getPurchasedAt(), event.getAmount().getAmount());
+    }
+
+    public void record(String gameId, LocalDateTime at, BigDecimal amount) {
+        long cents = amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+        // Recorded inside the map's compute so a concurrent idle eviction cannot drop the sale;
+        // if the game was evicted between the load and the compute, it is loaded again
+        GameSalesCounters recorded;
+        do {
+            countersFor(gameId);
+            recorded = counters.computeIfPresent(gameId, (id, gameCounters) -> {
+                gameCounters.record(at, 1, cents);
+                gameCounters.idleSnapshots = 0;
+                dirtyGames.add(id);
+                return gameCounters;
+            });
+        } while (recorded == null);
+        recordedCounter.increment();
+    }
+
+    @Override
+    public SalesWindow window(String gameId, ChronoUnit unit, int buckets, LocalDateTime at) {
+        int max = GameSalesCounters.maxBuckets(unit);
+        if (max == 0) {
+            throw new IllegalArgumentException("Unidad de tiempo no soportada: " + unit);
+        }
+        if (buckets < 1 || buckets > max) {
+            throw new IllegalArgumentException("La ventana debe tener entre 1 y " + max + " intervalos");
+        }
+
+        long[] totals = countersFor(gameId).window(unit, buckets, at);
+        return new SalesWindow(totals[0], BigDecimal.valueOf(totals[1], 2));
+    }
+
+    @Scheduled(every = "${catalog.sales.snapshot-interval:1m}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (Exception e) {
+            log.error("Error writing sales counter snapshots", e);
+        }
+    }
+
+    void onShutdown(@Observes ShutdownEvent event) {
+        scheduledSnapshot();
+    }
+
+    // Returns how many games were snapshotted. Games from a failed batch stay dirty and are
+    // written on the next run.
+    public int snapshot() {
+        snapshotLock.lock();
+        try {
+            return snapshotTimer.record(this::snapshotDirty);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private int snapshotDirty() {
+        // Encoded after removal from the dirty set, so a sale recorded meanwhile marks it again
+        List<Map.Entry<String, byte[]>> pending = new ArrayList<>();
+        for (String gameId : dirtyGames) {
+            GameSalesCounters gameCounters = counters.get(gameId);
+            if (dirtyGames.remove(gameId) && gameCounters != null) {
+                pending.add(Map.entry(gameId, gameCounters.snapshot()));
+            }
+        }
+
+        int written = 0;
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<Map.Entry<String, byte[]>> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            try {
+                QuarkusTransaction.requiringNew().run(() ->
+                        chunk.forEach(entry -> snapshotRepository.write(entry.getKey(), entry.getValue())));
+                written += chunk.size();
+            } catch (Exception e) {
+                log.warn("Error writing sales snapshots for {} games, retrying on next run: {}", chunk.size(), e.getMessage());
+                chunk.forEach(entry -> dirtyGames.add(entry.getKey()));
+            }
+        }
+
+        evictIdle();
+        snapshotCounter.increment(written);
+        if (written > 0) {
+            log.debug("Wrote sales counter snapshots for {} games", written);
+        }
+        return written;
+    }
+
+    private void evictIdle() {
+        for (String gameId : counters.keySet()) {
+            counters.computeIfPresent(gameId, (id, gameCounters) ->
+                    !dirtyGames.contains(id) && ++gameCounters.idleSnapshots >= idleSnapshots ? null : gameCounters);
+        }
+    }
+
+    // The snapshot is read outside the map: a database call inside compute would hold the map's
+    // bin lock, blocking other games in the same bin. If two threads load the same game, the
+    // first one to publish wins and the other copy is dropped before anything is recorded on it.
+    private GameSalesCounters countersFor(String gameId) {
+        GameSalesCounters current = counters.get(gameId);
+        if (current != null) {
+            return current;
+        }
+        GameSalesCounters loaded = load(gameId);
+        GameSalesCounters raced = counters.putIfAbsent(gameId, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    private GameSalesCounters load(String gameId) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> snapshotRepository.read(gameId))
+                .map(GameSalesCounters::restore)
+                .orElseGet(GameSalesCounters::new);
+    }
+}
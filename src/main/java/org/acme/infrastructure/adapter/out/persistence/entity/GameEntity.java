@@ -2,6 +2,7 @@ package org.acme.infrastructure.adapter.out.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -9,12 +10,15 @@ import java.util.Set;
 import java.util.List;
 
 @Entity
-@Table(name = "games")
+@Table(name = "games", indexes = {
+        @Index(name = "idx_game_created_at_id", columnList = "created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(of = "id")
+@DynamicUpdate // updates write only the changed columns, so a rating flush leaves the rest of the row alone
 public class GameEntity {
 
     @Id
@@ -7,7 +7,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gifts")
+@Table(name = "gifts", indexes = {
+        @Index(name = "idx_gift_status_expiration", columnList = "status, expiration_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
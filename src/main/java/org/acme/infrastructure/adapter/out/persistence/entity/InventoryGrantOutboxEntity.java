@@ -0,0 +1,66 @@
+package org.acme.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "inventory_grant_outbox", indexes = {
+        @Index(name = "idx_grant_outbox_status", columnList = "status, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class InventoryGrantOutboxEntity {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_IN_FLIGHT = "IN_FLIGHT";
+    public static final String STATUS_PARKED = "PARKED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, length = 100)
+    private String userId;
+
+    @Column(name = "game_id", nullable = false, length = 36)
+    private String gameId;
+
+    @Column(name = "game_name", length = 200)
+    private String gameName;
+
+    @Column(name = "acquisition_type", length = 20)
+    private String acquisitionType;
+
+    @Column(name = "transaction_id", length = 100)
+    private String transactionId;
+
+    @Column(name = "acquired_at")
+    private LocalDateTime acquiredAt;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private String status = STATUS_PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,32 @@
+package org.acme.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// A confirmed pre-order the completion job gave up on; it stays CONFIRMED and is skipped by later
+// runs until the row is deleted
+@Entity
+@Table(name = "preorder_completion_quarantine")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "preOrderId")
+public class PreOrderCompletionQuarantineEntity {
+
+    @Id
+    @Column(name = "pre_order_id", length = 36)
+    private String preOrderId;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "quarantined_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime quarantinedAt = LocalDateTime.now();
+}
@@ -0,0 +1,62 @@
+package org.acme.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Checkpoint of a launch-day completion run; a RUNNING row left behind by a crash is resumed
+@Entity
+@Table(name = "preorder_completion_runs", indexes = {
+        @Index(name = "idx_completion_run_status", columnList = "status")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class PreOrderCompletionRunEntity {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_FINISHED = "FINISHED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private String status = STATUS_RUNNING;
+
+    // Pre-orders for games released after this instant belong to a later run
+    @Column(name = "released_by", nullable = false)
+    private LocalDateTime releasedBy;
+
+    // Every ready pre-order with an id up to this one has been completed
+    @Column(name = "last_pre_order_id", length = 36)
+    private String lastPreOrderId;
+
+    @Column(name = "completed", nullable = false)
+    @Builder.Default
+    private Long completed = 0L;
+
+    // Consecutive failed attempts at the chunk after the checkpoint
+    @Column(name = "failed_attempts", nullable = false)
+    @Builder.Default
+    private Integer failedAttempts = 0;
+
+    @Column(name = "quarantined", nullable = false)
+    @Builder.Default
+    private Long quarantined = 0L;
+
+    @Column(name = "started_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime startedAt = LocalDateTime.now();
+
+    @Column(name = "checkpointed_at")
+    private LocalDateTime checkpointedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 @Table(name = "pre_orders", indexes = {
         @Index(name = "idx_preorder_user_id", columnList = "user_id"),
         @Index(name = "idx_preorder_game_id", columnList = "game_id"),
-        @Index(name = "idx_preorder_user_game", columnList = "user_id, game_id") // Composite index
+        @Index(name = "idx_preorder_user_game", columnList = "user_id, game_id"), // Composite index
+        @Index(name = "idx_preorder_status_id", columnList = "status, id") // Keyset scan for launch-day completion
 })
 @Data
 @Builder
@@ -6,7 +6,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_review_game_id", columnList = "game_id"),
+        @Index(name = "idx_review_user_id", columnList = "user_id"),
+        @Index(name = "idx_review_game_helpfulness", columnList = "game_id, is_active, helpfulness_score")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -30,14 +34,20 @@ public class ReviewEntity {
     @Column(name = "is_recommended", nullable = false)
     private Boolean isRecommended;
 
-    @Column(name = "helpful_votes")
+    // Vote counts only change through relative UPDATEs, never through entity writes
+    @Column(name = "helpful_votes", updatable = false)
     @Builder.Default
     private Integer helpfulVotes = 0;
 
-    @Column(name = "total_votes")
+    @Column(name = "total_votes", updatable = false)
     @Builder.Default
     private Integer totalVotes = 0;
 
+    // Review.helpfulnessScore of the stored counts, kept so the ranking query can use an index
+    @Column(name = "helpfulness_score", nullable = false)
+    @Builder.Default
+    private Double helpfulnessScore = 0.0;
+
     @Column(name = "created_at", nullable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -54,12 +64,4 @@ public class ReviewEntity {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
-
-    @Index(name = "idx_review_game_id")
-    @Column(name = "game_id", insertable = false, updatable = false)
-    private String gameIdIndex;
-
-    @Index(name = "idx_review_user_id")
-    @Column(name = "user_id", insertable = false, updatable = false)
-    private String userIdIndex;
 }
@@ -0,0 +1,45 @@
+package org.acme.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Running review counts per game, kept in step with the reviews table by ReviewRepositoryAdapter
+@Entity
+@Table(name = "game_review_summaries")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "gameId")
+public class ReviewSummaryEntity {
+
+    @Id
+    @Column(name = "game_id", length = 36)
+    private String gameId;
+
+    @Column(name = "total_reviews", nullable = false)
+    @Builder.Default
+    private long totalReviews = 0;
+
+    @Column(name = "positive_reviews", nullable = false)
+    @Builder.Default
+    private long positiveReviews = 0;
+
+    @Column(name = "negative_reviews", nullable = false)
+    @Builder.Default
+    private long negativeReviews = 0;
+
+    @Column(name = "helpful_votes", nullable = false)
+    @Builder.Default
+    private long helpfulVotes = 0;
+
+    @Column(name = "total_votes", nullable = false)
+    @Builder.Default
+    private long totalVotes = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
@@ -0,0 +1,28 @@
+package org.acme.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Encoded minute/hour/day sales buckets of one game, written by SalesCounterStore
+@Entity
+@Table(name = "sales_counter_snapshots")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "gameId")
+public class SalesCounterSnapshotEntity {
+
+    @Id
+    @Column(name = "game_id", length = 36)
+    private String gameId;
+
+    @Column(name = "buckets", nullable = false, length = 8192)
+    private byte[] buckets;
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
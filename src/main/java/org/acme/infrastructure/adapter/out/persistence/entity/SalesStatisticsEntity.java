@@ -7,7 +7,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sales_statistics")
+@Table(name = "sales_statistics", indexes = {
+        @Index(name = "idx_stats_publisher_id", columnList = "publisher_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -29,26 +31,10 @@ public class SalesStatisticsEntity {
     @Builder.Default
     private Integer totalSales = 0;
 
-    @Column(name = "monthly_sales")
-    @Builder.Default
-    private Integer monthlySales = 0;
-
-    @Column(name = "weekly_sales")
-    @Builder.Default
-    private Integer weeklySales = 0;
-
-    @Column(name = "daily_sales")
-    @Builder.Default
-    private Integer dailySales = 0;
-
     @Column(name = "total_revenue", precision = 15, scale = 2)
     @Builder.Default
     private BigDecimal totalRevenue = BigDecimal.ZERO;
 
-    @Column(name = "monthly_revenue", precision = 15, scale = 2)
-    @Builder.Default
-    private BigDecimal monthlyRevenue = BigDecimal.ZERO;
-
     @Column(name = "average_rating", precision = 3, scale = 2)
     @Builder.Default
     private BigDecimal averageRating = BigDecimal.ZERO;
@@ -64,12 +50,4 @@ public class SalesStatisticsEntity {
     @Column(name = "last_updated", nullable = false)
     @Builder.Default
     private LocalDateTime lastUpdated = LocalDateTime.now();
-
-    @Index(name = "idx_stats_game_id")
-    @Column(name = "game_id", insertable = false, updatable = false)
-    private String gameIdIndex;
-
-    @Index(name = "idx_stats_publisher_id")
-    @Column(name = "publisher_id", insertable = false, updatable = false)
-    private String publisherIdIndex;
 }
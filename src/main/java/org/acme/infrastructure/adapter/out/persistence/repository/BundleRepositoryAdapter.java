@@ -0,0 +1,158 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.domain.event.BundleChangedEvent;
+import org.acme.domain.model.Bundle;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Price;
+import org.acme.domain.repository.BundleRepository;
+import org.acme.infrastructure.adapter.out.persistence.entity.BundleEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@Slf4j
+public class BundleRepositoryAdapter implements BundleRepository, PanacheRepositoryBase<BundleEntity, String> {
+
+    // Bundles always need their games; fetch them with the bundle instead of one lazy load per row
+    private static final String SELECT_WITH_GAMES = "SELECT DISTINCT b FROM BundleEntity b LEFT JOIN FETCH b.gameIds ";
+
+    @Inject
+    Event<BundleChangedEvent> bundleChangedEvent;
+
+    @Override
+    public Bundle save(Bundle bundle) {
+        log.debug("Saving bundle: {}", bundle.getId());
+
+        BundleEntity entity = getEntityManager().merge(toEntity(bundle));
+        Bundle savedBundle = toDomain(entity);
+        bundleChangedEvent.fire(BundleChangedEvent.saved(savedBundle));
+
+        log.debug("Bundle saved successfully: {}", entity.getId());
+        return savedBundle;
+    }
+
+    @Override
+    public Optional<Bundle> findById(String id) {
+        log.debug("Finding bundle by ID: {}", id);
+
+        return findByIdOptional(id).map(this::toDomain);
+    }
+
+    @Override
+    public List<Bundle> findAll(int page, int size) {
+        log.debug("Finding all bundles - page: {}, size: {}", page, size);
+
+        // Page over ids first; paging a collection fetch join would happen in memory
+        List<String> ids = getEntityManager()
+                .createQuery("SELECT b.id FROM BundleEntity b ORDER BY b.createdAt DESC, b.id", String.class)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE b.id IN ?1 ORDER BY b.createdAt DESC, b.id", ids).list());
+    }
+
+    @Override
+    public List<Bundle> findActiveBundles() {
+        log.debug("Finding active bundles");
+
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE b.isActive = true AND (b.validUntil IS NULL OR b.validUntil > ?1)",
+                LocalDateTime.now())
+                .list());
+    }
+
+    @Override
+    public List<Bundle> findByGameId(GameId gameId) {
+        log.debug("Finding bundles by game: {}", gameId.getValue());
+
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE b.isActive = true AND b.id IN "
+                + "(SELECT b2.id FROM BundleEntity b2 JOIN b2.gameIds g WHERE g = ?1)", gameId.getValue())
+                .list());
+    }
+
+    @Override
+    public List<Bundle> findExpiringSoon(int hours) {
+        log.debug("Finding bundles expiring within {} hours", hours);
+
+        LocalDateTime now = LocalDateTime.now();
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE b.isActive = true AND b.validUntil > ?1 AND b.validUntil <= ?2",
+                now, now.plusHours(hours))
+                .list());
+    }
+
+    @Override
+    public void delete(String id) {
+        log.debug("Deleting bundle: {}", id);
+
+        deleteById(id);
+        bundleChangedEvent.fire(BundleChangedEvent.deleted(id));
+
+        log.debug("Bundle deleted successfully: {}", id);
+    }
+
+    @Override
+    public long count() {
+        return count("isActive = true");
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return findByIdOptional(id).isPresent();
+    }
+
+    private List<Bundle> toDomainList(List<BundleEntity> entities) {
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    // Mapping methods
+    private BundleEntity toEntity(Bundle bundle) {
+        return BundleEntity.builder()
+                .id(bundle.getId())
+                .name(bundle.getName())
+                .description(bundle.getDescription())
+                .gameIds(bundle.getGameIds() != null
+                        ? bundle.getGameIds().stream().map(GameId::getValue).collect(Collectors.toSet())
+                        : new HashSet<>())
+                .originalPrice(bundle.getOriginalPrice().getAmount())
+                .bundlePrice(bundle.getBundlePrice().getAmount())
+                .currency(bundle.getBundlePrice().getCurrency())
+                .discountPercentage(bundle.getDiscountPercentage() != null
+                        ? BigDecimal.valueOf(bundle.getDiscountPercentage())
+                        : null)
+                .isActive(bundle.getIsActive())
+                .validUntil(bundle.getValidUntil())
+                .createdAt(bundle.getCreatedAt())
+                .build();
+    }
+
+    private Bundle toDomain(BundleEntity entity) {
+        Bundle bundle = new Bundle(
+                entity.getId(),
+                entity.getName(),
+                entity.getDescription(),
+                entity.getGameIds() != null
+                        ? entity.getGameIds().stream().map(GameId::new).collect(Collectors.toSet())
+                        : new HashSet<>(),
+                new Price(entity.getOriginalPrice(), entity.getCurrency()),
+                new Price(entity.getBundlePrice(), entity.getCurrency()));
+
+        return bundle
+                .setIsActive(entity.getIsActive())
+                .setValidUntil(entity.getValidUntil())
+                .setCreatedAt(entity.getCreatedAt());
+    }
+}
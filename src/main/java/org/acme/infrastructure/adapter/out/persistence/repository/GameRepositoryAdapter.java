@@ -1,115 +1,189 @@
 package org.acme.infrastructure.adapter.out.persistence.repository;
 
 import lombok.extern.slf4j.Slf4j;
+import org.acme.domain.event.GameChangedEvent;
 import org.acme.domain.model.Game;
 import org.acme.domain.model.valueobjects.*;
 import org.acme.domain.repository.GameRepository;
+import org.acme.infrastructure.adapter.out.persistence.cache.GameCatalogCache;
+import org.acme.infrastructure.adapter.out.persistence.cache.GameLeaderboards;
 import org.acme.infrastructure.adapter.out.persistence.entity.GameEntity;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import io.quarkus.panache.common.Page;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 @Slf4j
 public class GameRepositoryAdapter implements GameRepository, PanacheRepositoryBase<GameEntity, String> {
 
+    private static final int COLLECTION_FETCH_CHUNK_SIZE = 500;
+
+    @Inject
+    GameCatalogCache gameCatalogCache;
+
+    @Inject
+    GameLeaderboards gameLeaderboards;
+
+    @Inject
+    Event<GameChangedEvent> gameChangedEvent;
+
     @Override
     public Game save(Game game) {
         log.debug("Saving game: {}", game.getId());
 
         GameEntity entity = toEntity(game);
         persist(entity);
+        gameCatalogCache.invalidate(game.getId());
+
+        Game savedGame = toDomain(entity);
+        gameChangedEvent.fire(GameChangedEvent.saved(savedGame));
 
         log.debug("Game saved successfully: {}", entity.getId());
-        return toDomain(entity);
+        return savedGame;
     }
 
     @Override
     public Optional<Game> findById(GameId id) {
         log.debug("Finding game by ID: {}", id.getValue());
 
-        Optional<GameEntity> entity = findByIdOptional(id.getValue());
-        return entity.map(this::toDomain);
+        return gameCatalogCache.get(id, gameId -> findByIdOptional(gameId.getValue()).map(this::toDomain));
+    }
+
+    @Override
+    public List<Game> findByIds(List<GameId> ids) {
+        log.debug("Finding games by IDs - count: {}", ids.size());
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> values = ids.stream()
+                .map(GameId::getValue)
+                .collect(Collectors.toList());
+
+        Map<String, Game> gamesById = toDomainList(find("id IN ?1", values).list())
+                .stream()
+                .collect(Collectors.toMap(game -> game.getId().getValue(), Function.identity()));
+
+        // Keep the caller's order (e.g. search relevance)
+        return values.stream()
+                .map(gamesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<GameId> findActiveIds(Collection<GameId> ids) {
+        log.debug("Finding active game IDs - count: {}", ids.size());
+
+        List<String> values = ids.stream()
+                .map(GameId::getValue)
+                .collect(Collectors.toList());
+
+        Set<GameId> active = new HashSet<>();
+        for (int from = 0; from < values.size(); from += COLLECTION_FETCH_CHUNK_SIZE) {
+            getEntityManager()
+                    .createQuery("SELECT g.id FROM GameEntity g WHERE g.id IN :ids AND g.isActive = true", String.class)
+                    .setParameter("ids", values.subList(from, Math.min(from + COLLECTION_FETCH_CHUNK_SIZE, values.size())))
+                    .getResultStream()
+                    .map(GameId::new)
+                    .forEach(active::add);
+        }
+        return active;
     }
 
     @Override
     public List<Game> findAll(int page, int size) {
         log.debug("Finding all games - page: {}, size: {}", page, size);
 
-        return findAll()
+        // Same filter and order as findAllAfter, so both pagination modes list the same games
+        return toDomainList(find("isActive = true ORDER BY createdAt DESC, id DESC")
                 .page(Page.of(page, size))
-                .list()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+                .list());
     }
 
     @Override
     public List<Game> findByCategory(Category category, int page, int size) {
         log.debug("Finding games by category: {} - page: {}, size: {}", category.getName(), page, size);
 
-        return find("SELECT g FROM GameEntity g JOIN g.categories c WHERE c = ?1 AND g.isActive = true",
+        return toDomainList(find("SELECT g FROM GameEntity g JOIN g.categories c WHERE c = ?1 AND g.isActive = true",
                 category.getName())
                 .page(Page.of(page, size))
-                .list()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+                .list());
     }
 
     @Override
     public List<Game> findByPublisher(String publisherId, int page, int size) {
         log.debug("Finding games by publisher: {} - page: {}, size: {}", publisherId, page, size);
 
-        return find("publisher = ?1 AND isActive = true", publisherId)
+        return toDomainList(find("publisher = ?1 AND isActive = true", publisherId)
                 .page(Page.of(page, size))
-                .list()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+                .list());
     }
 
     @Override
     public List<Game> findAvailableForPreOrder() {
         log.debug("Finding games available for pre-order");
 
-        return find("isPreOrderAvailable = true AND isActive = true AND releaseDate > ?1",
+        return toDomainList(find("isPreOrderAvailable = true AND isActive = true AND releaseDate > ?1",
                 LocalDateTime.now())
-                .list()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+                .list());
     }
 
     @Override
     public List<Game> searchByTitle(String title, int page, int size) {
         log.debug("Searching games by title: '{}' - page: {}, size: {}", title, page, size);
 
-        return find("LOWER(title) LIKE LOWER(?1) AND isActive = true", "%" + title + "%")
+        return toDomainList(find("LOWER(title) LIKE LOWER(?1) AND isActive = true", "%" + title + "%")
                 .page(Page.of(page, size))
-                .list()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+                .list());
+    }
+
+    @Override
+    public List<Game> findAllAfter(GameCursor cursor, int size) {
+        log.debug("Finding all games - cursor: {}, size: {}", cursor, size);
+
+        return toDomainList(seek("SELECT g FROM GameEntity g WHERE g.isActive = true", cursor, size));
+    }
+
+    @Override
+    public List<Game> findByCategoryAfter(Category category, GameCursor cursor, int size) {
+        log.debug("Finding games by category: {} - cursor: {}, size: {}", category.getName(), cursor, size);
+
+        return toDomainList(seek("SELECT g FROM GameEntity g JOIN g.categories c WHERE c = ?1 AND g.isActive = true",
+                cursor, size, category.getName()));
+    }
+
+    @Override
+    public List<Game> findByPublisherAfter(String publisherId, GameCursor cursor, int size) {
+        log.debug("Finding games by publisher: {} - cursor: {}, size: {}", publisherId, cursor, size);
+
+        return toDomainList(seek("SELECT g FROM GameEntity g WHERE g.publisher = ?1 AND g.isActive = true",
+                cursor, size, publisherId));
     }
 
     @Override
     public List<Game> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, String currency) {
         log.debug("Finding games by price range: {} - {} {}", minPrice, maxPrice, currency);
 
-        return find("price BETWEEN ?1 AND ?2 AND currency = ?3 AND isActive = true",
+        return toDomainList(find("price BETWEEN ?1 AND ?2 AND currency = ?3 AND isActive = true",
                 minPrice, maxPrice, currency)
-                .list()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+                .list());
     }
 
     @Override
@@ -119,48 +193,22 @@ public class GameRepositoryAdapter implements GameRepository, PanacheRepositoryB
         LocalDateTime startOfYear = LocalDateTime.of(year, 1, 1, 0, 0);
         LocalDateTime endOfYear = LocalDateTime.of(year, 12, 31, 23, 59, 59);
 
-        return find("releaseDate BETWEEN ?1 AND ?2 AND isActive = true", startOfYear, endOfYear)
-                .list()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return toDomainList(find("releaseDate BETWEEN ?1 AND ?2 AND isActive = true", startOfYear, endOfYear)
+                .list());
     }
 
     @Override
     public List<Game> findTopRated(int limit) {
         log.debug("Finding top rated games - limit: {}", limit);
 
-        return find("isActive = true AND rating.value IS NOT NULL ORDER BY rating.value DESC, rating.totalVotes DESC")
-                .page(Page.ofSize(limit))
-                .list()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return gameLeaderboards.topRated(limit, this::queryTopRated);
     }
 
     @Override
     public List<Game> findRecentlyAdded(int limit) {
         log.debug("Finding recently added games - limit: {}", limit);
 
-        return find("isActive = true ORDER BY createdAt DESC")
-                .page(Page.ofSize(limit))
-                .list()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
-    }
-
-    @Override
-    public List<Game> findDiscounted() {
-        log.debug("Finding discounted games");
-
-        // This is a simplified implementation
-        // In a real scenario, you'd join with offers or have a discount field
-        return find("isActive = true")
-                .list()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return gameLeaderboards.recentlyAdded(limit, this::queryRecentlyAdded);
     }
 
     @Override
@@ -168,10 +216,48 @@ public class GameRepositoryAdapter implements GameRepository, PanacheRepositoryB
         log.debug("Deleting game: {}", id.getValue());
 
         deleteById(id.getValue());
+        gameCatalogCache.invalidate(id);
+        gameChangedEvent.fire(GameChangedEvent.deleted(id));
 
         log.debug("Game deleted successfully: {}", id.getValue());
     }
 
+    @Override
+    public void updateRatings(Map<GameId, Rating> ratings) {
+        log.debug("Updating ratings - games: {}", ratings.size());
+
+        if (ratings.isEmpty()) {
+            return;
+        }
+
+        // Loaded once and changed as managed entities; the rating UPDATEs go out as one JDBC batch at commit
+        List<String> values = ratings.keySet().stream().map(GameId::getValue).collect(Collectors.toList());
+        for (GameEntity entity : find("id IN ?1", values).list()) {
+            Rating rating = ratings.get(new GameId(entity.getId()));
+            entity.setRating(GameEntity.RatingEmbeddable.builder()
+                    .value(rating.getValue())
+                    .totalVotes(rating.getTotalVotes())
+                    .build());
+
+            Game game = toDomain(entity);
+            gameCatalogCache.invalidate(game.getId());
+            gameChangedEvent.fire(GameChangedEvent.saved(game));
+        }
+    }
+
+    @Override
+    public List<GameId> findRatingDrift(String afterId, int limit) {
+        return getEntityManager()
+                .createQuery("SELECT g.id FROM GameEntity g LEFT JOIN ReviewSummaryEntity s ON s.gameId = g.id"
+                        + " WHERE g.id > :after AND COALESCE(g.rating.totalVotes, 0) <> COALESCE(s.totalReviews, 0)"
+                        + " ORDER BY g.id", String.class)
+                .setParameter("after", afterId != null ? afterId : "")
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(GameId::new)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public long count() {
         return count("isActive = true");
@@ -193,6 +279,69 @@ public class GameRepositoryAdapter implements GameRepository, PanacheRepositoryB
         return count("title = ?1 AND isActive = true", title) > 0;
     }
 
+    private List<Game> queryTopRated(int limit) {
+        log.debug("Loading top rated leaderboard from database - limit: {}", limit);
+
+        return toDomainList(find("isActive = true AND rating.value IS NOT NULL ORDER BY rating.value DESC, rating.totalVotes DESC, id")
+                .page(Page.ofSize(limit))
+                .list());
+    }
+
+    private List<Game> queryRecentlyAdded(int limit) {
+        log.debug("Loading recently added leaderboard from database - limit: {}", limit);
+
+        return toDomainList(find("isActive = true ORDER BY createdAt DESC, id DESC")
+                .page(Page.ofSize(limit))
+                .list());
+    }
+
+    // Keyset pagination: seeks past the cursor on the (created_at, id) index instead of
+    // skipping rows with OFFSET, so every page costs the same as the first one
+    private List<GameEntity> seek(String query, GameCursor cursor, int size, Object... params) {
+        Object[] seekParams = params;
+        String seekQuery = query;
+        if (cursor != null) {
+            int createdAtParam = params.length + 1;
+            int idParam = params.length + 2;
+            seekQuery += " AND (g.createdAt < ?" + createdAtParam
+                    + " OR (g.createdAt = ?" + createdAtParam + " AND g.id < ?" + idParam + "))";
+            seekParams = Arrays.copyOf(params, params.length + 2);
+            seekParams[params.length] = cursor.getCreatedAt();
+            seekParams[params.length + 1] = cursor.getId();
+        }
+
+        return find(seekQuery + " ORDER BY g.createdAt DESC, g.id DESC", seekParams)
+                .page(Page.ofSize(size))
+                .list();
+    }
+
+    private List<Game> toDomainList(List<GameEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        // Initialize the element collections of the whole page with one query each,
+        // instead of letting toDomain trigger three lazy loads per row
+        fetchCollection(entities, "categories");
+        fetchCollection(entities, "tags");
+        fetchCollection(entities, "images");
+
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private void fetchCollection(List<GameEntity> entities, String collection) {
+        for (int from = 0; from < entities.size(); from += COLLECTION_FETCH_CHUNK_SIZE) {
+            List<GameEntity> chunk = entities.subList(from, Math.min(from + COLLECTION_FETCH_CHUNK_SIZE, entities.size()));
+            getEntityManager()
+                    .createQuery("SELECT DISTINCT g FROM GameEntity g LEFT JOIN FETCH g." + collection + " WHERE g IN :games",
+                            GameEntity.class)
+                    .setParameter("games", chunk)
+                    .getResultList();
+        }
+    }
+
     // Mapping methods
     private GameEntity toEntity(Game game) {
         GameEntity.SystemRequirementsEmbeddable sysReqEmbeddable = null;
@@ -0,0 +1,153 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.domain.model.Gift;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Price;
+import org.acme.domain.repository.GiftRepository;
+import org.acme.infrastructure.adapter.out.persistence.entity.GiftEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@Slf4j
+public class GiftRepositoryAdapter implements GiftRepository, PanacheRepositoryBase<GiftEntity, String> {
+
+    private static final String STATUS_PENDING = "PENDING";
+    private static final String STATUS_EXPIRED = "EXPIRED";
+
+    @Override
+    public Gift save(Gift gift) {
+        log.debug("Saving gift: {}", gift.getId());
+
+        GiftEntity entity = getEntityManager().merge(toEntity(gift));
+        return toDomain(entity);
+    }
+
+    @Override
+    public Optional<Gift> findById(String id) {
+        log.debug("Finding gift by ID: {}", id);
+
+        return findByIdOptional(id).map(this::toDomain);
+    }
+
+    @Override
+    public List<Gift> findBySenderId(String senderId) {
+        log.debug("Finding gifts sent by: {}", senderId);
+
+        return toDomainList(find("senderId = ?1 ORDER BY sentDate DESC", senderId).list());
+    }
+
+    @Override
+    public List<Gift> findByRecipientId(String recipientId) {
+        log.debug("Finding gifts received by: {}", recipientId);
+
+        return toDomainList(find("recipientId = ?1 ORDER BY sentDate DESC", recipientId).list());
+    }
+
+    @Override
+    public List<Gift> findPendingByRecipientId(String recipientId) {
+        log.debug("Finding pending gifts for: {}", recipientId);
+
+        return toDomainList(find("recipientId = ?1 AND status = ?2 AND (expirationDate IS NULL OR expirationDate > ?3) "
+                + "ORDER BY sentDate DESC", recipientId, STATUS_PENDING, LocalDateTime.now()).list());
+    }
+
+    @Override
+    public List<Gift> findByStatus(String status) {
+        log.debug("Finding gifts by status: {}", status);
+
+        return toDomainList(find("status = ?1", status).list());
+    }
+
+    @Override
+    public List<Gift> findExpiredGifts() {
+        log.debug("Finding expired gifts");
+
+        return toDomainList(find("status = ?1 AND expirationDate < ?2", STATUS_PENDING, LocalDateTime.now()).list());
+    }
+
+    @Override
+    public int expirePending(LocalDateTime expiredBefore, int limit) {
+        // Pick the chunk by id first so each statement touches at most limit rows; the UPDATE
+        // re-checks the status in case a gift was claimed in between
+        List<String> ids = getEntityManager()
+                .createQuery("SELECT g.id FROM GiftEntity g WHERE g.status = :pending AND g.expirationDate < :expiredBefore",
+                        String.class)
+                .setParameter("pending", STATUS_PENDING)
+                .setParameter("expiredBefore", expiredBefore)
+                .setMaxResults(limit)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return update("status = ?1 WHERE id IN ?2 AND status = ?3", STATUS_EXPIRED, ids, STATUS_PENDING);
+    }
+
+    @Override
+    public void delete(String id) {
+        log.debug("Deleting gift: {}", id);
+
+        deleteById(id);
+    }
+
+    @Override
+    public long count() {
+        return PanacheRepositoryBase.super.count();
+    }
+
+    @Override
+    public long countByRecipientId(String recipientId) {
+        return count("recipientId", recipientId);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return findByIdOptional(id).isPresent();
+    }
+
+    private List<Gift> toDomainList(List<GiftEntity> entities) {
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    // Mapping methods
+    private GiftEntity toEntity(Gift gift) {
+        return GiftEntity.builder()
+                .id(gift.getId())
+                .gameId(gift.getGameId().getValue())
+                .senderId(gift.getSenderId())
+                .recipientId(gift.getRecipientId())
+                .message(gift.getMessage())
+                .amount(gift.getAmount().getAmount())
+                .currency(gift.getAmount().getCurrency())
+                .sentDate(gift.getSentDate())
+                .claimedDate(gift.getClaimedDate())
+                .status(gift.getStatus())
+                .expirationDate(gift.getExpirationDate())
+                .build();
+    }
+
+    // Built field by field: Gift.setExpirationDate validates against sentDate, which the builder skips
+    private Gift toDomain(GiftEntity entity) {
+        return Gift.builder()
+                .id(entity.getId())
+                .gameId(new GameId(entity.getGameId()))
+                .senderId(entity.getSenderId())
+                .recipientId(entity.getRecipientId())
+                .message(entity.getMessage())
+                .amount(new Price(entity.getAmount(), entity.getCurrency()))
+                .sentDate(entity.getSentDate())
+                .claimedDate(entity.getClaimedDate())
+                .status(entity.getStatus())
+                .expirationDate(entity.getExpirationDate())
+                .build();
+    }
+}
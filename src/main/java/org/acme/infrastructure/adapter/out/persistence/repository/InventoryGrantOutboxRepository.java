@@ -0,0 +1,53 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import org.acme.infrastructure.adapter.out.persistence.entity.InventoryGrantOutboxEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.acme.infrastructure.adapter.out.persistence.entity.InventoryGrantOutboxEntity.STATUS_IN_FLIGHT;
+import static org.acme.infrastructure.adapter.out.persistence.entity.InventoryGrantOutboxEntity.STATUS_PARKED;
+import static org.acme.infrastructure.adapter.out.persistence.entity.InventoryGrantOutboxEntity.STATUS_PENDING;
+
+@ApplicationScoped
+public class InventoryGrantOutboxRepository implements PanacheRepository<InventoryGrantOutboxEntity> {
+
+    // SKIP LOCKED lets several instances drain the grants without sending the same rows twice
+    private static final int SKIP_LOCKED = -2;
+
+    // Pending rows after the cursor, plus in-flight rows whose claim has outlived the lease
+    public List<InventoryGrantOutboxEntity> findDue(long afterId, LocalDateTime staleClaim, int limit) {
+        return getEntityManager()
+                .createQuery("SELECT g FROM InventoryGrantOutboxEntity g"
+                        + " WHERE g.id > :afterId"
+                        + " AND (g.status = :pending OR (g.status = :inFlight AND g.claimedAt < :staleClaim))"
+                        + " ORDER BY g.id", InventoryGrantOutboxEntity.class)
+                .setParameter("afterId", afterId)
+                .setParameter("pending", STATUS_PENDING)
+                .setParameter("inFlight", STATUS_IN_FLIGHT)
+                .setParameter("staleClaim", staleClaim)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", SKIP_LOCKED)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public List<InventoryGrantOutboxEntity> findUnsent() {
+        return list("status IN ?1", List.of(STATUS_PENDING, STATUS_IN_FLIGHT));
+    }
+
+    public long countUnsent() {
+        return count("status IN ?1", List.of(STATUS_PENDING, STATUS_IN_FLIGHT));
+    }
+
+    public List<InventoryGrantOutboxEntity> findParked() {
+        return list("status = ?1 ORDER BY id", STATUS_PARKED);
+    }
+
+    public long deleteByIds(List<Long> ids) {
+        return delete("id IN ?1", ids);
+    }
+}
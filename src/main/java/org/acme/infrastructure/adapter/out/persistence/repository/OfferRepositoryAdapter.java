@@ -0,0 +1,180 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.domain.event.OfferChangedEvent;
+import org.acme.domain.model.Offer;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.repository.OfferRepository;
+import org.acme.infrastructure.adapter.out.persistence.entity.OfferEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@Slf4j
+public class OfferRepositoryAdapter implements OfferRepository, PanacheRepositoryBase<OfferEntity, String> {
+
+    // Offers always need their games; fetch them with the offer instead of one lazy load per row
+    private static final String SELECT_WITH_GAMES = "SELECT DISTINCT o FROM OfferEntity o LEFT JOIN FETCH o.gameIds ";
+
+    @Inject
+    Event<OfferChangedEvent> offerChangedEvent;
+
+    @Override
+    public Offer save(Offer offer) {
+        log.debug("Saving offer: {}", offer.getId());
+
+        OfferEntity entity = getEntityManager().merge(toEntity(offer));
+        Offer savedOffer = toDomain(entity);
+        offerChangedEvent.fire(OfferChangedEvent.saved(savedOffer));
+
+        log.debug("Offer saved successfully: {}", entity.getId());
+        return savedOffer;
+    }
+
+    @Override
+    public Optional<Offer> findById(String id) {
+        log.debug("Finding offer by ID: {}", id);
+
+        return findByIdOptional(id).map(this::toDomain);
+    }
+
+    @Override
+    public List<Offer> findAll(int page, int size) {
+        log.debug("Finding all offers - page: {}, size: {}", page, size);
+
+        // Page over ids first; paging a collection fetch join would happen in memory
+        List<String> ids = getEntityManager()
+                .createQuery("SELECT o.id FROM OfferEntity o ORDER BY o.createdAt DESC, o.id", String.class)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE o.id IN ?1 ORDER BY o.createdAt DESC, o.id", ids).list());
+    }
+
+    @Override
+    public List<Offer> findActiveOffers() {
+        log.debug("Finding active offers");
+
+        LocalDateTime now = LocalDateTime.now();
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE o.isActive = true AND o.startDate < ?1 AND o.endDate > ?1", now)
+                .list());
+    }
+
+    @Override
+    public List<Offer> findActiveOrUpcoming() {
+        log.debug("Finding active and upcoming offers");
+
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE o.isActive = true AND o.endDate > ?1", LocalDateTime.now())
+                .list());
+    }
+
+    @Override
+    public List<Offer> findByOfferType(String offerType) {
+        log.debug("Finding offers by type: {}", offerType);
+
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE o.offerType = ?1 AND o.isActive = true", offerType)
+                .list());
+    }
+
+    @Override
+    public List<Offer> findByGameId(GameId gameId) {
+        log.debug("Finding offers by game: {}", gameId.getValue());
+
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE o.isActive = true AND o.id IN "
+                + "(SELECT o2.id FROM OfferEntity o2 JOIN o2.gameIds g WHERE g = ?1)", gameId.getValue())
+                .list());
+    }
+
+    @Override
+    public List<Offer> findExpiringSoon(int hours) {
+        log.debug("Finding offers expiring within {} hours", hours);
+
+        LocalDateTime now = LocalDateTime.now();
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE o.isActive = true AND o.startDate < ?1 AND o.endDate > ?1 "
+                + "AND o.endDate <= ?2", now, now.plusHours(hours))
+                .list());
+    }
+
+    @Override
+    public List<Offer> findCurrentSeasonalOffers() {
+        log.debug("Finding current seasonal offers");
+
+        LocalDateTime now = LocalDateTime.now();
+        return toDomainList(find(SELECT_WITH_GAMES + "WHERE o.offerType = 'SEASONAL' AND o.isActive = true "
+                + "AND o.startDate < ?1 AND o.endDate > ?1", now)
+                .list());
+    }
+
+    @Override
+    public void delete(String id) {
+        log.debug("Deleting offer: {}", id);
+
+        deleteById(id);
+        offerChangedEvent.fire(OfferChangedEvent.deleted(id));
+
+        log.debug("Offer deleted successfully: {}", id);
+    }
+
+    @Override
+    public long count() {
+        return count("isActive = true");
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return findByIdOptional(id).isPresent();
+    }
+
+    private List<Offer> toDomainList(List<OfferEntity> entities) {
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    // Mapping methods
+    private OfferEntity toEntity(Offer offer) {
+        return OfferEntity.builder()
+                .id(offer.getId())
+                .name(offer.getName())
+                .description(offer.getDescription())
+                .gameIds(offer.getGameIds() != null
+                        ? offer.getGameIds().stream().map(GameId::getValue).collect(Collectors.toSet())
+                        : new HashSet<>())
+                .discountPercentage(BigDecimal.valueOf(offer.getDiscountPercentage()))
+                .startDate(offer.getStartDate())
+                .endDate(offer.getEndDate())
+                .offerType(offer.getOfferType())
+                .isActive(offer.getIsActive())
+                .createdAt(offer.getCreatedAt())
+                .build();
+    }
+
+    private Offer toDomain(OfferEntity entity) {
+        return Offer.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .description(entity.getDescription())
+                .gameIds(entity.getGameIds() != null
+                        ? entity.getGameIds().stream().map(GameId::new).collect(Collectors.toSet())
+                        : new HashSet<>())
+                .discountPercentage(entity.getDiscountPercentage().doubleValue())
+                .startDate(entity.getStartDate())
+                .endDate(entity.getEndDate())
+                .offerType(entity.getOfferType())
+                .isActive(entity.getIsActive())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.acme.infrastructure.adapter.out.persistence.entity.PreOrderCompletionQuarantineEntity;
+
+@ApplicationScoped
+public class PreOrderCompletionQuarantineRepository implements PanacheRepositoryBase<PreOrderCompletionQuarantineEntity, String> {
+}
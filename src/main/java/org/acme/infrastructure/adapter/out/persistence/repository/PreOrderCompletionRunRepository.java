@@ -0,0 +1,15 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.acme.infrastructure.adapter.out.persistence.entity.PreOrderCompletionRunEntity;
+
+import java.util.Optional;
+
+@ApplicationScoped
+public class PreOrderCompletionRunRepository implements PanacheRepository<PreOrderCompletionRunEntity> {
+
+    public Optional<PreOrderCompletionRunEntity> findRunning() {
+        return find("status = ?1 ORDER BY id DESC", PreOrderCompletionRunEntity.STATUS_RUNNING).firstResultOptional();
+    }
+}
@@ -0,0 +1,183 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.domain.model.PreOrder;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Price;
+import org.acme.domain.repository.PreOrderRepository;
+import org.acme.infrastructure.adapter.out.persistence.entity.PreOrderEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@Slf4j
+public class PreOrderRepositoryAdapter implements PreOrderRepository, PanacheRepositoryBase<PreOrderEntity, String> {
+
+    private static final String STATUS_CONFIRMED = "CONFIRMED";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+    // Quarantined pre-orders failed every completion attempt and wait for an operator
+    private static final String READY_TO_COMPLETE = "p.status = :confirmed AND p.gameId IN "
+            + "(SELECT g.id FROM GameEntity g WHERE g.releaseDate <= :releasedBy)"
+            + " AND p.id NOT IN (SELECT q.preOrderId FROM PreOrderCompletionQuarantineEntity q)";
+
+    @Override
+    public PreOrder save(PreOrder preOrder) {
+        log.debug("Saving pre-order: {}", preOrder.getId());
+
+        PreOrderEntity entity = getEntityManager().merge(toEntity(preOrder));
+        return toDomain(entity);
+    }
+
+    @Override
+    public Optional<PreOrder> findById(String id) {
+        log.debug("Finding pre-order by ID: {}", id);
+
+        return findByIdOptional(id).map(this::toDomain);
+    }
+
+    @Override
+    public List<PreOrder> findByUserId(String userId) {
+        log.debug("Finding pre-orders by user: {}", userId);
+
+        return toDomainList(find("userId = ?1 ORDER BY preOrderDate DESC", userId).list());
+    }
+
+    @Override
+    public List<PreOrder> findByGameId(GameId gameId) {
+        log.debug("Finding pre-orders by game: {}", gameId.getValue());
+
+        return toDomainList(find("gameId = ?1 ORDER BY preOrderDate DESC", gameId.getValue()).list());
+    }
+
+    @Override
+    public List<PreOrder> findByStatus(String status) {
+        log.debug("Finding pre-orders by status: {}", status);
+
+        return toDomainList(find("status = ?1", status).list());
+    }
+
+    @Override
+    public List<PreOrder> findReadyToComplete() {
+        log.debug("Finding pre-orders ready to complete");
+
+        return toDomainList(getEntityManager()
+                .createQuery("SELECT p FROM PreOrderEntity p WHERE " + READY_TO_COMPLETE + " ORDER BY p.id", PreOrderEntity.class)
+                .setParameter("confirmed", STATUS_CONFIRMED)
+                .setParameter("releasedBy", LocalDateTime.now())
+                .getResultList());
+    }
+
+    @Override
+    public List<String> findReadyToCompleteIds(LocalDateTime releasedBy, String afterId, int limit) {
+        return getEntityManager()
+                .createQuery("SELECT p.id FROM PreOrderEntity p WHERE " + READY_TO_COMPLETE
+                        + " AND p.id > :afterId ORDER BY p.id", String.class)
+                .setParameter("confirmed", STATUS_CONFIRMED)
+                .setParameter("releasedBy", releasedBy)
+                .setParameter("afterId", afterId != null ? afterId : "")
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countReadyToComplete(LocalDateTime releasedBy, String afterId) {
+        return getEntityManager()
+                .createQuery("SELECT COUNT(p) FROM PreOrderEntity p WHERE " + READY_TO_COMPLETE
+                        + " AND p.id > :afterId", Long.class)
+                .setParameter("confirmed", STATUS_CONFIRMED)
+                .setParameter("releasedBy", releasedBy)
+                .setParameter("afterId", afterId != null ? afterId : "")
+                .getSingleResult();
+    }
+
+    @Override
+    public List<PreOrder> completeConfirmed(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // The row locks keep a concurrent cancel or a second completion run from touching the same
+        // pre-orders; the status filter is re-checked once the locks are granted
+        List<PreOrderEntity> confirmed = getEntityManager()
+                .createQuery("SELECT p FROM PreOrderEntity p WHERE p.id IN :ids AND p.status = :confirmed", PreOrderEntity.class)
+                .setParameter("ids", ids)
+                .setParameter("confirmed", STATUS_CONFIRMED)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (confirmed.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> confirmedIds = confirmed.stream().map(PreOrderEntity::getId).collect(Collectors.toList());
+        update("status = ?1 WHERE id IN ?2", STATUS_COMPLETED, confirmedIds);
+        // The bulk UPDATE bypasses the persistence context; drop the stale copies
+        confirmed.forEach(getEntityManager()::detach);
+
+        return confirmed.stream()
+                .map(entity -> toDomain(entity).setStatus(STATUS_COMPLETED))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void delete(String id) {
+        log.debug("Deleting pre-order: {}", id);
+
+        deleteById(id);
+    }
+
+    @Override
+    public long count() {
+        return PanacheRepositoryBase.super.count();
+    }
+
+    @Override
+    public long countByGameId(GameId gameId) {
+        return count("gameId = ?1 AND status <> 'CANCELLED'", gameId.getValue());
+    }
+
+    @Override
+    public boolean existsByUserAndGame(String userId, GameId gameId) {
+        return count("userId = ?1 AND gameId = ?2 AND status <> 'CANCELLED'", userId, gameId.getValue()) > 0;
+    }
+
+    private List<PreOrder> toDomainList(List<PreOrderEntity> entities) {
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    // Mapping methods
+    private PreOrderEntity toEntity(PreOrder preOrder) {
+        return PreOrderEntity.builder()
+                .id(preOrder.getId())
+                .gameId(preOrder.getGameId().getValue())
+                .userId(preOrder.getUserId())
+                .paidAmount(preOrder.getPaidAmount().getAmount())
+                .currency(preOrder.getPaidAmount().getCurrency())
+                .preOrderDate(preOrder.getPreOrderDate())
+                .status(preOrder.getStatus())
+                .bonusContent(preOrder.getBonusContent())
+                .estimatedDeliveryDate(preOrder.getEstimatedDeliveryDate())
+                .build();
+    }
+
+    private PreOrder toDomain(PreOrderEntity entity) {
+        return PreOrder.builder()
+                .id(entity.getId())
+                .gameId(new GameId(entity.getGameId()))
+                .userId(entity.getUserId())
+                .paidAmount(new Price(entity.getPaidAmount(), entity.getCurrency()))
+                .preOrderDate(entity.getPreOrderDate())
+                .status(entity.getStatus())
+                .bonusContent(entity.getBonusContent())
+                .estimatedDeliveryDate(entity.getEstimatedDeliveryDate())
+                .build();
+    }
+}
@@ -0,0 +1,329 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.panache.common.Page;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.domain.event.ReviewChangedEvent;
+import org.acme.domain.model.Review;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.ReviewSummary;
+import org.acme.domain.model.valueobjects.ReviewVotes;
+import org.acme.domain.repository.ReviewRepository;
+import org.acme.infrastructure.adapter.out.persistence.cache.HelpfulReviewIndex;
+import org.acme.infrastructure.adapter.out.persistence.entity.ReviewEntity;
+import org.acme.infrastructure.adapter.out.persistence.entity.ReviewSummaryEntity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+// Every write also applies its effect on the game's review summary in the same transaction,
+// so the counts are primary-key reads instead of scans of the reviews table
+@ApplicationScoped
+@Slf4j
+public class ReviewRepositoryAdapter implements ReviewRepository, PanacheRepositoryBase<ReviewEntity, String> {
+
+    @Inject
+    ReviewSummaryRepository summaryRepository;
+
+    @Inject
+    HelpfulReviewIndex helpfulReviewIndex;
+
+    @Inject
+    Event<ReviewChangedEvent> reviewChangedEvent;
+
+    @Override
+    public Review save(Review review) {
+        log.debug("Saving review: {}", review.getId());
+
+        // Locked so a concurrent vote flush cannot change the counts this delta is based on
+        ReviewEntity existing = findByIdOptional(review.getId(), LockModeType.PESSIMISTIC_WRITE).orElse(null);
+        ReviewSummaryRepository.Delta before = ReviewSummaryRepository.Delta.of(existing);
+        ReviewEntity updated = toEntity(review);
+        if (existing != null) {
+            // Votes may have been flushed since the domain object was loaded
+            updated.setHelpfulVotes(existing.getHelpfulVotes());
+            updated.setTotalVotes(existing.getTotalVotes());
+            updated.setHelpfulnessScore(existing.getHelpfulnessScore());
+        }
+        ReviewEntity entity = getEntityManager().merge(updated);
+        summaryRepository.apply(entity.getGameId(), ReviewSummaryRepository.Delta.of(entity).minus(before));
+
+        Review saved = toDomain(entity);
+        reviewChangedEvent.fire(ReviewChangedEvent.saved(saved));
+        return saved;
+    }
+
+    @Override
+    public Optional<Review> findById(String id) {
+        log.debug("Finding review by ID: {}", id);
+
+        return findByIdOptional(id).map(this::toDomain);
+    }
+
+    @Override
+    public List<Review> findByGameId(GameId gameId, int page, int size) {
+        log.debug("Finding reviews for game: {} - page: {}, size: {}", gameId, page, size);
+
+        return toDomainList(find("gameId = ?1 AND isActive = true ORDER BY createdAt DESC", gameId.getValue())
+                .page(Page.of(page, size))
+                .list());
+    }
+
+    @Override
+    public List<Review> findByUserId(String userId, int page, int size) {
+        log.debug("Finding reviews by user: {} - page: {}, size: {}", userId, page, size);
+
+        return toDomainList(find("userId = ?1 AND isActive = true ORDER BY createdAt DESC", userId)
+                .page(Page.of(page, size))
+                .list());
+    }
+
+    @Override
+    public List<Review> findPositiveByGameId(GameId gameId, int page, int size) {
+        return toDomainList(find("gameId = ?1 AND isActive = true AND isRecommended = true ORDER BY createdAt DESC",
+                gameId.getValue())
+                .page(Page.of(page, size))
+                .list());
+    }
+
+    @Override
+    public List<Review> findNegativeByGameId(GameId gameId, int page, int size) {
+        return toDomainList(find("gameId = ?1 AND isActive = true AND isRecommended = false ORDER BY createdAt DESC",
+                gameId.getValue())
+                .page(Page.of(page, size))
+                .list());
+    }
+
+    @Override
+    public List<Review> findMostHelpful(GameId gameId, int limit) {
+        return helpfulReviewIndex.mostHelpful(gameId.getValue(), limit, size -> queryMostHelpful(gameId, size));
+    }
+
+    @Override
+    public List<Review> findRecent(GameId gameId, int limit) {
+        return toDomainList(find("gameId = ?1 AND isActive = true ORDER BY createdAt DESC", gameId.getValue())
+                .page(Page.ofSize(limit))
+                .list());
+    }
+
+    @Override
+    public void delete(String id) {
+        log.debug("Deleting review: {}", id);
+
+        findByIdOptional(id, LockModeType.PESSIMISTIC_WRITE).ifPresent(entity -> {
+            ReviewSummaryRepository.Delta removed = ReviewSummaryRepository.Delta.of(entity);
+            summaryRepository.apply(entity.getGameId(), ReviewSummaryRepository.Delta.ZERO.minus(removed));
+            getEntityManager().remove(entity);
+            reviewChangedEvent.fire(ReviewChangedEvent.deleted(id, new GameId(entity.getGameId())));
+        });
+    }
+
+    @Override
+    public List<ReviewVotes> addVotes(List<ReviewVotes> votes) {
+        if (votes.isEmpty()) {
+            return List.of();
+        }
+
+        // Relative UPDATEs in review id order, like every other vote writer: each one adds to
+        // whatever is committed, so nothing is read or locked ahead of the write
+        List<ReviewVotes> applied = new ArrayList<>(votes.size());
+        votes.stream()
+                .sorted(Comparator.comparing(ReviewVotes::getReviewId))
+                .forEach(vote -> {
+                    int updated = update("helpfulVotes = helpfulVotes + ?1, totalVotes = totalVotes + ?2 WHERE id = ?3 AND isActive = true",
+                            Math.toIntExact(vote.getHelpfulVotes()), Math.toIntExact(vote.getTotalVotes()), vote.getReviewId());
+                    if (updated == 0) {
+                        log.debug("Discarding {} votes for missing or inactive review: {}", vote.getTotalVotes(), vote.getReviewId());
+                    } else {
+                        applied.add(vote);
+                    }
+                });
+        if (applied.isEmpty()) {
+            return applied;
+        }
+
+        // The updated rows stay locked by this transaction, so the counts read back are the ones
+        // just written and the score derived from them cannot be overtaken by another flush
+        Map<String, ReviewVotes> byReview = applied.stream()
+                .collect(Collectors.toMap(ReviewVotes::getReviewId, vote -> vote));
+        Map<String, long[]> votesByGame = new TreeMap<>();
+        getEntityManager()
+                .createQuery("SELECT r.id, r.gameId, r.helpfulVotes, r.totalVotes FROM ReviewEntity r WHERE r.id IN :ids",
+                        Object[].class)
+                .setParameter("ids", byReview.keySet())
+                .getResultList()
+                .forEach(row -> {
+                    update("helpfulnessScore = ?1 WHERE id = ?2",
+                            Review.helpfulnessScore(((Number) row[2]).intValue(), ((Number) row[3]).intValue()), row[0]);
+
+                    ReviewVotes vote = byReview.get((String) row[0]);
+                    long[] gameVotes = votesByGame.computeIfAbsent((String) row[1], id -> new long[2]);
+                    gameVotes[0] += vote.getHelpfulVotes();
+                    gameVotes[1] += vote.getTotalVotes();
+                });
+
+        // One summary update per game, in game id order so concurrent chunks lock summaries alike
+        votesByGame.forEach((gameId, gameVotes) ->
+                summaryRepository.apply(gameId, new ReviewSummaryRepository.Delta(0, 0, 0, gameVotes[0], gameVotes[1])));
+
+        list("id IN ?1", byReview.keySet()).forEach(entity ->
+                reviewChangedEvent.fire(ReviewChangedEvent.votesAdded(toDomain(entity))));
+        return applied;
+    }
+
+    @Override
+    public long countByGameId(GameId gameId) {
+        return getSummary(gameId).getTotalReviews();
+    }
+
+    @Override
+    public long countPositiveByGameId(GameId gameId) {
+        return getSummary(gameId).getPositiveReviews();
+    }
+
+    @Override
+    public long countNegativeByGameId(GameId gameId) {
+        return getSummary(gameId).getNegativeReviews();
+    }
+
+    @Override
+    public ReviewSummary getSummary(GameId gameId) {
+        return summaryRepository.findByIdOptional(gameId.getValue())
+                .map(this::toSummary)
+                .orElseGet(() -> ReviewSummary.empty(gameId.getValue()));
+    }
+
+    @Override
+    public List<ReviewSummary> getSummaries(List<GameId> gameIds) {
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> values = gameIds.stream().map(GameId::getValue).collect(Collectors.toList());
+        Map<String, ReviewSummary> summaries = summaryRepository.list("gameId IN ?1", values).stream()
+                .collect(Collectors.toMap(ReviewSummaryEntity::getGameId, this::toSummary));
+        return values.stream()
+                .map(gameId -> summaries.getOrDefault(gameId, ReviewSummary.empty(gameId)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String rebuildSummaries(String afterGameId, int limit) {
+        List<String> gameIds = getEntityManager()
+                .createQuery("SELECT g.id FROM GameEntity g WHERE g.id > :after ORDER BY g.id", String.class)
+                .setParameter("after", afterGameId != null ? afterGameId : "")
+                .setMaxResults(limit)
+                .getResultList();
+        if (gameIds.isEmpty()) {
+            return null;
+        }
+
+        int drifted = summaryRepository.rebuild(gameIds);
+        if (drifted > 0) {
+            log.info("Corrected {} drifted review summaries among {} games", drifted, gameIds.size());
+        }
+        int rescored = rescore(gameIds);
+        if (rescored > 0) {
+            log.info("Backfilled helpfulness scores of {} reviews among {} games", rescored, gameIds.size());
+        }
+        return gameIds.get(gameIds.size() - 1);
+    }
+
+    @Override
+    public boolean existsByUserAndGame(String userId, GameId gameId) {
+        return count("userId = ?1 AND gameId = ?2 AND isActive = true", userId, gameId.getValue()) > 0;
+    }
+
+    // Reviews voted on before helpfulness_score existed still hold the column default. The UPDATE is
+    // conditional on the counts read, so a vote flush that got there first keeps its own score.
+    private int rescore(List<String> gameIds) {
+        List<String> rescored = new ArrayList<>();
+        getEntityManager()
+                .createQuery("SELECT r.id, r.helpfulVotes, r.totalVotes, r.helpfulnessScore FROM ReviewEntity r "
+                        + "WHERE r.gameId IN :ids AND r.totalVotes > 0", Object[].class)
+                .setParameter("ids", gameIds)
+                .getResultList()
+                .forEach(row -> {
+                    int helpfulVotes = ((Number) row[1]).intValue();
+                    int totalVotes = ((Number) row[2]).intValue();
+                    double score = Review.helpfulnessScore(helpfulVotes, totalVotes);
+                    if (Double.compare(score, ((Number) row[3]).doubleValue()) != 0
+                            && update("helpfulnessScore = ?1 WHERE id = ?2 AND helpfulVotes = ?3 AND totalVotes = ?4",
+                            score, row[0], helpfulVotes, totalVotes) > 0) {
+                        rescored.add((String) row[0]);
+                    }
+                });
+
+        if (!rescored.isEmpty()) {
+            // Boards already loaded for these games pick up the new ranking
+            list("id IN ?1", rescored).forEach(entity ->
+                    reviewChangedEvent.fire(ReviewChangedEvent.votesAdded(toDomain(entity))));
+        }
+        return rescored.size();
+    }
+
+    private List<Review> queryMostHelpful(GameId gameId, int limit) {
+        return toDomainList(find("gameId = ?1 AND isActive = true "
+                        + "ORDER BY helpfulnessScore DESC, totalVotes DESC, createdAt DESC, id", gameId.getValue())
+                .page(Page.ofSize(limit))
+                .list());
+    }
+
+    private List<Review> toDomainList(List<ReviewEntity> entities) {
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private ReviewSummary toSummary(ReviewSummaryEntity entity) {
+        return ReviewSummary.builder()
+                .gameId(entity.getGameId())
+                .totalReviews(entity.getTotalReviews())
+                .positiveReviews(entity.getPositiveReviews())
+                .negativeReviews(entity.getNegativeReviews())
+                .helpfulVotes(entity.getHelpfulVotes())
+                .totalVotes(entity.getTotalVotes())
+                .build();
+    }
+
+    // Mapping methods
+    private ReviewEntity toEntity(Review review) {
+        return ReviewEntity.builder()
+                .id(review.getId())
+                .gameId(review.getGameId().getValue())
+                .userId(review.getUserId())
+                .content(review.getContent())
+                .isRecommended(review.getIsRecommended())
+                .helpfulVotes(review.getHelpfulVotes())
+                .totalVotes(review.getTotalVotes())
+                .helpfulnessScore(review.getHelpfulnessScore())
+                .createdAt(review.getCreatedAt())
+                .updatedAt(review.getUpdatedAt())
+                .isActive(review.getIsActive())
+                .build();
+    }
+
+    private Review toDomain(ReviewEntity entity) {
+        return Review.builder()
+                .id(entity.getId())
+                .gameId(new GameId(entity.getGameId()))
+                .userId(entity.getUserId())
+                .content(entity.getContent())
+                .isRecommended(entity.getIsRecommended())
+                .helpfulVotes(entity.getHelpfulVotes())
+                .totalVotes(entity.getTotalVotes())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .isActive(entity.getIsActive())
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceException;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.infrastructure.adapter.out.persistence.entity.ReviewEntity;
+import org.acme.infrastructure.adapter.out.persistence.entity.ReviewSummaryEntity;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ApplicationScoped
+@Slf4j
+public class ReviewSummaryRepository implements PanacheRepositoryBase<ReviewSummaryEntity, String> {
+
+    // Adds a signed delta with one UPDATE in the caller's transaction, so concurrent writers
+    // serialize on the summary row and add up instead of overwriting each other
+    public void apply(String gameId, Delta delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        if (increment(gameId, delta) == 0) {
+            createIfAbsent(gameId);
+            increment(gameId, delta);
+        }
+    }
+
+    // Overwrites the summaries of the given games with counts taken from the reviews table.
+    // The summary rows are locked before counting: writers that committed earlier are in the
+    // counts, and later ones wait for the lock and add their delta on top. Returns how many
+    // summaries had drifted.
+    public int rebuild(List<String> gameIds) {
+        if (gameIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, ReviewSummaryEntity> summaries = new HashMap<>();
+        getEntityManager()
+                .createQuery("SELECT s FROM ReviewSummaryEntity s WHERE s.gameId IN :ids", ReviewSummaryEntity.class)
+                .setParameter("ids", gameIds)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList()
+                .forEach(summary -> summaries.put(summary.getGameId(), summary));
+
+        Map<String, Delta> counts = new HashMap<>();
+        getEntityManager()
+                .createQuery("SELECT r.gameId, COUNT(r), "
+                        + "SUM(CASE WHEN r.isRecommended = true THEN 1 ELSE 0 END), "
+                        + "SUM(COALESCE(r.helpfulVotes, 0)), SUM(COALESCE(r.totalVotes, 0)) "
+                        + "FROM ReviewEntity r WHERE r.isActive = true AND r.gameId IN :ids GROUP BY r.gameId", Object[].class)
+                .setParameter("ids", gameIds)
+                .getResultList()
+                .forEach(row -> {
+                    long total = ((Number) row[1]).longValue();
+                    long positive = ((Number) row[2]).longValue();
+                    counts.put((String) row[0], new Delta(total, positive, total - positive,
+                            ((Number) row[3]).longValue(), ((Number) row[4]).longValue()));
+                });
+
+        int drifted = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (String gameId : gameIds) {
+            Delta actual = counts.getOrDefault(gameId, Delta.ZERO);
+            ReviewSummaryEntity summary = summaries.get(gameId);
+            if (summary == null) {
+                if (actual.isZero()) {
+                    continue;
+                }
+                summary = ReviewSummaryEntity.builder().gameId(gameId).build();
+                persist(summary);
+            } else if (actual.equals(Delta.of(summary))) {
+                continue;
+            }
+
+            summary.setTotalReviews(actual.getReviews());
+            summary.setPositiveReviews(actual.getPositive());
+            summary.setNegativeReviews(actual.getNegative());
+            summary.setHelpfulVotes(actual.getHelpfulVotes());
+            summary.setTotalVotes(actual.getTotalVotes());
+            summary.setUpdatedAt(now);
+            drifted++;
+        }
+        return drifted;
+    }
+
+    private int increment(String gameId, Delta delta) {
+        return update("totalReviews = totalReviews + ?1, positiveReviews = positiveReviews + ?2, "
+                        + "negativeReviews = negativeReviews + ?3, helpfulVotes = helpfulVotes + ?4, "
+                        + "totalVotes = totalVotes + ?5, updatedAt = ?6 WHERE gameId = ?7",
+                delta.getReviews(), delta.getPositive(), delta.getNegative(), delta.getHelpfulVotes(),
+                delta.getTotalVotes(), LocalDateTime.now(), gameId);
+    }
+
+    // The empty row is committed on its own so that a concurrent insert for the same game
+    // cannot roll back the caller's transaction
+    private void createIfAbsent(String gameId) {
+        try {
+            QuarkusTransaction.requiringNew().run(() -> {
+                if (findByIdOptional(gameId).isEmpty()) {
+                    persist(ReviewSummaryEntity.builder().gameId(gameId).build());
+                }
+            });
+        } catch (PersistenceException e) {
+            log.debug("Review summary for game {} was created concurrently", gameId);
+        }
+    }
+
+    // What one review contributes to its game's summary; inactive reviews contribute nothing
+    @Value
+    public static class Delta {
+        public static final Delta ZERO = new Delta(0, 0, 0, 0, 0);
+
+        long reviews;
+        long positive;
+        long negative;
+        long helpfulVotes;
+        long totalVotes;
+
+        public static Delta of(ReviewEntity review) {
+            if (review == null || !Boolean.TRUE.equals(review.getIsActive())) {
+                return ZERO;
+            }
+            boolean positive = Boolean.TRUE.equals(review.getIsRecommended());
+            return new Delta(1, positive ? 1 : 0, positive ? 0 : 1,
+                    valueOf(review.getHelpfulVotes()), valueOf(review.getTotalVotes()));
+        }
+
+        static Delta of(ReviewSummaryEntity summary) {
+            return new Delta(summary.getTotalReviews(), summary.getPositiveReviews(), summary.getNegativeReviews(),
+                    summary.getHelpfulVotes(), summary.getTotalVotes());
+        }
+
+        public Delta minus(Delta other) {
+            return new Delta(reviews - other.reviews, positive - other.positive, negative - other.negative,
+                    helpfulVotes - other.helpfulVotes, totalVotes - other.totalVotes);
+        }
+
+        public boolean isZero() {
+            return equals(ZERO);
+        }
+
+        private static long valueOf(Integer value) {
+            return value != null ? value : 0;
+        }
+    }
+}
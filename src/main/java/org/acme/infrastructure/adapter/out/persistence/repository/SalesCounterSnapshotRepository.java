@@ -0,0 +1,22 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.acme.infrastructure.adapter.out.persistence.entity.SalesCounterSnapshotEntity;
+
+import java.util.Optional;
+
+@ApplicationScoped
+public class SalesCounterSnapshotRepository implements PanacheRepositoryBase<SalesCounterSnapshotEntity, String> {
+
+    public Optional<byte[]> read(String gameId) {
+        return findByIdOptional(gameId).map(SalesCounterSnapshotEntity::getBuckets);
+    }
+
+    public void write(String gameId, byte[] buckets) {
+        getEntityManager().merge(SalesCounterSnapshotEntity.builder()
+                .gameId(gameId)
+                .buckets(buckets)
+                .build());
+    }
+}
@@ -0,0 +1,136 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.panache.common.Page;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.SalesCounterPort;
+import org.acme.domain.model.SalesStatistics;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.SalesWindow;
+import org.acme.domain.repository.SalesStatisticsRepository;
+import org.acme.infrastructure.adapter.out.persistence.entity.SalesStatisticsEntity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@Slf4j
+public class SalesStatisticsRepositoryAdapter implements SalesStatisticsRepository, PanacheRepositoryBase<SalesStatisticsEntity, String> {
+
+    @Inject
+    SalesCounterPort salesCounterPort;
+
+    @Override
+    public SalesStatistics save(SalesStatistics statistics) {
+        log.debug("Saving sales statistics: {}", statistics.getId());
+
+        SalesStatisticsEntity entity = getEntityManager().merge(toEntity(statistics));
+        return toDomain(entity);
+    }
+
+    @Override
+    public Optional<SalesStatistics> findById(String id) {
+        log.debug("Finding sales statistics by ID: {}", id);
+
+        return findByIdOptional(id).map(this::toDomain);
+    }
+
+    @Override
+    public Optional<SalesStatistics> findByGameId(GameId gameId) {
+        log.debug("Finding sales statistics for game: {}", gameId.getValue());
+
+        return find("gameId", gameId.getValue()).firstResultOptional().map(this::toDomain);
+    }
+
+    @Override
+    public List<SalesStatistics> findByPublisherId(String publisherId) {
+        log.debug("Finding sales statistics for publisher: {}", publisherId);
+
+        return toDomainList(find("publisherId = ?1 ORDER BY totalSales DESC, gameId", publisherId).list());
+    }
+
+    @Override
+    public List<SalesStatistics> findTopSellingGames(int limit) {
+        log.debug("Finding top {} selling games", limit);
+
+        return toDomainList(find("ORDER BY totalSales DESC, gameId")
+                .page(Page.ofSize(limit))
+                .list());
+    }
+
+    @Override
+    public List<SalesStatistics> findTopRevenueGames(int limit) {
+        log.debug("Finding top {} revenue games", limit);
+
+        return toDomainList(find("ORDER BY totalRevenue DESC, gameId")
+                .page(Page.ofSize(limit))
+                .list());
+    }
+
+    @Override
+    public void delete(String id) {
+        log.debug("Deleting sales statistics: {}", id);
+
+        deleteById(id);
+    }
+
+    @Override
+    public long count() {
+        return PanacheRepositoryBase.super.count();
+    }
+
+    @Override
+    public boolean existsByGameId(GameId gameId) {
+        return count("gameId", gameId.getValue()) > 0;
+    }
+
+    private List<SalesStatistics> toDomainList(List<SalesStatisticsEntity> entities) {
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    // Mapping methods
+    private SalesStatisticsEntity toEntity(SalesStatistics statistics) {
+        return SalesStatisticsEntity.builder()
+                .id(statistics.getId())
+                .gameId(statistics.getGameId().getValue())
+                .publisherId(statistics.getPublisherId())
+                .totalSales(statistics.getTotalSales())
+                .totalRevenue(statistics.getTotalRevenue())
+                .averageRating(statistics.getAverageRating())
+                .totalReviews(statistics.getTotalReviews())
+                .positiveReviews(statistics.getPositiveReviews())
+                .lastUpdated(statistics.getLastUpdated())
+                .build();
+    }
+
+    // The rolling windows are not stored with the row; they are read from the sales counters
+    // every time the statistics are loaded
+    private SalesStatistics toDomain(SalesStatisticsEntity entity) {
+        String gameId = entity.getGameId();
+        LocalDateTime now = LocalDateTime.now();
+        SalesWindow lastWeek = salesCounterPort.window(gameId, ChronoUnit.DAYS, 7, now);
+
+        return SalesStatistics.builder()
+                .id(entity.getId())
+                .gameId(new GameId(gameId))
+                .publisherId(entity.getPublisherId())
+                .totalSales(entity.getTotalSales())
+                .totalRevenue(entity.getTotalRevenue())
+                .lastDay(salesCounterPort.window(gameId, ChronoUnit.DAYS, 1, now))
+                .lastWeek(lastWeek)
+                .previousWeek(salesCounterPort.window(gameId, ChronoUnit.DAYS, 14, now).minus(lastWeek))
+                .lastMonth(salesCounterPort.window(gameId, ChronoUnit.DAYS, 30, now))
+                .averageRating(entity.getAverageRating())
+                .totalReviews(entity.getTotalReviews())
+                .positiveReviews(entity.getPositiveReviews())
+                .lastUpdated(entity.getLastUpdated())
+                .build();
+    }
+}
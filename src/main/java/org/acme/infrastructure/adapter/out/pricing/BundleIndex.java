@@ -0,0 +1,88 @@
+package org.acme.infrastructure.adapter.out.pricing;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.BundleCatalogPort;
+import org.acme.domain.event.BundleChangedEvent;
+import org.acme.domain.model.Bundle;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.repository.BundleRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Active bundles by game. Bundles change rarely, so every change republishes the whole map
+// and lookups never touch the database.
+@ApplicationScoped
+@Slf4j
+public class BundleIndex implements BundleCatalogPort {
+
+    @Inject
+    BundleRepository bundleRepository;
+
+    private final Map<String, Bundle> bundles = new HashMap<>(); // guarded by this
+    private volatile Map<String, List<Bundle>> byGame = Map.of();
+
+    void onStart(@Observes StartupEvent event) {
+        try {
+            load();
+        } catch (Exception e) {
+            log.error("Error loading bundle index at startup", e);
+        }
+    }
+
+    synchronized void onBundleChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) BundleChangedEvent event) {
+        if (event.isDeleted() || !Boolean.TRUE.equals(event.getBundle().getIsActive())) {
+            bundles.remove(event.getBundleId());
+        } else {
+            bundles.put(event.getBundleId(), event.getBundle());
+        }
+        publish();
+    }
+
+    @Override
+    public List<Bundle> findActiveByGameIds(Collection<GameId> gameIds) {
+        Map<String, List<Bundle>> current = byGame;
+        Map<String, Bundle> matches = new LinkedHashMap<>();
+        for (GameId gameId : gameIds) {
+            for (Bundle bundle : current.getOrDefault(gameId.getValue(), List.of())) {
+                // validUntil is checked here rather than scheduled; a stale entry only costs this check
+                if (bundle.isValidBundle()) {
+                    matches.putIfAbsent(bundle.getId(), bundle);
+                }
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    private void load() {
+        log.info("Loading bundle index");
+
+        List<Bundle> active = QuarkusTransaction.requiringNew().call(() -> bundleRepository.findActiveBundles());
+        synchronized (this) {
+            active.forEach(bundle -> bundles.put(bundle.getId(), bundle));
+            publish();
+        }
+
+        log.info("Bundle index loaded with {} bundles", active.size());
+    }
+
+    private void publish() {
+        Map<String, List<Bundle>> rebuilt = new HashMap<>();
+        for (Bundle bundle : bundles.values()) {
+            for (GameId gameId : bundle.getGameIds()) {
+                rebuilt.computeIfAbsent(gameId.getValue(), key -> new ArrayList<>()).add(bundle);
+            }
+        }
+        byGame = rebuilt;
+    }
+}
@@ -0,0 +1,143 @@
+package org.acme.infrastructure.adapter.out.pricing;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.GameDiscountPort;
+import org.acme.application.port.out.OfferSchedulePort;
+import org.acme.domain.event.GameChangedEvent;
+import org.acme.domain.model.Offer;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.repository.GameRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@Slf4j
+public class GameDiscountIndex implements GameDiscountPort {
+
+    private static final Comparator<GameDiscount> BY_DISCOUNT = Comparator
+            .comparing((GameDiscount discount) -> discount.getDiscountPercentage(), Comparator.reverseOrder())
+            .thenComparing(discount -> discount.getGameId().getValue());
+
+    @Inject
+    OfferSchedulePort offerSchedule;
+
+    @Inject
+    GameRepository gameRepository;
+
+    private final AtomicLong gameChanges = new AtomicLong();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Override
+    public List<GameDiscount> findDiscounted(int offset, int limit) {
+        List<GameDiscount> ranked = current().ranked;
+        if (offset >= ranked.size()) {
+            return List.of();
+        }
+        return ranked.subList(offset, Math.min(offset + limit, ranked.size()));
+    }
+
+    @Override
+    public Optional<GameDiscount> findByGameId(GameId gameId) {
+        return Optional.ofNullable(current().byGame.get(gameId.getValue()));
+    }
+
+    @Override
+    public int countDiscounted() {
+        return current().ranked.size();
+    }
+
+    // A game deactivated, reactivated or deleted while on offer changes the ranking, so the next
+    // read rebuilds it. Checked against the timeline rather than the snapshot, which may be empty
+    // or still being built when the change commits.
+    void onGameChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameChangedEvent event) {
+        boolean offered = offerSchedule.activeOffers().stream()
+                .anyMatch(offer -> offer.getGameIds().contains(event.getGameId()));
+        if (offered) {
+            gameChanges.incrementAndGet();
+        }
+    }
+
+    // The timeline publishes a new list whenever an offer starts or ends, so the discount map
+    // is rebuilt at most once per boundary, on the first read after it
+    private Snapshot current() {
+        List<Offer> activeOffers = offerSchedule.activeOffers();
+        Snapshot current = snapshot;
+        if (current.isFor(activeOffers, gameChanges.get())) {
+            return current;
+        }
+        return recompute(activeOffers);
+    }
+
+    private synchronized Snapshot recompute(List<Offer> activeOffers) {
+        // Read before the games are: a change committing during the rebuild leaves this snapshot
+        // behind, so the next read rebuilds it again
+        long changes = gameChanges.get();
+        if (snapshot.isFor(activeOffers, changes)) {
+            return snapshot;
+        }
+
+        Map<String, GameDiscount> byGame = new HashMap<>();
+        for (Offer offer : activeOffers) {
+            for (GameId gameId : offer.getGameIds()) {
+                // Offers don't stack; the deepest one wins
+                byGame.merge(gameId.getValue(), toDiscount(gameId, offer),
+                        (current, candidate) -> BY_DISCOUNT.compare(candidate, current) < 0 ? candidate : current);
+            }
+        }
+
+        // Inactive and deleted games are dropped here rather than after paging, so every page is full
+        Set<GameId> activeGames = byGame.isEmpty() ? Set.of() : QuarkusTransaction.requiringNew()
+                .call(() -> gameRepository.findActiveIds(byGame.values().stream()
+                        .map(GameDiscount::getGameId)
+                        .collect(Collectors.toList())));
+        byGame.values().removeIf(discount -> !activeGames.contains(discount.getGameId()));
+
+        List<GameDiscount> ranked = new ArrayList<>(byGame.values());
+        ranked.sort(BY_DISCOUNT);
+        snapshot = new Snapshot(activeOffers, changes, byGame, List.copyOf(ranked));
+
+        log.debug("Discount index recomputed - {} discounted games from {} active offers", ranked.size(), activeOffers.size());
+        return snapshot;
+    }
+
+    private static GameDiscount toDiscount(GameId gameId, Offer offer) {
+        return GameDiscount.builder()
+                .gameId(gameId)
+                .discountPercentage(offer.getDiscountPercentage())
+                .offerId(offer.getId())
+                .build();
+    }
+
+    private static class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(null, -1, Map.of(), List.of());
+
+        final List<Offer> source; // the timeline snapshot this was derived from
+        final long gameChanges; // the change count read before the games were
+        final Map<String, GameDiscount> byGame;
+        final List<GameDiscount> ranked;
+
+        Snapshot(List<Offer> source, long gameChanges, Map<String, GameDiscount> byGame, List<GameDiscount> ranked) {
+            this.source = source;
+            this.gameChanges = gameChanges;
+            this.byGame = byGame;
+            this.ranked = ranked;
+        }
+
+        boolean isFor(List<Offer> activeOffers, long changes) {
+            return source == activeOffers && gameChanges == changes;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package org.acme.infrastructure.adapter.out.pricing;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.OfferSchedulePort;
+import org.acme.domain.event.OfferChangedEvent;
+import org.acme.domain.model.Offer;
+import org.acme.domain.repository.OfferRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+// Active and upcoming offers ordered by their start/end boundaries. A tick only pops the boundaries
+// that have passed, so offers flip state incrementally instead of being re-evaluated on every read.
+@ApplicationScoped
+@Slf4j
+public class OfferTimeline implements OfferSchedulePort {
+
+    private static final Comparator<Offer> BY_END_DATE = Comparator.comparing(Offer::getEndDate)
+            .thenComparing(Offer::getId);
+
+    @Inject
+    OfferRepository offerRepository;
+
+    // Guarded by this
+    private final Map<String, Offer> scheduled = new HashMap<>();
+    private final Map<String, Offer> active = new HashMap<>();
+    private final TreeMap<LocalDateTime, Set<String>> pendingStarts = new TreeMap<>();
+    private final TreeMap<LocalDateTime, Set<String>> pendingEnds = new TreeMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile LocalDateTime nextBoundary; // null when nothing is scheduled
+
+    void onStart(@Observes StartupEvent event) {
+        try {
+            load();
+        } catch (Exception e) {
+            log.error("Error loading offer timeline at startup", e);
+        }
+    }
+
+    void onOfferChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) OfferChangedEvent event) {
+        synchronized (this) {
+            unschedule(event.getOfferId());
+            if (!event.isDeleted() && Boolean.TRUE.equals(event.getOffer().getIsActive())) {
+                schedule(event.getOffer());
+            }
+            advance(LocalDateTime.now());
+        }
+    }
+
+    // One volatile read per tick unless a boundary has passed
+    @Scheduled(every = "${catalog.offers.boundary-check-interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void tick() {
+        tick(LocalDateTime.now());
+    }
+
+    void tick(LocalDateTime now) {
+        LocalDateTime boundary = nextBoundary;
+        if (boundary != null && !now.isBefore(boundary)) {
+            synchronized (this) {
+                advance(now);
+            }
+        }
+    }
+
+    @Override
+    public List<Offer> activeOffers() {
+        return snapshot.active;
+    }
+
+    @Override
+    public List<Offer> activeSeasonalOffers() {
+        return snapshot.seasonal;
+    }
+
+    @Override
+    public List<Offer> expiringWithin(int hours) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Offer> expiring = new ArrayList<>();
+        snapshot.activeByEnd.subMap(now, false, now.plusHours(hours), true).values().forEach(expiring::addAll);
+        return expiring;
+    }
+
+    private void load() {
+        log.info("Loading offer timeline");
+
+        List<Offer> offers = QuarkusTransaction.requiringNew().call(() -> offerRepository.findActiveOrUpcoming());
+        synchronized (this) {
+            offers.forEach(this::schedule);
+            advance(LocalDateTime.now());
+        }
+
+        log.info("Offer timeline loaded with {} offers, {} active", offers.size(), snapshot.active.size());
+    }
+
+    private void schedule(Offer offer) {
+        scheduled.put(offer.getId(), offer);
+        pendingStarts.computeIfAbsent(offer.getStartDate(), key -> new HashSet<>()).add(offer.getId());
+        pendingEnds.computeIfAbsent(offer.getEndDate(), key -> new HashSet<>()).add(offer.getId());
+    }
+
+    private void unschedule(String offerId) {
+        Offer offer = scheduled.remove(offerId);
+        if (offer == null) {
+            return;
+        }
+        removeBoundary(pendingStarts, offer.getStartDate(), offerId);
+        removeBoundary(pendingEnds, offer.getEndDate(), offerId);
+        active.remove(offerId);
+    }
+
+    // Same window as Offer.isCurrentlyActive: after startDate and before endDate
+    private void advance(LocalDateTime now) {
+        while (!pendingStarts.isEmpty() && pendingStarts.firstKey().isBefore(now)) {
+            for (String id : pendingStarts.pollFirstEntry().getValue()) {
+                active.put(id, scheduled.get(id));
+            }
+        }
+        while (!pendingEnds.isEmpty() && !pendingEnds.firstKey().isAfter(now)) {
+            for (String id : pendingEnds.pollFirstEntry().getValue()) {
+                active.remove(id);
+                Offer offer = scheduled.remove(id);
+                removeBoundary(pendingStarts, offer.getStartDate(), id);
+            }
+        }
+
+        LocalDateTime nextStart = pendingStarts.isEmpty() ? null : pendingStarts.firstKey();
+        LocalDateTime nextEnd = pendingEnds.isEmpty() ? null : pendingEnds.firstKey();
+        nextBoundary = nextStart == null || (nextEnd != null && nextEnd.isBefore(nextStart)) ? nextEnd : nextStart;
+
+        publish();
+    }
+
+    private void publish() {
+        List<Offer> activeOffers = active.values().stream()
+                .sorted(BY_END_DATE)
+                .collect(Collectors.toUnmodifiableList());
+
+        NavigableMap<LocalDateTime, List<Offer>> activeByEnd = new TreeMap<>();
+        activeOffers.forEach(offer -> activeByEnd.computeIfAbsent(offer.getEndDate(), key -> new ArrayList<>()).add(offer));
+
+        List<Offer> seasonal = activeOffers.stream()
+                .filter(Offer::isSeasonal)
+                .collect(Collectors.toUnmodifiableList());
+
+        snapshot = new Snapshot(activeOffers, seasonal, Collections.unmodifiableNavigableMap(activeByEnd));
+
+        log.debug("Offer timeline advanced - {} active offers, next boundary: {}", activeOffers.size(), nextBoundary);
+    }
+
+    private static void removeBoundary(TreeMap<LocalDateTime, Set<String>> boundaries, LocalDateTime at, String offerId) {
+        Set<String> ids = boundaries.get(at);
+        if (ids != null) {
+            ids.remove(offerId);
+            if (ids.isEmpty()) {
+                boundaries.remove(at);
+            }
+        }
+    }
+
+    // Immutable view published after every change; readers never lock
+    private static class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(List.of(), List.of(), Collections.emptyNavigableMap());
+
+        final List<Offer> active;
+        final List<Offer> seasonal;
+        final NavigableMap<LocalDateTime, List<Offer>> activeByEnd;
+
+        Snapshot(List<Offer> active, List<Offer> seasonal, NavigableMap<LocalDateTime, List<Offer>> activeByEnd) {
+            this.active = active;
+            this.seasonal = seasonal;
+            this.activeByEnd = activeByEnd;
+        }
+    }
+}
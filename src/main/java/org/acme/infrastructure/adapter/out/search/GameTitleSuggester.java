@@ -0,0 +1,115 @@
+package org.acme.infrastructure.adapter.out.search;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.GameSuggestionPort;
+import org.acme.domain.event.GameChangedEvent;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.valueobjects.GameCursor;
+import org.acme.domain.model.valueobjects.Rating;
+import org.acme.domain.repository.GameRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@ApplicationScoped
+@Slf4j
+public class GameTitleSuggester implements GameSuggestionPort {
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    @Inject
+    GameRepository gameRepository;
+
+    // Source of truth for the trie, kept current by events so rebuilds never touch the database
+    private final Map<String, TitleSuggestionTrie.Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile TitleSuggestionTrie trie = TitleSuggestionTrie.build(List.of());
+
+    void onStart(@Observes StartupEvent event) {
+        try {
+            load();
+        } catch (Exception e) {
+            log.error("Error building title suggestion trie at startup", e);
+        }
+    }
+
+    void onGameChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameChangedEvent event) {
+        if (event.isDeleted() || !Boolean.TRUE.equals(event.getGame().getIsActive())) {
+            entries.remove(event.getGameId().getValue());
+        } else {
+            entries.put(event.getGameId().getValue(), toEntry(event.getGame()));
+        }
+        dirty.set(true);
+    }
+
+    // The trie is immutable; bursts of catalog changes are folded into one rebuild
+    @Scheduled(every = "${catalog.suggest.refresh-interval:30s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void refreshIfDirty() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public List<GameSuggestion> suggest(String prefix, int limit) {
+        TitleSuggestionTrie current = trie;
+        int[] hits = new int[Math.min(limit, TitleSuggestionTrie.TOP_K)];
+        int count = current.lookup(prefix, limit, hits);
+
+        List<GameSuggestion> suggestions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            suggestions.add(GameSuggestion.builder()
+                    .gameId(current.gameId(hits[i]))
+                    .title(current.title(hits[i]))
+                    .build());
+        }
+        return suggestions;
+    }
+
+    private void load() {
+        log.info("Loading titles for suggestion trie");
+
+        GameCursor cursor = null;
+        List<Game> batch;
+        do {
+            GameCursor after = cursor;
+            batch = QuarkusTransaction.requiringNew().call(() -> gameRepository.findAllAfter(after, LOAD_BATCH_SIZE));
+            batch.forEach(game -> entries.put(game.getId().getValue(), toEntry(game)));
+            if (!batch.isEmpty()) {
+                cursor = GameCursor.of(batch.get(batch.size() - 1));
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        rebuild();
+    }
+
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        TitleSuggestionTrie rebuilt = TitleSuggestionTrie.build(new ArrayList<>(entries.values()));
+        trie = rebuilt;
+        log.info("Title suggestion trie rebuilt with {} titles and {} nodes in {} ms",
+                rebuilt.size(), rebuilt.nodeCount(), System.currentTimeMillis() - startTime);
+    }
+
+    private TitleSuggestionTrie.Entry toEntry(Game game) {
+        return new TitleSuggestionTrie.Entry(game.getId().getValue(), game.getTitle(), popularity(game.getRating()));
+    }
+
+    // Well rated games with many votes first; an unrated game scores 0
+    static float popularity(Rating rating) {
+        if (rating == null) {
+            return 0f;
+        }
+        return rating.getValue().floatValue() * (float) Math.log1p(rating.getTotalVotes());
+    }
+}
@@ -0,0 +1,354 @@
+package org.acme.infrastructure.adapter.out.search;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.application.port.out.GameSearchIndexPort;
+import org.acme.domain.event.GameChangedEvent;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.valueobjects.GameCursor;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.repository.GameRepository;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@Slf4j
+public class InMemoryGameSearchIndex implements GameSearchIndexPort {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float TAG_WEIGHT = 2.0f;
+    private static final float DEVELOPER_WEIGHT = 1.0f;
+    private static final float PUBLISHER_WEIGHT = 1.0f;
+    private static final float PREFIX_FACTOR = 0.6f;
+    private static final float NGRAM_FACTOR = 0.3f;
+    private static final int NGRAM_SIZE = 3;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    @Inject
+    GameRepository gameRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    private List<GameChangedEvent> pendingChanges; // non-null while a rebuild is running
+
+    void onStart(@Observes StartupEvent event) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Error building game search index at startup", e);
+        }
+    }
+
+    void onGameChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            index.apply(event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<GameId> search(String query, int offset, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, Float> scores = index.score(tokens);
+            Comparator<Map.Entry<String, Float>> byRelevance = Map.Entry.<String, Float>comparingByValue().reversed();
+            // Shorter titles first on ties, so "Doom" ranks above "Doom Eternal" for "doom"
+            byRelevance = byRelevance
+                    .thenComparingInt(entry -> index.documents.get(entry.getKey()).getNormalizedTitle().length())
+                    .thenComparing(Map.Entry::getKey);
+
+            return scores.entrySet().stream()
+                    .sorted(byRelevance)
+                    .skip(offset)
+                    .limit(limit)
+                    .map(entry -> new GameId(entry.getKey()))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<GameId> searchAfter(String query, GameCursor cursor, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Comparator<IndexedGame> newestFirst = Comparator.comparing(IndexedGame::getCreatedAt)
+                    .thenComparing(IndexedGame::getId)
+                    .reversed();
+
+            return index.score(tokens).keySet().stream()
+                    .map(index.documents::get)
+                    .filter(doc -> cursor == null || isAfter(doc, cursor))
+                    .sorted(newestFirst)
+                    .limit(limit)
+                    .map(doc -> new GameId(doc.getId()))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        log.info("Rebuilding game search index");
+        long startTime = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = new Index();
+        try {
+            GameCursor cursor = null;
+            List<Game> batch;
+            do {
+                GameCursor after = cursor;
+                batch = QuarkusTransaction.requiringNew().call(() -> gameRepository.findAllAfter(after, REBUILD_BATCH_SIZE));
+                batch.forEach(rebuilt::put);
+                if (!batch.isEmpty()) {
+                    cursor = GameCursor.of(batch.get(batch.size() - 1));
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Replay writes that committed while we were reading the catalog
+            pendingChanges.forEach(rebuilt::apply);
+            pendingChanges = null;
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Game search index rebuilt with {} games in {} ms",
+                rebuilt.documents.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private static boolean isAfter(IndexedGame doc, GameCursor cursor) {
+        int byDate = doc.getCreatedAt().compareTo(cursor.getCreatedAt());
+        return byDate < 0 || (byDate == 0 && doc.getId().compareTo(cursor.getId()) < 0);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> ngrams(String text) {
+        Set<String> ngrams = new HashSet<>();
+        for (int i = 0; i + NGRAM_SIZE <= text.length(); i++) {
+            ngrams.add(text.substring(i, i + NGRAM_SIZE));
+        }
+        return ngrams;
+    }
+
+    @Value
+    private static class IndexedGame {
+        String id;
+        String normalizedTitle;
+        LocalDateTime createdAt;
+        Set<String> terms;
+        Set<String> ngrams;
+    }
+
+    // Not thread-safe on its own; guarded by the outer read/write lock
+    private static class Index {
+        // term -> (gameId -> field weight), sorted so a prefix lookup is a range scan
+        final NavigableMap<String, Map<String, Float>> postings = new TreeMap<>();
+        // title trigram -> gameIds, for infix matches such as "punk" in "Cyberpunk"
+        final Map<String, Set<String>> titleNgrams = new HashMap<>();
+        final Map<String, IndexedGame> documents = new HashMap<>();
+
+        void apply(GameChangedEvent event) {
+            if (event.isDeleted()) {
+                remove(event.getGameId().getValue());
+            } else {
+                put(event.getGame());
+            }
+        }
+
+        void put(Game game) {
+            String id = game.getId().getValue();
+            remove(id);
+
+            if (!Boolean.TRUE.equals(game.getIsActive())) {
+                return;
+            }
+
+            Map<String, Float> termWeights = new HashMap<>();
+            addTerms(termWeights, game.getTitle(), TITLE_WEIGHT);
+            if (game.getTags() != null) {
+                game.getTags().forEach(tag -> addTerms(termWeights, tag, TAG_WEIGHT));
+            }
+            addTerms(termWeights, game.getDeveloper(), DEVELOPER_WEIGHT);
+            addTerms(termWeights, game.getPublisher(), PUBLISHER_WEIGHT);
+            termWeights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, weight));
+
+            String normalizedTitle = normalize(game.getTitle());
+            Set<String> titleGrams = ngrams(normalizedTitle);
+            titleGrams.forEach(gram -> titleNgrams.computeIfAbsent(gram, key -> new HashSet<>()).add(id));
+
+            documents.put(id, new IndexedGame(id, normalizedTitle, game.getCreatedAt(), termWeights.keySet(), titleGrams));
+        }
+
+        void remove(String id) {
+            IndexedGame doc = documents.remove(id);
+            if (doc == null) {
+                return;
+            }
+
+            for (String term : doc.getTerms()) {
+                Map<String, Float> docs = postings.get(term);
+                if (docs != null) {
+                    docs.remove(id);
+                    if (docs.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+
+            for (String gram : doc.getNgrams()) {
+                Set<String> docs = titleNgrams.get(gram);
+                if (docs != null) {
+                    docs.remove(id);
+                    if (docs.isEmpty()) {
+                        titleNgrams.remove(gram);
+                    }
+                }
+            }
+        }
+
+        // Every query token must match, either exactly, as a prefix of an indexed term,
+        // or as a substring of the title; the best match per token is added to the score
+        Map<String, Float> score(List<String> tokens) {
+            Map<String, Float> scores = null;
+
+            for (String token : tokens) {
+                Map<String, Float> tokenScores = new HashMap<>();
+
+                Map<String, Float> exact = postings.get(token);
+                if (exact != null) {
+                    exact.forEach((id, weight) -> tokenScores.merge(id, weight, Math::max));
+                }
+
+                if (token.length() >= MIN_PREFIX_LENGTH) {
+                    postings.subMap(token, false, token + Character.MAX_VALUE, false)
+                            .values()
+                            .forEach(docs -> docs.forEach((id, weight) ->
+                                    tokenScores.merge(id, weight * PREFIX_FACTOR, Math::max)));
+                }
+
+                if (token.length() >= NGRAM_SIZE) {
+                    for (String id : titlesContaining(token)) {
+                        tokenScores.merge(id, TITLE_WEIGHT * NGRAM_FACTOR, Math::max);
+                    }
+                }
+
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+
+            return scores != null ? scores : Map.of();
+        }
+
+        private Set<String> titlesContaining(String token) {
+            Set<String> candidates = null;
+            for (String gram : ngrams(token)) {
+                Set<String> docs = titleNgrams.get(gram);
+                if (docs == null) {
+                    return Set.of();
+                }
+                if (candidates == null) {
+                    candidates = new HashSet<>(docs);
+                } else {
+                    candidates.retainAll(docs);
+                }
+            }
+
+            if (candidates == null) {
+                return Set.of();
+            }
+            // Trigrams can match out of order; confirm the actual substring
+            candidates.removeIf(id -> !documents.get(id).getNormalizedTitle().contains(token));
+            return candidates;
+        }
+
+        private static void addTerms(Map<String, Float> termWeights, String text, float weight) {
+            for (String token : tokenize(text)) {
+                termWeights.merge(token, weight, Float::sum);
+            }
+        }
+    }
+}
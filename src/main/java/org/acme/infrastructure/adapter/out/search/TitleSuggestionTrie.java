@@ -0,0 +1,261 @@
+package org.acme.infrastructure.adapter.out.search;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// Immutable compressed (radix) trie over normalized titles, laid out in flat primitive arrays.
+// Every node keeps the ids of its TOP_K best entries, so a lookup only walks the prefix.
+public final class TitleSuggestionTrie {
+
+    public static final int TOP_K = 10;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String[] keys;
+    private final String[] gameIds;
+    private final String[] titles;
+    private final float[] scores;
+
+    // Node i covers a run of keys starting at nodeLo[i] that share their first nodeDepth[i] chars.
+    // Children of a node are stored contiguously and sorted by the char they branch on.
+    private final int[] nodeLo;
+    private final int[] nodeDepth;
+    private final int[] nodeFirstChild;
+    private final int[] nodeChildCount;
+    private final char[] nodeBranchChar;
+    private final int[] nodeTopKOffset;
+    private final byte[] nodeTopKCount;
+    private int[] topK;
+    private int topKSize;
+    private int nodeCount;
+
+    private TitleSuggestionTrie(List<Entry> entries) {
+        List<Entry> indexable = new ArrayList<>(entries.size());
+        List<String> normalizedKeys = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            String key = normalize(entry.getTitle());
+            if (!key.isEmpty()) {
+                indexable.add(entry);
+                normalizedKeys.add(key);
+            }
+        }
+
+        int n = indexable.size();
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(normalizedKeys::get));
+
+        keys = new String[n];
+        gameIds = new String[n];
+        titles = new String[n];
+        scores = new float[n];
+        for (int i = 0; i < n; i++) {
+            Entry entry = indexable.get(order[i]);
+            keys[i] = normalizedKeys.get(order[i]);
+            gameIds[i] = entry.getGameId();
+            titles[i] = entry.getTitle();
+            scores[i] = entry.getScore();
+        }
+
+        int maxNodes = 2 * n + 1;
+        nodeLo = new int[maxNodes];
+        nodeDepth = new int[maxNodes];
+        nodeFirstChild = new int[maxNodes];
+        nodeChildCount = new int[maxNodes];
+        nodeBranchChar = new char[maxNodes];
+        nodeTopKOffset = new int[maxNodes];
+        nodeTopKCount = new byte[maxNodes];
+        topK = new int[Math.max(16, n * 2)];
+
+        if (n > 0) {
+            nodeCount = 1;
+            buildNode(0, 0, n, 0);
+        }
+        topK = Arrays.copyOf(topK, topKSize);
+    }
+
+    public static TitleSuggestionTrie build(List<Entry> entries) {
+        return new TitleSuggestionTrie(entries);
+    }
+
+    public static String normalize(String title) {
+        return WHITESPACE.matcher(InMemoryGameSearchIndex.normalize(title)).replaceAll(" ").trim();
+    }
+
+    // Writes up to limit entry indexes, best first, into out and returns how many were written
+    public int lookup(String prefix, int limit, int[] out) {
+        // A trailing space is kept so that "dark " only matches whole words
+        int node = findNode(WHITESPACE.matcher(InMemoryGameSearchIndex.normalize(prefix)).replaceAll(" ").stripLeading());
+        if (node < 0) {
+            return 0;
+        }
+        int count = Math.min(Math.min(limit, nodeTopKCount[node]), out.length);
+        System.arraycopy(topK, nodeTopKOffset[node], out, 0, count);
+        return count;
+    }
+
+    public String gameId(int entry) {
+        return gameIds[entry];
+    }
+
+    public String title(int entry) {
+        return titles[entry];
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    private int findNode(String prefix) {
+        if (nodeCount == 0 || prefix.isEmpty()) {
+            return -1;
+        }
+
+        int node = 0;
+        int edgeStart = 0;
+        while (true) {
+            int depth = nodeDepth[node];
+            int checkTo = Math.min(depth, prefix.length());
+            if (!keys[nodeLo[node]].regionMatches(edgeStart, prefix, edgeStart, checkTo - edgeStart)) {
+                return -1;
+            }
+            if (prefix.length() <= depth) {
+                return node;
+            }
+
+            node = findChild(node, prefix.charAt(depth));
+            if (node < 0) {
+                return -1;
+            }
+            edgeStart = depth + 1;
+        }
+    }
+
+    private int findChild(int node, char c) {
+        int lo = nodeFirstChild[node];
+        int hi = lo + nodeChildCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char midChar = nodeBranchChar[mid];
+            if (midChar < c) {
+                lo = mid + 1;
+            } else if (midChar > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private void buildNode(int node, int lo, int hi, int knownDepth) {
+        int depth = commonPrefixLength(keys[lo], keys[hi - 1], knownDepth);
+        nodeLo[node] = lo;
+        nodeDepth[node] = depth;
+
+        // Keys that end exactly here sort before any longer key sharing the prefix
+        int terminalEnd = lo;
+        while (terminalEnd < hi && keys[terminalEnd].length() == depth) {
+            terminalEnd++;
+        }
+
+        int childCount = 0;
+        for (int i = terminalEnd; i < hi; ) {
+            char c = keys[i].charAt(depth);
+            while (i < hi && keys[i].charAt(depth) == c) {
+                i++;
+            }
+            childCount++;
+        }
+
+        int firstChild = nodeCount;
+        nodeFirstChild[node] = firstChild;
+        nodeChildCount[node] = childCount;
+        nodeCount += childCount;
+
+        int child = firstChild;
+        for (int i = terminalEnd; i < hi; child++) {
+            int groupStart = i;
+            char c = keys[i].charAt(depth);
+            while (i < hi && keys[i].charAt(depth) == c) {
+                i++;
+            }
+            nodeBranchChar[child] = c;
+            buildNode(child, groupStart, i, depth + 1);
+        }
+
+        collectTopK(node, lo, terminalEnd, firstChild, childCount);
+    }
+
+    private void collectTopK(int node, int terminalStart, int terminalEnd, int firstChild, int childCount) {
+        int[] best = new int[TOP_K];
+        int count = 0;
+
+        for (int entry = terminalStart; entry < terminalEnd; entry++) {
+            count = offer(best, count, entry);
+        }
+        for (int child = firstChild; child < firstChild + childCount; child++) {
+            int offset = nodeTopKOffset[child];
+            for (int i = 0; i < nodeTopKCount[child]; i++) {
+                count = offer(best, count, topK[offset + i]);
+            }
+        }
+
+        if (topKSize + count > topK.length) {
+            topK = Arrays.copyOf(topK, Math.max(topK.length * 2, topKSize + count));
+        }
+        System.arraycopy(best, 0, topK, topKSize, count);
+        nodeTopKOffset[node] = topKSize;
+        nodeTopKCount[node] = (byte) count;
+        topKSize += count;
+    }
+
+    // Insertion into a small sorted buffer: higher score first, then alphabetical
+    private int offer(int[] best, int count, int entry) {
+        int position = count;
+        while (position > 0 && isBetter(entry, best[position - 1])) {
+            position--;
+        }
+        if (position >= TOP_K) {
+            return count;
+        }
+        int newCount = Math.min(count + 1, TOP_K);
+        System.arraycopy(best, position, best, position + 1, newCount - position - 1);
+        best[position] = entry;
+        return newCount;
+    }
+
+    private boolean isBetter(int entry, int other) {
+        if (scores[entry] != scores[other]) {
+            return scores[entry] > scores[other];
+        }
+        return entry < other;
+    }
+
+    private static int commonPrefixLength(String a, String b, int from) {
+        int max = Math.min(a.length(), b.length());
+        int i = from;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    @Value
+    public static class Entry {
+        String gameId;
+        String title;
+        float score;
+    }
+}
@@ -6,9 +6,15 @@ import jakarta.inject.Singleton;
 import org.acme.application.port.in.*;
 import org.acme.application.service.GameApplicationService;
 import org.acme.application.service.GiftApplicationService;
+import org.acme.application.service.OfferApplicationService;
+import org.acme.application.service.PricingApplicationService;
 import org.acme.application.service.PreOrderApplicationService;
+import org.acme.application.service.ReviewApplicationService;
 import org.acme.domain.repository.*;
+import org.acme.infrastructure.adapter.out.persistence.repository.BundleRepositoryAdapter;
 import org.acme.infrastructure.adapter.out.persistence.repository.GameRepositoryAdapter;
+import org.acme.infrastructure.adapter.out.persistence.repository.OfferRepositoryAdapter;
+import org.acme.infrastructure.adapter.out.persistence.repository.SalesStatisticsRepositoryAdapter;
 
 @ApplicationScoped
 public class BeanConfig {
@@ -55,6 +61,12 @@ public class BeanConfig {
         return bundleApplicationService;
     }
 
+    @Produces
+    @Singleton
+    public PricingUseCase pricingUseCase(PricingApplicationService pricingApplicationService) {
+        return pricingApplicationService;
+    }
+
     // Repository Configurations
     @Produces
     @Singleton
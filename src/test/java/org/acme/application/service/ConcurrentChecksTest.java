@@ -0,0 +1,74 @@
+package org.acme.application.service;
+
+import org.acme.application.exception.ValidationTimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentChecksTest {
+
+    @Test
+    void testChecksRunConcurrently() {
+        long start = System.nanoTime();
+        try (ConcurrentChecks checks = new ConcurrentChecks(Duration.ofSeconds(5))) {
+            for (int i = 0; i < 4; i++) {
+                checks.require(() -> sleep(300), () -> new IllegalArgumentException("no"));
+            }
+            checks.await();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Four 300 ms calls in sequence would take at least 1200 ms
+        assertTrue(elapsedMillis < 900, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testFirstFailureWinsAndCancelsTheRest() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> {
+            try (ConcurrentChecks checks = new ConcurrentChecks(Duration.ofSeconds(5))) {
+                checks.require(() -> {
+                    if (!sleep(5_000)) {
+                        interrupted.countDown();
+                    }
+                    return true;
+                }, () -> new IllegalArgumentException("slow"));
+                checks.require(() -> false, () -> new IllegalStateException("fast"));
+                checks.await();
+            }
+        });
+
+        assertEquals("fast", failure.getMessage());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS), "slow check was not cancelled");
+    }
+
+    @Test
+    void testSharedDeadline() {
+        long start = System.nanoTime();
+
+        assertThrows(ValidationTimeoutException.class, () -> {
+            try (ConcurrentChecks checks = new ConcurrentChecks(Duration.ofMillis(200))) {
+                checks.require(() -> sleep(5_000), () -> new IllegalArgumentException("slow"));
+                checks.await();
+            }
+        });
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+}
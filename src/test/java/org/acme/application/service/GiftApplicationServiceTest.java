@@ -0,0 +1,175 @@
+package org.acme.application.service;
+
+import io.quarkus.test.junit.QuarkusMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.acme.application.port.in.GiftUseCase;
+import org.acme.application.port.out.InventoryServicePort;
+import org.acme.application.port.out.PaymentServicePort;
+import org.acme.application.port.out.UserServicePort;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.Gift;
+import org.acme.testsupport.CatalogTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.acme.testsupport.CatalogTestData.game;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@QuarkusTest
+class GiftApplicationServiceTest {
+
+    @Inject
+    GiftApplicationService giftService;
+
+    @Inject
+    CatalogTestData testData;
+
+    private Game game;
+
+    @BeforeEach
+    void installFakes() {
+        RecordingPayments.charges.set(0);
+        RecordingPayments.links.clear();
+        RecordingPayments.keys.clear();
+        OwningInventory.owned.clear();
+        QuarkusMock.installMockForType(new KnownUsers(), UserServicePort.class);
+        QuarkusMock.installMockForType(new OwningInventory(), InventoryServicePort.class);
+        QuarkusMock.installMockForType(new RecordingPayments(), PaymentServicePort.class);
+        game = game("Gifted Game").build();
+        testData.saveGames(game);
+    }
+
+    @Test
+    void testReplayAfterClaimReturnsTheOriginalGift() {
+        String key = UUID.randomUUID().toString();
+        Gift sent = giftService.sendGift(command(key));
+        giftService.claimGift(sent.getId(), "friend-1");
+
+        // The recipient owns the game now, which would refuse a new gift but not a replay
+        Gift replayed = giftService.sendGift(command(key));
+        assertEquals(sent.getId(), replayed.getId());
+        assertEquals(1, RecordingPayments.charges.get());
+
+        assertThrows(IllegalStateException.class, () -> giftService.sendGift(command(UUID.randomUUID().toString())));
+    }
+
+    private GiftUseCase.SendGiftCommand command(String idempotencyKey) {
+        return GiftUseCase.SendGiftCommand.builder()
+                .gameId(game.getId().getValue())
+                .senderId("sender-1")
+                .recipientId("friend-1")
+                .message("¡Disfrútalo!")
+                .amount(19.99)
+                .currency("USD")
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+
+    static class KnownUsers implements UserServicePort {
+
+        @Override
+        public boolean userExists(String userId) {
+            return true;
+        }
+
+        @Override
+        public UserDto getUserById(String userId) {
+            return UserDto.builder().id(userId).username(userId).isActive(true).build();
+        }
+
+        @Override
+        public boolean areUsersFriends(String userId1, String userId2) {
+            return true;
+        }
+
+        @Override
+        public List<String> getUserFriends(String userId) {
+            return List.of();
+        }
+    }
+
+    static class OwningInventory implements InventoryServicePort {
+
+        static final Set<String> owned = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void addGameToLibrary(AddGameRequest request) {
+            owned.add(request.userId + ":" + request.gameId);
+        }
+
+        @Override
+        public void addGamesToLibrary(List<AddGameRequest> requests) {
+            requests.forEach(this::addGameToLibrary);
+        }
+
+        @Override
+        public boolean userOwnsGame(String userId, String gameId) {
+            return owned.contains(userId + ":" + gameId);
+        }
+
+        @Override
+        public Set<String> ownsGames(String userId, Set<String> gameIds) {
+            return gameIds.stream().filter(gameId -> userOwnsGame(userId, gameId)).collect(Collectors.toSet());
+        }
+
+        @Override
+        public List<String> getUserGames(String userId) {
+            return List.of();
+        }
+
+        @Override
+        public void removeGameFromLibrary(String userId, String gameId) {
+            owned.remove(userId + ":" + gameId);
+        }
+    }
+
+    // Charges once per key and hands back the linked resource on a retry, like the idempotency store
+    static class RecordingPayments implements PaymentServicePort {
+
+        static final AtomicInteger charges = new AtomicInteger();
+        static final Map<String, String> links = new ConcurrentHashMap<>();
+        static final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public PaymentResult processPayment(PaymentRequest request) {
+            if (request.idempotencyKey == null || keys.add(request.idempotencyKey)) {
+                charges.incrementAndGet();
+            }
+            return PaymentResult.builder()
+                    .paymentId("pay-" + charges.get())
+                    .status("SUCCESS")
+                    .resourceId(request.idempotencyKey != null ? links.get(request.idempotencyKey) : null)
+                    .build();
+        }
+
+        @Override
+        public void refundPayment(String paymentId) {
+        }
+
+        @Override
+        public PaymentStatus getPaymentStatus(String paymentId) {
+            return null;
+        }
+
+        @Override
+        public Optional<String> linkResource(String idempotencyKey, String resourceId) {
+            return Optional.ofNullable(links.putIfAbsent(idempotencyKey, resourceId));
+        }
+
+        @Override
+        public Optional<String> findLinkedResource(String idempotencyKey) {
+            return Optional.ofNullable(links.get(idempotencyKey));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.acme.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MinorUnitPriceTest {
+
+    @Test
+    void testConversionToAndFromPriceIsLossless() {
+        Price price = Price.of(59.99, "eur");
+
+        MinorUnitPrice minorUnitPrice = MinorUnitPrice.of(price);
+
+        assertEquals(5999, minorUnitPrice.getMinorUnits());
+        assertEquals("EUR", minorUnitPrice.getCurrency());
+        assertEquals(price, minorUnitPrice.toPrice());
+        assertEquals(CurrencyTable.idOf("EUR"), CurrencyTable.idOf("eur"));
+    }
+
+    @Test
+    void testDiscountMatchesPriceApplyDiscount() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            Price price = Price.of(random.nextInt(1_000_000) / 100.0, "USD");
+            double discount = random.nextInt(10_001) / 100.0;
+
+            assertEquals(price.applyDiscount(discount), MinorUnitPrice.of(price).applyDiscount(discount).toPrice(),
+                    () -> price + " - " + discount + "%");
+        }
+    }
+
+    @Test
+    void testArithmeticIsExact() {
+        MinorUnitPrice a = MinorUnitPrice.of(Price.of(0.10, "USD"));
+        MinorUnitPrice b = MinorUnitPrice.of(Price.of(0.20, "USD"));
+
+        assertEquals(Price.of(0.30, "USD"), a.add(b).toPrice());
+        assertEquals(Price.of(0.10, "USD"), b.subtract(a).toPrice());
+        assertEquals(Price.of(0.60, "USD"), b.multiply(3).toPrice());
+        assertEquals(2500, MinorUnitPrice.discountBasisPoints(4000, 3000));
+        assertThrows(IllegalArgumentException.class, () -> a.add(MinorUnitPrice.of(Price.of(0.10, "EUR"))));
+        assertThrows(IllegalArgumentException.class, () -> a.subtract(b));
+    }
+}
@@ -0,0 +1,58 @@
+package org.acme.infrastructure.adapter.in.job;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.acme.infrastructure.adapter.out.persistence.repository.GiftRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+class GiftExpiryJobTest {
+
+    private static final int GIFTS = 100_000;
+
+    @Inject
+    GiftExpiryJob job;
+
+    @Inject
+    GiftRepositoryAdapter giftRepositoryAdapter;
+
+    @Inject
+    EntityManager entityManager;
+
+    // Gifts 1..60000 expired yesterday, the rest expire tomorrow; every tenth gift is already claimed
+    @BeforeEach
+    void seedGifts() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            giftRepositoryAdapter.deleteAll();
+            entityManager.createNativeQuery("INSERT INTO gifts (id, game_id, sender_id, recipient_id, amount, currency, "
+                            + "sent_date, status, expiration_date) "
+                            + "SELECT 'gift-' || X, 'game-1', 'sender', 'user-' || MOD(X, 1000), 19.99, 'USD', "
+                            + "DATEADD('DAY', -30, CURRENT_TIMESTAMP), "
+                            + "CASE WHEN MOD(X, 10) = 0 THEN 'CLAIMED' ELSE 'PENDING' END, "
+                            + "DATEADD('DAY', CASE WHEN X <= 60000 THEN -1 ELSE 1 END, CURRENT_TIMESTAMP) "
+                            + "FROM SYSTEM_RANGE(1, " + GIFTS + ")")
+                    .executeUpdate();
+        });
+    }
+
+    @Test
+    void testRunExpiresOnlyPendingExpiredGiftsInChunks() {
+        assertEquals(54_000, job.run());
+
+        assertEquals(54_000, countByStatus("EXPIRED"));
+        assertEquals(36_000, countByStatus("PENDING"));
+        assertEquals(10_000, countByStatus("CLAIMED"));
+
+        // A second run finds nothing left to expire
+        assertEquals(0, job.run());
+    }
+
+    private long countByStatus(String status) {
+        return QuarkusTransaction.requiringNew().call(() -> giftRepositoryAdapter.count("status", status));
+    }
+}
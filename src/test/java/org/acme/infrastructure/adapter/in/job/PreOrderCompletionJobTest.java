@@ -0,0 +1,208 @@
+package org.acme.infrastructure.adapter.in.job;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.acme.application.port.out.InventoryServicePort;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.PreOrder;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Price;
+import org.acme.domain.repository.GameRepository;
+import org.acme.domain.repository.PreOrderRepository;
+import org.acme.infrastructure.adapter.out.persistence.entity.PreOrderCompletionQuarantineEntity;
+import org.acme.infrastructure.adapter.out.persistence.entity.PreOrderCompletionRunEntity;
+import org.acme.infrastructure.adapter.out.persistence.repository.PreOrderCompletionQuarantineRepository;
+import org.acme.infrastructure.adapter.out.persistence.repository.PreOrderCompletionRunRepository;
+import org.acme.infrastructure.adapter.out.persistence.repository.PreOrderRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.acme.testsupport.CatalogTestData.game;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+class PreOrderCompletionJobTest {
+
+    private static final int RELEASED_PRE_ORDERS = 2_500;
+
+    @Inject
+    PreOrderCompletionJob job;
+
+    @Inject
+    PreOrderRepositoryAdapter preOrderRepositoryAdapter;
+
+    @Inject
+    PreOrderRepository preOrderRepository;
+
+    @Inject
+    PreOrderCompletionRunRepository runRepository;
+
+    @Inject
+    PreOrderCompletionQuarantineRepository quarantineRepository;
+
+    @Inject
+    GameRepository gameRepository;
+
+    @BeforeEach
+    void seedPreOrders() {
+        RecordingInventory.grants.clear();
+        RecordingInventory.poisoned.clear();
+        QuarkusMock.installMockForType(new RecordingInventory(), InventoryServicePort.class);
+        QuarkusTransaction.requiringNew().run(() -> {
+            runRepository.deleteAll();
+            quarantineRepository.deleteAll();
+            preOrderRepositoryAdapter.deleteAll();
+
+            Game released = gameRepository.save(launchGame("Released", LocalDateTime.now().minusHours(1)));
+            Game upcoming = gameRepository.save(launchGame("Upcoming", LocalDateTime.now().plusDays(30)));
+
+            for (int i = 0; i < RELEASED_PRE_ORDERS; i++) {
+                preOrderRepository.save(preOrder(String.format("po-%05d", i), released.getId(), "CONFIRMED"));
+            }
+            for (int i = 0; i < 10; i++) {
+                preOrderRepository.save(preOrder("cancelled-" + i, released.getId(), "CANCELLED"));
+                preOrderRepository.save(preOrder("upcoming-" + i, upcoming.getId(), "CONFIRMED"));
+            }
+        });
+    }
+
+    @Test
+    void testRunCompletesEveryReleasedPreOrderInChunks() {
+        assertEquals(RELEASED_PRE_ORDERS, job.run());
+
+        assertEquals(RELEASED_PRE_ORDERS, countByStatus("COMPLETED"));
+        assertEquals(10, countByStatus("CANCELLED"));
+        assertEquals(10, countByStatus("CONFIRMED"));
+        assertEquals(RELEASED_PRE_ORDERS, RecordingInventory.grants.size());
+
+        PreOrderCompletionRunEntity run = QuarkusTransaction.requiringNew().call(() -> runRepository.findAll().singleResult());
+        assertEquals(PreOrderCompletionRunEntity.STATUS_FINISHED, run.getStatus());
+        assertEquals(RELEASED_PRE_ORDERS, run.getCompleted());
+        assertEquals("po-02499", run.getLastPreOrderId());
+
+        // Nothing left to do: no new run is started
+        assertEquals(0, job.run());
+        assertEquals(1, QuarkusTransaction.requiringNew().call(() -> runRepository.count()));
+    }
+
+    @Test
+    void testInterruptedRunResumesFromItsCheckpoint() {
+        QuarkusTransaction.requiringNew().run(() -> runRepository.persist(PreOrderCompletionRunEntity.builder()
+                .releasedBy(LocalDateTime.now())
+                .lastPreOrderId("po-01999")
+                .completed(2_000L)
+                .build()));
+
+        assertEquals(500, job.run());
+        assertEquals(500, countByStatus("COMPLETED"));
+        assertTrue(RecordingInventory.grants.stream().allMatch(grant -> grant.transactionId.compareTo("po-01999") > 0));
+
+        PreOrderCompletionRunEntity resumed = QuarkusTransaction.requiringNew().call(() -> runRepository.findAll().singleResult());
+        assertEquals(PreOrderCompletionRunEntity.STATUS_FINISHED, resumed.getStatus());
+        assertEquals(RELEASED_PRE_ORDERS, resumed.getCompleted());
+
+        // A fresh run picks up what the resumed run's checkpoint had skipped
+        assertEquals(2_000, job.run());
+        assertEquals(RELEASED_PRE_ORDERS, countByStatus("COMPLETED"));
+    }
+
+    @Test
+    void testChunkThatKeepsFailingIsQuarantinedAndTheRunFinishes() {
+        RecordingInventory.poisoned.add("po-00450");
+
+        long completed = 0;
+        for (int attempt = 1; attempt < 3; attempt++) {
+            completed += job.run();
+            PreOrderCompletionRunEntity paused = QuarkusTransaction.requiringNew().call(() -> runRepository.findAll().singleResult());
+            assertEquals(PreOrderCompletionRunEntity.STATUS_RUNNING, paused.getStatus());
+            assertEquals("po-00399", paused.getLastPreOrderId());
+            assertEquals(attempt, paused.getFailedAttempts());
+        }
+
+        // Third attempt: the chunk is completed id by id and only the poisoned pre-order is set aside
+        completed += job.run();
+        assertEquals(RELEASED_PRE_ORDERS - 1, completed);
+
+        PreOrderCompletionRunEntity run = QuarkusTransaction.requiringNew().call(() -> runRepository.findAll().singleResult());
+        assertEquals(PreOrderCompletionRunEntity.STATUS_FINISHED, run.getStatus());
+        assertEquals(1, run.getQuarantined());
+        assertEquals(RELEASED_PRE_ORDERS - 1, countByStatus("COMPLETED"));
+        assertEquals(List.of("po-00450"), QuarkusTransaction.requiringNew().call(() -> quarantineRepository.listAll().stream()
+                .map(PreOrderCompletionQuarantineEntity::getPreOrderId)
+                .toList()));
+
+        // The quarantined pre-order does not start a new run
+        assertEquals(0, job.run());
+        assertEquals(1, QuarkusTransaction.requiringNew().call(() -> runRepository.count()));
+    }
+
+    private long countByStatus(String status) {
+        return QuarkusTransaction.requiringNew().call(() -> preOrderRepositoryAdapter.count("status", status));
+    }
+
+    private static Game launchGame(String title, LocalDateTime releaseDate) {
+        return game(title)
+                .price(Price.of(59.99, "USD"))
+                .releaseDate(releaseDate)
+                .tags(Set.of("launch"))
+                .images(List.of("https://cdn.example.com/" + title + ".jpg"))
+                .build();
+    }
+
+    private static PreOrder preOrder(String id, GameId gameId, String status) {
+        return PreOrder.builder()
+                .id(id)
+                .gameId(gameId)
+                .userId("user-" + id)
+                .paidAmount(Price.of(59.99, "USD"))
+                .status(status)
+                .estimatedDeliveryDate(LocalDateTime.now())
+                .build();
+    }
+
+    static class RecordingInventory implements InventoryServicePort {
+
+        static final Set<AddGameRequest> grants = ConcurrentHashMap.newKeySet();
+        static final Set<String> poisoned = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void addGameToLibrary(AddGameRequest request) {
+            addGamesToLibrary(List.of(request));
+        }
+
+        @Override
+        public void addGamesToLibrary(List<AddGameRequest> requests) {
+            if (requests.stream().anyMatch(request -> poisoned.contains(request.transactionId))) {
+                throw new IllegalStateException("Servicio de inventario no disponible, inténtalo más tarde");
+            }
+            grants.addAll(requests);
+        }
+
+        @Override
+        public boolean userOwnsGame(String userId, String gameId) {
+            return false;
+        }
+
+        @Override
+        public Set<String> ownsGames(String userId, Set<String> gameIds) {
+            return Set.of();
+        }
+
+        @Override
+        public List<String> getUserGames(String userId) {
+            return List.of();
+        }
+
+        @Override
+        public void removeGameFromLibrary(String userId, String gameId) {
+        }
+    }
+}
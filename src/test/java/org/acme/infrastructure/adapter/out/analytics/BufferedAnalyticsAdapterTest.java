@@ -0,0 +1,123 @@
+package org.acme.infrastructure.adapter.out.analytics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.acme.application.port.out.AnalyticsServicePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BufferedAnalyticsAdapterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BufferedAnalyticsAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = adapter(1024);
+    }
+
+    @Test
+    void testDrainerAggregatesViewsPerGameAndMinuteAndQueriesPerText() {
+        LocalDateTime minute = LocalDateTime.of(2026, 3, 1, 12, 30);
+        for (int i = 0; i < 300; i++) {
+            adapter.trackGameView(view("game-" + (i % 3), minute.plusSeconds(i % 60)));
+        }
+        adapter.trackGameView(view("game-0", minute.plusMinutes(1)));
+        adapter.trackSearchQuery(search("Elden Ring", 4));
+        adapter.trackSearchQuery(search("  elden   RING ", 4));
+        adapter.trackSearchQuery(search("nothing here", 0));
+
+        assertEquals(304, adapter.drain());
+
+        AnalyticsAggregate aggregate = adapter.currentAggregate();
+        assertEquals(100, aggregate.views("game-0", minute));
+        assertEquals(100, aggregate.views("game-2", minute.plusSeconds(59)));
+        assertEquals(1, aggregate.views("game-0", minute.plusMinutes(1)));
+        // 4 view keys plus 2 distinct queries, out of 304 events
+        assertEquals(6, aggregate.keys());
+
+        AnalyticsAggregate.AnalyticsBatch batch = aggregate.toBatch(minute, minute.plusMinutes(2));
+        assertEquals(304, batch.events);
+        assertTrue(batch.searchQueries.contains(new AnalyticsAggregate.QueryCount("elden ring", 2, 0)));
+        assertTrue(batch.searchQueries.contains(new AnalyticsAggregate.QueryCount("nothing here", 1, 1)));
+    }
+
+    @Test
+    void testFullBufferDropsAndCountsWithoutBlocking() {
+        BufferedAnalyticsAdapter small = adapter(8);
+        for (int i = 0; i < 20; i++) {
+            small.trackGameView(view("game", LocalDateTime.now()));
+        }
+
+        assertEquals(12.0, meterRegistry.get("analytics.events.dropped").tag("type", "view").counter().count());
+        assertEquals(8, small.drain());
+        assertEquals(0, small.drain());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void benchmarkTrackingOverheadOnTheRequestThread() throws InterruptedException {
+        BufferedAnalyticsAdapter benchmarked = adapter(65_536);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread drainer = Thread.ofPlatform().start(() -> {
+            while (running.get()) {
+                benchmarked.drain();
+                Thread.onSpinWait();
+            }
+        });
+
+        AnalyticsServicePort.GameViewEvent[] events = new AnalyticsServicePort.GameViewEvent[1024];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = view("game-" + (i % 200), LocalDateTime.now());
+        }
+
+        for (int i = 0; i < 1_000_000; i++) {
+            benchmarked.trackGameView(events[i & 1023]);
+        }
+
+        long[] latencies = new long[200_000];
+        for (int i = 0; i < latencies.length; i++) {
+            long start = System.nanoTime();
+            benchmarked.trackGameView(events[i & 1023]);
+            latencies[i] = System.nanoTime() - start;
+        }
+        running.set(false);
+        drainer.join();
+        Arrays.sort(latencies);
+
+        long p99 = latencies[(int) (latencies.length * 0.99)];
+        assertTrue(p99 < 5_000, "p99 tracking overhead must stay under 5 µs, was " + p99 + " ns");
+    }
+
+    private BufferedAnalyticsAdapter adapter(int capacity) {
+        BufferedAnalyticsAdapter created = new BufferedAnalyticsAdapter();
+        created.bufferCapacity = capacity;
+        created.maxPendingKeys = 50_000;
+        created.meterRegistry = meterRegistry;
+        created.init();
+        return created;
+    }
+
+    private static AnalyticsServicePort.GameViewEvent view(String gameId, LocalDateTime timestamp) {
+        return AnalyticsServicePort.GameViewEvent.builder()
+                .gameId(gameId)
+                .source("direct")
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private static AnalyticsServicePort.SearchQueryEvent search(String query, int results) {
+        return AnalyticsServicePort.SearchQueryEvent.builder()
+                .query(query)
+                .resultsCount(results)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
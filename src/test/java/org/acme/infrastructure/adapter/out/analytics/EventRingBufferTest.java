@@ -0,0 +1,81 @@
+package org.acme.infrastructure.adapter.out.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventRingBufferTest {
+
+    @Test
+    void testOfferFailsWhenFullAndSucceedsAfterDrain() {
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(6);
+        assertEquals(8, buffer.capacity());
+
+        for (int i = 0; i < 8; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(8));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, buffer.drain(drained::add, 3));
+        assertEquals(List.of(0, 1, 2), drained);
+
+        assertTrue(buffer.offer(8));
+        assertEquals(6, buffer.drain(drained::add, Integer.MAX_VALUE));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void testConcurrentProducersLoseNothingThatWasAccepted() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 250_000;
+        EventRingBuffer<Long> buffer = new EventRingBuffer<>(1024);
+        AtomicLong accepted = new AtomicLong();
+        AtomicBoolean producing = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(base + i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        Thread.ofPlatform().start(() -> {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            producing.set(false);
+        });
+
+        // Events of one producer must come out in the order it published them
+        long[] lastSeen = new long[producers];
+        Arrays.fill(lastSeen, -1);
+        long drained = 0;
+        while (producing.get() || buffer.size() > 0) {
+            drained += buffer.drain(event -> {
+                int producer = (int) (event / perProducer);
+                assertTrue(event > lastSeen[producer]);
+                lastSeen[producer] = event;
+            }, 256);
+        }
+
+        assertEquals(accepted.get(), drained);
+    }
+}
@@ -0,0 +1,86 @@
+package org.acme.infrastructure.adapter.out.external;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkNotificationDispatcherTest {
+
+    private BulkNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new BulkNotificationDispatcher();
+        dispatcher.chunkSize = 100;
+        dispatcher.maxConcurrency = 4;
+        dispatcher.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testChunkSplitsRecipientsIntoBoundedArrays() {
+        List<List<String>> chunks = dispatcher.chunk(userIds(250));
+
+        assertEquals(3, chunks.size());
+        assertEquals(100, chunks.get(0).size());
+        assertEquals(100, chunks.get(1).size());
+        assertEquals(50, chunks.get(2).size());
+        assertEquals("user-249", chunks.get(2).get(49));
+    }
+
+    @Test
+    void testDispatchNeverExceedsMaxConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Set<String> delivered = ConcurrentHashMap.newKeySet();
+
+        BulkNotificationDispatcher.DispatchReport<List<String>> report = dispatcher.dispatch(
+                BulkNotificationDispatcher.TYPE_RELEASE, dispatcher.chunk(userIds(5_000)), chunk -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    delivered.addAll(chunk);
+                    running.decrementAndGet();
+                });
+
+        assertEquals(50, report.getChunks());
+        assertEquals(5_000, report.getSent());
+        assertEquals(5_000, delivered.size());
+        assertTrue(maxRunning.get() <= 4, "at most 4 chunks may be in flight, saw " + maxRunning.get());
+        assertTrue(report.recipientsPerSecond() > 0);
+    }
+
+    @Test
+    void testFailedChunksAreReportedWithoutStoppingTheRest() {
+        BulkNotificationDispatcher.DispatchReport<List<String>> report = dispatcher.dispatch(
+                BulkNotificationDispatcher.TYPE_OFFER, dispatcher.chunk(userIds(1_000)), chunk -> {
+                    if (chunk.contains("user-450")) {
+                        throw new IllegalStateException("503 Service Unavailable");
+                    }
+                });
+
+        assertEquals(900, report.getSent());
+        assertEquals(100, report.getFailed());
+        assertEquals(1, report.getFailures().size());
+        assertEquals("user-400", report.getFailures().get(0).getChunk().get(0));
+    }
+
+    private static List<String> userIds(int count) {
+        List<String> userIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            userIds.add("user-" + i);
+        }
+        return userIds;
+    }
+}
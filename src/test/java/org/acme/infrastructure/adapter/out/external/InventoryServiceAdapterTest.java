@@ -0,0 +1,136 @@
+package org.acme.infrastructure.adapter.out.external;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.acme.application.port.out.InventoryServicePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@QuarkusTestResource(StubInventoryServer.class)
+class InventoryServiceAdapterTest {
+
+    @Inject
+    InventoryServiceAdapter inventoryServiceAdapter;
+
+    @BeforeEach
+    void resetStub() {
+        inventoryServiceAdapter.flush();
+        StubInventoryServer.reset();
+    }
+
+    @Test
+    void testOwnsGamesChecksAFullPageWithOneLibraryFetch() {
+        String userId = newId("user");
+        List<String> library = new ArrayList<>();
+        Set<String> page = new LinkedHashSet<>();
+        for (int i = 0; i < 50; i++) {
+            String gameId = newId("game");
+            page.add(gameId);
+            if (i % 5 == 0) {
+                library.add(gameId);
+            }
+        }
+        StubInventoryServer.libraries.put(userId, library);
+
+        assertEquals(Set.copyOf(library), inventoryServiceAdapter.ownsGames(userId, page));
+        assertTrue(inventoryServiceAdapter.userOwnsGame(userId, library.get(0)));
+        assertTrue(inventoryServiceAdapter.ownsGames(userId, Set.of(newId("game"))).isEmpty());
+
+        assertEquals(1, StubInventoryServer.libraryRequests.get());
+    }
+
+    @Test
+    void testGrantsAreBatchedAndCountAsOwnedBeforeFlush() {
+        String userId = newId("user");
+        StubInventoryServer.libraries.put(userId, List.of());
+        assertTrue(inventoryServiceAdapter.ownsGames(userId, Set.of(newId("game"))).isEmpty());
+
+        List<String> gameIds = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            String gameId = newId("game");
+            gameIds.add(gameId);
+            inventoryServiceAdapter.addGameToLibrary(grant(userId, gameId));
+        }
+
+        assertEquals(0, StubInventoryServer.batchRequests.get());
+        assertTrue(inventoryServiceAdapter.userOwnsGame(userId, gameIds.get(0)));
+        assertEquals(Set.copyOf(gameIds), inventoryServiceAdapter.ownsGames(userId, Set.copyOf(gameIds)));
+
+        assertEquals(150, inventoryServiceAdapter.flush());
+        assertEquals(1, StubInventoryServer.batchRequests.get());
+        assertEquals(150, StubInventoryServer.grantedGames.get());
+
+        // The cached library was patched in place, so ownership still needs no remote fetch
+        assertTrue(inventoryServiceAdapter.userOwnsGame(userId, gameIds.get(149)));
+        assertEquals(1, StubInventoryServer.libraryRequests.get());
+    }
+
+    @Test
+    void testGrantInsideRolledBackTransactionIsNeverSent() {
+        String userId = newId("user");
+        String gameId = newId("game");
+        StubInventoryServer.libraries.put(userId, List.of());
+
+        QuarkusTransaction.begin();
+        inventoryServiceAdapter.addGameToLibrary(grant(userId, gameId));
+        assertEquals(0, inventoryServiceAdapter.pending());
+        QuarkusTransaction.rollback();
+
+        assertEquals(0, inventoryServiceAdapter.pending());
+        assertFalse(inventoryServiceAdapter.userOwnsGame(userId, gameId));
+
+        QuarkusTransaction.requiringNew().run(() -> inventoryServiceAdapter.addGameToLibrary(grant(userId, gameId)));
+        assertEquals(1, inventoryServiceAdapter.pending());
+        assertTrue(inventoryServiceAdapter.userOwnsGame(userId, gameId));
+    }
+
+    @Test
+    void testRefusedGrantIsParkedAndSentOnceRequeued() {
+        String userId = newId("user");
+        String gameId = newId("game");
+        StubInventoryServer.libraries.put(userId, List.of());
+        inventoryServiceAdapter.addGameToLibrary(grant(userId, gameId));
+
+        StubInventoryServer.batchStatus = 422;
+        assertEquals(0, inventoryServiceAdapter.flush());
+        assertEquals(0, inventoryServiceAdapter.pending());
+        assertEquals(1, inventoryServiceAdapter.parked());
+        assertFalse(inventoryServiceAdapter.userOwnsGame(userId, gameId));
+
+        StubInventoryServer.batchStatus = 204;
+        assertEquals(1, inventoryServiceAdapter.requeueParked());
+        assertTrue(inventoryServiceAdapter.userOwnsGame(userId, gameId));
+        assertEquals(1, inventoryServiceAdapter.flush());
+        assertEquals(0, inventoryServiceAdapter.parked());
+        assertEquals(1, StubInventoryServer.grantedGames.get());
+    }
+
+    private static InventoryServicePort.AddGameRequest grant(String userId, String gameId) {
+        return InventoryServicePort.AddGameRequest.builder()
+                .userId(userId)
+                .gameId(gameId)
+                .gameName("Game " + gameId)
+                .acquisitionType("GIFT")
+                .transactionId(newId("gift"))
+                .acquiredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static String newId(String prefix) {
+        return prefix + "-" + UUID.randomUUID();
+    }
+}
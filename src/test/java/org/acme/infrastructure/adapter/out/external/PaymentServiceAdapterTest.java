@@ -0,0 +1,134 @@
+package org.acme.infrastructure.adapter.out.external;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.acme.application.port.out.PaymentServicePort;
+import org.acme.infrastructure.adapter.out.payment.PaymentIdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@QuarkusTest
+@QuarkusTestResource(StubPaymentServer.class)
+class PaymentServiceAdapterTest {
+
+    @Inject
+    PaymentServiceAdapter paymentServiceAdapter;
+
+    @Inject
+    PaymentIdempotencyRepository idempotencyRepository;
+
+    @BeforeEach
+    void reset() {
+        StubPaymentServer.reset();
+    }
+
+    @Test
+    void testRetryWithSameKeyReturnsStoredResultWithoutChargingAgain() {
+        String key = UUID.randomUUID().toString();
+
+        PaymentServicePort.PaymentResult first = paymentServiceAdapter.processPayment(payment(key, "19.99"));
+        PaymentServicePort.PaymentResult retry = paymentServiceAdapter.processPayment(payment(key, "19.99"));
+
+        assertEquals("SUCCESS", first.status);
+        assertEquals(first.paymentId, retry.paymentId);
+        assertEquals(1, StubPaymentServer.charges.get());
+        assertEquals(List.of(key), StubPaymentServer.idempotencyKeys);
+    }
+
+    @Test
+    void testStoredResultSurvivesRollbackOfCallerTransaction() {
+        String key = UUID.randomUUID().toString();
+
+        QuarkusTransaction.begin();
+        PaymentServicePort.PaymentResult first = paymentServiceAdapter.processPayment(payment(key, "19.99"));
+        QuarkusTransaction.rollback();
+
+        PaymentServicePort.PaymentResult retry = paymentServiceAdapter.processPayment(payment(key, "19.99"));
+        assertEquals(first.paymentId, retry.paymentId);
+        assertEquals(1, StubPaymentServer.charges.get());
+    }
+
+    @Test
+    void testSameKeyWithDifferentPaymentIsRejected() {
+        String key = UUID.randomUUID().toString();
+        paymentServiceAdapter.processPayment(payment(key, "19.99"));
+
+        assertThrows(IllegalArgumentException.class, () -> paymentServiceAdapter.processPayment(payment(key, "29.99")));
+        assertEquals(1, StubPaymentServer.charges.get());
+    }
+
+    @Test
+    void testRetryAfterLinkingReturnsTheLinkedResource() {
+        String key = UUID.randomUUID().toString();
+        paymentServiceAdapter.processPayment(payment(key, "19.99"));
+
+        assertEquals(Optional.empty(), QuarkusTransaction.requiringNew().call(() -> paymentServiceAdapter.linkResource(key, "gift-1")));
+        // A second request that got past the payment loses the race and is handed the first gift
+        assertEquals(Optional.of("gift-1"), QuarkusTransaction.requiringNew().call(() -> paymentServiceAdapter.linkResource(key, "gift-2")));
+
+        assertEquals("gift-1", paymentServiceAdapter.processPayment(payment(key, "19.99")).resourceId);
+        assertEquals("gift-1", paymentServiceAdapter.processPayment(payment(key, "19.99")).resourceId);
+        assertEquals(1, StubPaymentServer.charges.get());
+    }
+
+    @Test
+    void testLinkIsDiscardedWhenCallerRollsBack() {
+        String key = UUID.randomUUID().toString();
+        paymentServiceAdapter.processPayment(payment(key, "19.99"));
+
+        QuarkusTransaction.begin();
+        paymentServiceAdapter.linkResource(key, "gift-1");
+        QuarkusTransaction.rollback();
+
+        assertNull(paymentServiceAdapter.processPayment(payment(key, "19.99")).resourceId);
+        assertEquals(Optional.empty(), paymentServiceAdapter.findLinkedResource(key));
+    }
+
+    @Test
+    void testSameKeyForAnotherRecipientIsRejected() {
+        String key = UUID.randomUUID().toString();
+        PaymentServicePort.PaymentRequest first = payment(key, "19.99");
+        first.setRecipientId("friend-1");
+        paymentServiceAdapter.processPayment(first);
+
+        PaymentServicePort.PaymentRequest other = payment(key, "19.99");
+        other.setRecipientId("friend-2");
+        assertThrows(IllegalArgumentException.class, () -> paymentServiceAdapter.processPayment(other));
+    }
+
+    @Test
+    void testTransportFailureIsNotStoredSoRetryReachesProvider() {
+        String key = UUID.randomUUID().toString();
+        StubPaymentServer.failNext.set(1);
+
+        assertEquals("FAILED", paymentServiceAdapter.processPayment(payment(key, "19.99")).status);
+        assertEquals(0, QuarkusTransaction.requiringNew().call(() -> idempotencyRepository.count("idempotencyKey", key)));
+
+        assertEquals("SUCCESS", paymentServiceAdapter.processPayment(payment(key, "19.99")).status);
+        assertEquals(List.of(key, key), StubPaymentServer.idempotencyKeys);
+        assertEquals(1, StubPaymentServer.charges.get());
+    }
+
+    private static PaymentServicePort.PaymentRequest payment(String idempotencyKey, String amount) {
+        return PaymentServicePort.PaymentRequest.builder()
+                .userId("user-1")
+                .amount(new BigDecimal(amount))
+                .currency("USD")
+                .gameId("game-1")
+                .paymentMethod("CREDIT_CARD")
+                .description("Regalo de Game")
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+}
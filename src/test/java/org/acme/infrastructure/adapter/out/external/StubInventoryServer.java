@@ -0,0 +1,67 @@
+package org.acme.infrastructure.adapter.out.external;
+
+import org.acme.testsupport.StubHttpServer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Inventory service stand-in that serves seeded libraries and counts the requests it gets
+public class StubInventoryServer extends StubHttpServer {
+
+    private static final Pattern GAME_ID = Pattern.compile("\"gameId\"\\s*:\\s*\"([^\"]+)\"");
+
+    static final Map<String, List<String>> libraries = new ConcurrentHashMap<>();
+    static final AtomicInteger libraryRequests = new AtomicInteger();
+    static final AtomicInteger batchRequests = new AtomicInteger();
+    static final AtomicInteger grantedGames = new AtomicInteger();
+    static volatile int batchStatus = 204;
+
+    public StubInventoryServer() {
+        super("inventory-service");
+    }
+
+    static void reset() {
+        libraries.clear();
+        libraryRequests.set(0);
+        batchRequests.set(0);
+        grantedGames.set(0);
+        batchStatus = 204;
+    }
+
+    @Override
+    protected void routes() {
+        route("/inventory/library/batch", exchange -> {
+            String body = body(exchange);
+            if (batchStatus != 204) {
+                respond(exchange, batchStatus, null);
+                return;
+            }
+            Matcher matcher = GAME_ID.matcher(body);
+            int games = 0;
+            while (matcher.find()) {
+                games++;
+            }
+            batchRequests.incrementAndGet();
+            grantedGames.addAndGet(games);
+            respond(exchange, 204, null);
+        });
+        route("/inventory/users", exchange -> {
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            String userId = path[3];
+            if ("DELETE".equals(exchange.getRequestMethod())) {
+                respond(exchange, 204, null);
+                return;
+            }
+            libraryRequests.incrementAndGet();
+            String json = libraries.getOrDefault(userId, List.of()).stream()
+                    .map(gameId -> "\"" + gameId + "\"")
+                    .collect(Collectors.joining(",", "[", "]"));
+            respond(exchange, 200, json);
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package org.acme.infrastructure.adapter.out.external;
+
+import org.acme.testsupport.StubHttpServer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Minimal payment provider: every successful charge gets a new payment id, and the first failNext
+// charges answer 503
+public class StubPaymentServer extends StubHttpServer {
+
+    static final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+    static final AtomicInteger charges = new AtomicInteger();
+    static final AtomicInteger failNext = new AtomicInteger();
+
+    public StubPaymentServer() {
+        super("payment-service");
+    }
+
+    @Override
+    protected void routes() {
+        route("/payments", exchange -> {
+            body(exchange);
+            idempotencyKeys.add(String.valueOf(exchange.getRequestHeaders().getFirst("Idempotency-Key")));
+            if (failNext.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                respond(exchange, 503, null);
+                return;
+            }
+            int charge = charges.incrementAndGet();
+            respond(exchange, 200, "{\"paymentId\":\"pay-" + charge + "\",\"status\":\"SUCCESS\",\"transactionId\":\"tx-"
+                    + charge + "\"}");
+        });
+    }
+
+    static void reset() {
+        idempotencyKeys.clear();
+        charges.set(0);
+        failNext.set(0);
+    }
+}
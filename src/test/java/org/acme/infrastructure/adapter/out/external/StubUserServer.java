@@ -0,0 +1,34 @@
+package org.acme.infrastructure.adapter.out.external;
+
+import org.acme.testsupport.StubHttpServer;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// User service stand-in that answers every user as active after an injectable delay
+public class StubUserServer extends StubHttpServer {
+
+    static final AtomicLong latencyMillis = new AtomicLong();
+    static final AtomicInteger requests = new AtomicInteger();
+
+    public StubUserServer() {
+        super("user-service");
+    }
+
+    @Override
+    protected void routes() {
+        route("/users", exchange -> {
+            try {
+                requests.incrementAndGet();
+                Thread.sleep(latencyMillis.get());
+                String userId = exchange.getRequestURI().getPath().substring("/users/".length());
+                respond(exchange, 200, "{\"id\":\"" + userId + "\",\"username\":\"" + userId + "\",\"isActive\":true}");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // The client gave up on a slow response
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package org.acme.infrastructure.adapter.out.external;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.acme.application.exception.ServiceUnavailableException;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuard;
+import org.acme.infrastructure.adapter.out.external.resilience.RemoteCallGuards;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Uses the %test settings: 200 ms read timeout, circuit opens after 4 failed calls for 500 ms
+@QuarkusTest
+@QuarkusTestResource(StubUserServer.class)
+class UserServiceAdapterResilienceTest {
+
+    @Inject
+    UserServiceAdapter userServiceAdapter;
+
+    @Inject
+    RemoteCallGuards remoteCallGuards;
+
+    @Test
+    void testSlowUserServiceTripsCircuitAndRecoversThroughProbe() throws InterruptedException {
+        RemoteCallGuard guard = remoteCallGuards.forDependency("user-service");
+
+        StubUserServer.latencyMillis.set(0);
+        assertTrue(userServiceAdapter.userExists(newUserId()));
+
+        StubUserServer.latencyMillis.set(2_000);
+        for (int i = 0; i < 4; i++) {
+            long start = System.nanoTime();
+            // A timeout is not an unknown user
+            assertThrows(ServiceUnavailableException.class, () -> userServiceAdapter.userExists(newUserId()));
+            assertTrue(System.nanoTime() - start < 1_500_000_000L, "call must be cut off by the read timeout");
+        }
+        assertEquals(RemoteCallGuard.State.OPEN, guard.state());
+
+        // While open, the adapter reports the service unavailable without reaching the stub
+        int requestsBefore = StubUserServer.requests.get();
+        long start = System.nanoTime();
+        assertThrows(ServiceUnavailableException.class, () -> userServiceAdapter.userExists(newUserId()));
+        assertTrue(System.nanoTime() - start < 50_000_000L, "open circuit must fail fast");
+        assertEquals(requestsBefore, StubUserServer.requests.get());
+
+        StubUserServer.latencyMillis.set(0);
+        Thread.sleep(600);
+        assertTrue(userServiceAdapter.userExists(newUserId()));
+        assertEquals(RemoteCallGuard.State.CLOSED, guard.state());
+    }
+
+    private static String newUserId() {
+        return "user-" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,164 @@
+package org.acme.infrastructure.adapter.out.external.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RemoteCallGuardTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testCircuitOpensOnFailureRatioAndClosesAfterSuccessfulProbes() {
+        RemoteCallGuard guard = guard(10, 0, 2);
+        AtomicInteger remoteCalls = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.call(() -> {
+                remoteCalls.incrementAndGet();
+                throw new IllegalStateException("503");
+            }));
+        }
+        assertEquals(RemoteCallGuard.State.OPEN, guard.state());
+
+        // Open: rejected without reaching the dependency
+        assertThrows(RemoteCallRejectedException.class, () -> guard.call(remoteCalls::incrementAndGet));
+        assertEquals(4, remoteCalls.get());
+        assertEquals(1.0, meterRegistry.get("remote.calls").tag("outcome", "rejected_circuit").counter().count());
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals(RemoteCallGuard.State.HALF_OPEN, guard.state());
+
+        assertEquals("ok", guard.call(() -> "ok"));
+        assertEquals(RemoteCallGuard.State.HALF_OPEN, guard.state());
+        assertEquals("ok", guard.call(() -> "ok"));
+        assertEquals(RemoteCallGuard.State.CLOSED, guard.state());
+        assertEquals(0.0, guard.failureRatio());
+    }
+
+    @Test
+    void testFailedProbeReopensCircuit() {
+        RemoteCallGuard guard = guard(10, 0, 2);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.call(() -> {
+                throw new IllegalStateException("503");
+            }));
+        }
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThrows(IllegalStateException.class, () -> guard.call(() -> {
+            throw new IllegalStateException("still down");
+        }));
+
+        assertEquals(RemoteCallGuard.State.OPEN, guard.state());
+        assertThrows(RemoteCallRejectedException.class, () -> guard.call(() -> "ok"));
+    }
+
+    @Test
+    void testProbeFromEarlierHalfOpenCycleIsIgnored() throws Exception {
+        RemoteCallGuard guard = guard(10, 0, 2);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.call(() -> {
+                throw new IllegalStateException("503");
+            }));
+        }
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // First cycle: one probe hangs, the other fails and reopens the circuit
+            Future<String> slowProbe = executor.submit(() -> guard.call(() -> block(running, release)));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            assertThrows(IllegalStateException.class, () -> guard.call(() -> {
+                throw new IllegalStateException("still down");
+            }));
+            assertEquals(RemoteCallGuard.State.OPEN, guard.state());
+
+            // Second cycle: the late success of the first cycle's probe must not count
+            clock.addAndGet(Duration.ofSeconds(10).toNanos());
+            assertEquals("ok", guard.call(() -> "ok"));
+            release.countDown();
+            assertEquals("done", slowProbe.get(5, TimeUnit.SECONDS));
+            assertEquals(RemoteCallGuard.State.HALF_OPEN, guard.state());
+
+            assertEquals("ok", guard.call(() -> "ok"));
+            assertEquals(RemoteCallGuard.State.CLOSED, guard.state());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testBulkheadQueuesUpToLimitAndRejectsTheRest() throws Exception {
+        RemoteCallGuard guard = guard(2, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            Future<String> first = executor.submit(() -> guard.call(() -> block(running, release)));
+            Future<String> second = executor.submit(() -> guard.call(() -> block(running, release)));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            Future<String> queued = executor.submit(() -> guard.call(() -> "queued"));
+            waitUntil(() -> meterRegistry.get("remote.bulkhead.queued").gauge().value() == 1);
+
+            assertThrows(RemoteCallRejectedException.class, () -> guard.call(() -> "rejected"));
+            assertEquals(1.0, meterRegistry.get("remote.calls").tag("outcome", "rejected_bulkhead").counter().count());
+
+            release.countDown();
+            assertEquals("done", first.get(5, TimeUnit.SECONDS));
+            assertEquals("done", second.get(5, TimeUnit.SECONDS));
+            assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private RemoteCallGuard guard(int maxConcurrent, int maxQueued, int halfOpenProbes) {
+        RemoteCallGuard.Settings settings = RemoteCallGuard.Settings.builder()
+                .maxConcurrent(maxConcurrent)
+                .maxQueued(maxQueued)
+                .maxQueueWait(Duration.ofSeconds(5))
+                .windowSize(4)
+                .minimumCalls(4)
+                .failureRatio(0.5)
+                .openDuration(Duration.ofSeconds(10))
+                .halfOpenProbes(halfOpenProbes)
+                .build();
+        return new RemoteCallGuard("test-service", settings, meterRegistry, clock::get);
+    }
+
+    private static String block(CountDownLatch running, CountDownLatch release) {
+        running.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.acme.infrastructure.adapter.out.notification;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.acme.application.port.out.NotificationServicePort;
+import org.acme.infrastructure.adapter.out.persistence.entity.NotificationOutboxEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@QuarkusTestResource(StubNotificationServer.class)
+class NotificationOutboxDispatcherTest {
+
+    @Inject
+    NotificationServicePort notificationService;
+
+    @Inject
+    NotificationOutboxDispatcher dispatcher;
+
+    @Inject
+    NotificationOutboxRepository outboxRepository;
+
+    @BeforeEach
+    void clearOutbox() {
+        QuarkusTransaction.requiringNew().run(() -> outboxRepository.deleteAll());
+        StubNotificationServer.reset();
+    }
+
+    @Test
+    void testEnqueuedNotificationIsDeliveredByDispatcher() {
+        QuarkusTransaction.requiringNew().run(() -> notificationService.sendGiftNotification(gift("gift-1")));
+
+        assertEquals(0, StubNotificationServer.received.size());
+        assertEquals(1, dispatcher.drain());
+
+        assertEquals(1, StubNotificationServer.received.size());
+        assertTrue(StubNotificationServer.received.get(0).contains("gift-1"));
+        assertEquals(NotificationOutboxEntity.STATUS_SENT, onlyEntry().getStatus());
+        assertEquals(0, dispatcher.depth());
+    }
+
+    @Test
+    void testNotificationIsNotWrittenWhenCallerRollsBack() {
+        QuarkusTransaction.begin();
+        notificationService.sendGiftNotification(gift("gift-2"));
+        QuarkusTransaction.rollback();
+
+        assertEquals(0, dispatcher.drain());
+        assertEquals(0, QuarkusTransaction.requiringNew().call(() -> outboxRepository.count()));
+    }
+
+    @Test
+    void testFailedDeliveryIsRetriedUntilItSucceeds() {
+        StubNotificationServer.failNext.set(2);
+        QuarkusTransaction.requiringNew().run(() -> notificationService.sendGiftNotification(gift("gift-3")));
+
+        assertEquals(0, dispatcher.drain());
+        assertEquals(NotificationOutboxEntity.STATUS_PENDING, onlyEntry().getStatus());
+        assertEquals(1, dispatcher.depth());
+
+        assertEquals(0, dispatcher.drain());
+        assertEquals(1, dispatcher.drain());
+
+        NotificationOutboxEntity entry = onlyEntry();
+        assertEquals(NotificationOutboxEntity.STATUS_SENT, entry.getStatus());
+        assertEquals(3, entry.getAttempts());
+        assertEquals(1, StubNotificationServer.received.size());
+    }
+
+    @Test
+    void testDeliveryGivesUpAfterMaxAttempts() {
+        StubNotificationServer.failNext.set(Integer.MAX_VALUE);
+        QuarkusTransaction.requiringNew().run(() -> notificationService.sendGiftNotification(gift("gift-4")));
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.drain();
+        }
+
+        NotificationOutboxEntity entry = onlyEntry();
+        assertEquals(NotificationOutboxEntity.STATUS_FAILED, entry.getStatus());
+        assertEquals(3, entry.getAttempts());
+        assertEquals(0, dispatcher.depth());
+    }
+
+    @Test
+    void testBulkReleaseIsQueuedAndDeliveredAsChunks() {
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            userIds.add("user-" + i);
+        }
+        QuarkusTransaction.requiringNew().run(() -> notificationService.sendBulkGameReleaseNotification(
+                NotificationServicePort.BulkGameReleaseNotificationRequest.builder()
+                        .userIds(userIds)
+                        .gameName("Game")
+                        .downloadLink("https://steam.com/download/game")
+                        .releaseNotes("Disponible")
+                        .build()));
+
+        assertEquals(3, QuarkusTransaction.requiringNew().call(() -> outboxRepository.count()));
+        assertEquals(3, dispatcher.drain());
+
+        assertEquals(3, StubNotificationServer.received.size());
+        assertTrue(StubNotificationServer.received.stream().allMatch(body -> body.startsWith("/notifications/release/bulk ")));
+        assertTrue(StubNotificationServer.received.stream().anyMatch(body -> body.contains("\"user-1199\"")));
+    }
+
+    @Test
+    void testOnlyExpiredSentRowsArePurged() {
+        QuarkusTransaction.requiringNew().run(() -> notificationService.sendGiftNotification(gift("gift-5")));
+        QuarkusTransaction.requiringNew().run(() -> notificationService.sendGiftNotification(gift("gift-6")));
+        assertEquals(2, dispatcher.drain());
+        StubNotificationServer.failNext.set(Integer.MAX_VALUE);
+        QuarkusTransaction.requiringNew().run(() -> notificationService.sendGiftNotification(gift("gift-7")));
+        dispatcher.drain();
+
+        assertEquals(0, dispatcher.purgeSent());
+
+        // Age one delivered row and the undelivered one past the retention
+        QuarkusTransaction.requiringNew().run(() -> {
+            List<NotificationOutboxEntity> entries = outboxRepository.listAll(Sort.by("id"));
+            entries.get(0).setSentAt(LocalDateTime.now().minusDays(30));
+            entries.get(2).setCreatedAt(LocalDateTime.now().minusDays(30));
+        });
+
+        assertEquals(1, dispatcher.purgeSent());
+        assertEquals(2, QuarkusTransaction.requiringNew().call(() -> outboxRepository.count()));
+        assertEquals(1, dispatcher.depth());
+    }
+
+    private NotificationOutboxEntity onlyEntry() {
+        return QuarkusTransaction.requiringNew().call(() -> outboxRepository.findAll().singleResult());
+    }
+
+    private static NotificationServicePort.GiftNotificationRequest gift(String giftId) {
+        return NotificationServicePort.GiftNotificationRequest.builder()
+                .recipientId("user-1")
+                .senderName("Sender")
+                .gameName("Game")
+                .message("Enjoy")
+                .giftId(giftId)
+                .build();
+    }
+}
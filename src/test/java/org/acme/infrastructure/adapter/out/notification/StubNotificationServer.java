@@ -0,0 +1,36 @@
+package org.acme.infrastructure.adapter.out.notification;
+
+import org.acme.testsupport.StubHttpServer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Minimal HTTP server standing in for the notification service; it records every request body and
+// answers 500 to the first failNext requests
+public class StubNotificationServer extends StubHttpServer {
+
+    static final List<String> received = new CopyOnWriteArrayList<>();
+    static final AtomicInteger failNext = new AtomicInteger();
+
+    public StubNotificationServer() {
+        super("notification-service");
+    }
+
+    @Override
+    protected void routes() {
+        route("/", exchange -> {
+            String payload = body(exchange);
+            int status = failNext.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0 ? 500 : 204;
+            if (status == 204) {
+                received.add(exchange.getRequestURI().getPath() + " " + payload);
+            }
+            respond(exchange, status, null);
+        });
+    }
+
+    static void reset() {
+        received.clear();
+        failNext.set(0);
+    }
+}
@@ -0,0 +1,121 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.acme.application.service.ReviewApplicationService;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.Review;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Rating;
+import org.acme.infrastructure.adapter.out.persistence.repository.GameRepositoryAdapter;
+import org.acme.testsupport.CatalogTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.acme.testsupport.CatalogTestData.game;
+import static org.acme.testsupport.CatalogTestData.review;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+class GameRatingAggregatorTest {
+
+    @Inject
+    GameRatingAggregator ratingAggregator;
+
+    @Inject
+    ReviewApplicationService reviewService;
+
+    @Inject
+    ReviewVoteAccumulator voteAccumulator;
+
+    @Inject
+    GameRepositoryAdapter gameRepositoryAdapter;
+
+    @Inject
+    CatalogTestData testData;
+
+    private GameId first;
+    private GameId second;
+
+    @BeforeEach
+    void seedGames() {
+        Game firstGame = game("First Rated Game").build();
+        Game secondGame = game("Second Rated Game").build();
+        first = firstGame.getId();
+        second = secondGame.getId();
+        testData.deleteReviews();
+        testData.saveGames(firstGame, secondGame);
+        ratingAggregator.flush();
+    }
+
+    @Test
+    void testBurstOfReviewsIsOneRatingWritePerGame() {
+        for (int i = 0; i < 30; i++) {
+            reviewService.createReview(review(first, "user-" + i, i % 3 != 0));
+        }
+        reviewService.createReview(review(second, "user-0", true));
+
+        assertEquals(2, ratingAggregator.flush());
+        assertEquals(new Rating(BigDecimal.valueOf(3.33), 30), rating(first));
+        assertEquals(new Rating(BigDecimal.valueOf(5), 1), rating(second));
+        assertEquals(0, ratingAggregator.flush());
+    }
+
+    @Test
+    void testTopRatedFollowsFlushedRatings() {
+        Review negative = reviewService.createReview(review(first, "user-1", false));
+        reviewService.createReview(review(first, "user-2", true));
+        reviewService.createReview(review(second, "user-1", true));
+        ratingAggregator.flush();
+        assertEquals(List.of(second, first), topRated());
+
+        reviewService.deleteReview(negative.getId(), "user-1");
+        reviewService.createReview(review(second, "user-2", false));
+        ratingAggregator.flush();
+        assertEquals(List.of(first, second), topRated());
+    }
+
+    @Test
+    void testHelpfulVotesDoNotRewriteRatings() {
+        Review review = reviewService.createReview(review(first, "user-1", true));
+        ratingAggregator.flush();
+
+        reviewService.voteReview(review.getId(), true);
+        voteAccumulator.flush();
+        assertEquals(0, ratingAggregator.flush());
+    }
+
+    @Test
+    void testReconcileRepairsRatingsThatMissedAFlush() {
+        for (int i = 0; i < 4; i++) {
+            reviewService.createReview(review(first, "user-" + i, i != 0));
+        }
+        ratingAggregator.flush();
+        // Games left behind by other tests have ratings but no summaries any more
+        ratingAggregator.reconcile();
+        assertEquals(0, ratingAggregator.reconcile());
+
+        // As if the mark for the last review had been lost in a restart
+        QuarkusTransaction.requiringNew().run(() -> gameRepositoryAdapter.update(
+                "rating.value = 5.00, rating.totalVotes = 3 WHERE id = ?1", first.getValue()));
+
+        assertEquals(1, ratingAggregator.reconcile());
+        assertEquals(new Rating(BigDecimal.valueOf(3.75), 4), rating(first));
+        assertEquals(0, ratingAggregator.reconcile());
+    }
+
+    private List<GameId> topRated() {
+        return gameRepositoryAdapter.findTopRated(100).stream()
+                .map(Game::getId)
+                .filter(id -> id.equals(first) || id.equals(second))
+                .toList();
+    }
+
+    private Rating rating(GameId id) {
+        return gameRepositoryAdapter.findById(id).orElseThrow().getRating();
+    }
+}
@@ -0,0 +1,72 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameSalesCountersTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    @Test
+    void testWindowsSumTheMostRecentBuckets() {
+        GameSalesCounters counters = new GameSalesCounters();
+        counters.record(NOON.minusDays(2), 1, 1000);
+        counters.record(NOON.minusHours(5), 1, 2000);
+        counters.record(NOON.minusMinutes(30), 1, 1500);
+        counters.record(NOON, 2, 3000);
+
+        assertArrayEquals(new long[]{2, 3000}, counters.window(ChronoUnit.MINUTES, 1, NOON));
+        assertArrayEquals(new long[]{3, 4500}, counters.window(ChronoUnit.MINUTES, 60, NOON));
+        assertArrayEquals(new long[]{4, 6500}, counters.window(ChronoUnit.HOURS, 6, NOON));
+        // Today is the bucket that started at midnight
+        assertArrayEquals(new long[]{4, 6500}, counters.window(ChronoUnit.DAYS, 1, NOON));
+        assertArrayEquals(new long[]{5, 7500}, counters.window(ChronoUnit.DAYS, 7, NOON));
+    }
+
+    @Test
+    void testStaleSlotsAreRecycledWithoutAReset() {
+        GameSalesCounters counters = new GameSalesCounters();
+        counters.record(NOON, 3, 300);
+
+        // Same minute slot one lap later: the old count is neither read nor added to
+        LocalDateTime nextLap = NOON.plusMinutes(GameSalesCounters.MINUTE_BUCKETS);
+        assertArrayEquals(new long[]{0, 0}, counters.window(ChronoUnit.MINUTES, 1, nextLap));
+        counters.record(nextLap, 1, 100);
+        assertArrayEquals(new long[]{1, 100}, counters.window(ChronoUnit.MINUTES, GameSalesCounters.MINUTE_BUCKETS, nextLap));
+        assertArrayEquals(new long[]{4, 400}, counters.window(ChronoUnit.HOURS, 2, nextLap));
+
+        // A late sale whose minute slot was already reused is dropped there but still counts per hour
+        counters.record(NOON, 1, 100);
+        assertArrayEquals(new long[]{1, 100}, counters.window(ChronoUnit.MINUTES, GameSalesCounters.MINUTE_BUCKETS, nextLap));
+        assertArrayEquals(new long[]{5, 500}, counters.window(ChronoUnit.HOURS, 2, nextLap));
+    }
+
+    @Test
+    void testSnapshotRoundTripsEveryRing() {
+        GameSalesCounters counters = new GameSalesCounters();
+        for (int day = 0; day < 60; day += 3) {
+            counters.record(NOON.minusDays(day).minusMinutes(day), day + 1, 999L * day);
+        }
+        byte[] snapshot = counters.snapshot();
+        assertTrue(snapshot.length < 512, "snapshot too large: " + snapshot.length);
+
+        GameSalesCounters restored = GameSalesCounters.restore(snapshot);
+        for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS}) {
+            int max = GameSalesCounters.maxBuckets(unit);
+            assertArrayEquals(counters.window(unit, max, NOON), restored.window(unit, max, NOON));
+        }
+        assertArrayEquals(counters.snapshot(), restored.snapshot());
+    }
+
+    @Test
+    void testUnsupportedUnitIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameSalesCounters().window(ChronoUnit.WEEKS, 1, NOON));
+    }
+}
@@ -0,0 +1,94 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.acme.application.service.ReviewApplicationService;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.Review;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.testsupport.CatalogTestData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.acme.testsupport.CatalogTestData.game;
+import static org.acme.testsupport.CatalogTestData.review;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+class HelpfulReviewIndexTest {
+
+    @Inject
+    ReviewApplicationService reviewService;
+
+    @Inject
+    ReviewVoteAccumulator voteAccumulator;
+
+    @Inject
+    CatalogTestData testData;
+
+    @Inject
+    EntityManager entityManager;
+
+    private GameId gameId;
+
+    @BeforeEach
+    void seedGame() {
+        Game game = game("Ranked Game").build();
+        gameId = game.getId();
+        testData.deleteReviews();
+        testData.saveGames(game);
+    }
+
+    @Test
+    void testScoreFavoursVolumeOverRawRatio() {
+        assertEquals(0.0, Review.helpfulnessScore(0, 0));
+        assertTrue(Review.helpfulnessScore(1, 1) < Review.helpfulnessScore(45, 50));
+        assertTrue(Review.helpfulnessScore(90, 100) < Review.helpfulnessScore(900, 1000));
+        assertTrue(Review.helpfulnessScore(5, 5) < 0.6);
+    }
+
+    @Test
+    void testRankingFollowsFlushedVotesWithoutQueries() {
+        Review unanimous = reviewService.createReview(review(gameId, "user-1", true));
+        Review popular = reviewService.createReview(review(gameId, "user-2", true));
+        Review unvoted = reviewService.createReview(review(gameId, "user-3", true));
+
+        vote(unanimous, 2, 2);
+        vote(popular, 45, 50);
+        assertEquals(List.of(popular.getId(), unanimous.getId(), unvoted.getId()), mostHelpfulIds());
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // The board is loaded, so later votes re-rank it in place
+        vote(unvoted, 400, 420);
+        vote(popular, 0, 100);
+        long queriesBeforeRead = statistics.getQueryExecutionCount();
+        assertEquals(List.of(unvoted.getId(), unanimous.getId(), popular.getId()), mostHelpfulIds());
+        assertEquals(queriesBeforeRead, statistics.getQueryExecutionCount());
+
+        reviewService.deleteReview(unvoted.getId(), "user-3");
+        assertEquals(List.of(unanimous.getId(), popular.getId()), mostHelpfulIds());
+    }
+
+    private void vote(Review review, int helpful, int total) {
+        for (int i = 0; i < total; i++) {
+            reviewService.voteReview(review.getId(), i < helpful);
+        }
+        voteAccumulator.flush();
+    }
+
+    private List<String> mostHelpfulIds() {
+        return reviewService.getMostHelpfulReviews(gameId.getValue(), 10).stream()
+                .map(Review::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,166 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.acme.application.service.ReviewApplicationService;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.Review;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.ReviewSummary;
+import org.acme.infrastructure.adapter.out.persistence.entity.ReviewEntity;
+import org.acme.infrastructure.adapter.out.persistence.repository.ReviewRepositoryAdapter;
+import org.acme.testsupport.CatalogTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.acme.testsupport.CatalogTestData.game;
+import static org.acme.testsupport.CatalogTestData.review;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+class ReviewVoteAccumulatorTest {
+
+    private static final int THREADS = 16;
+    private static final int VOTES = 100_000;
+
+    @Inject
+    ReviewApplicationService reviewService;
+
+    @Inject
+    ReviewVoteAccumulator voteAccumulator;
+
+    @Inject
+    ReviewRepositoryAdapter reviewRepositoryAdapter;
+
+    @Inject
+    CatalogTestData testData;
+
+    private GameId gameId;
+
+    @BeforeEach
+    void seedGame() {
+        Game game = game("Voted Game").build();
+        gameId = game.getId();
+        testData.deleteReviews();
+        testData.saveGames(game);
+    }
+
+    @Test
+    void testParallelVotesAreCountedExactly() throws Exception {
+        Review first = reviewService.createReview(review(gameId, "user-1", true));
+        Review second = reviewService.createReview(review(gameId, "user-2", true));
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean voting = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            // Flushes race with the voters so counters are reset while they are being incremented
+            Future<?> flusher = executor.submit(() -> {
+                while (voting.get()) {
+                    voteAccumulator.flush();
+                }
+            });
+            List<Future<?>> voters = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                voters.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = thread; i < VOTES; i += THREADS) {
+                        String reviewId = i % 2 == 0 ? first.getId() : second.getId();
+                        reviewService.voteReview(reviewId, i % 5 != 0);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> voter : voters) {
+                voter.get(60, TimeUnit.SECONDS);
+            }
+            voting.set(false);
+            flusher.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        voteAccumulator.flush();
+
+        // Every fifth vote is unhelpful; even indexes go to the first review
+        ReviewEntity firstRow = reviewRepositoryAdapter.findByIdOptional(first.getId()).orElseThrow();
+        ReviewEntity secondRow = reviewRepositoryAdapter.findByIdOptional(second.getId()).orElseThrow();
+        assertEquals(VOTES / 2, firstRow.getTotalVotes());
+        assertEquals(VOTES / 2 - VOTES / 10, firstRow.getHelpfulVotes());
+        assertEquals(VOTES / 2, secondRow.getTotalVotes());
+        assertEquals(VOTES / 2 - VOTES / 10, secondRow.getHelpfulVotes());
+
+        ReviewSummary summary = reviewService.getReviewSummary(gameId.getValue());
+        assertEquals(VOTES, summary.getTotalVotes());
+        assertEquals(VOTES - VOTES / 5, summary.getHelpfulVotes());
+        assertEquals(0, voteAccumulator.flush());
+    }
+
+    @Test
+    void testEditingAReviewKeepsFlushedVotes() {
+        Review review = reviewService.createReview(review(gameId, "user-1", true));
+        for (int i = 0; i < 10; i++) {
+            reviewService.voteReview(review.getId(), i < 7);
+        }
+        assertEquals(10, voteAccumulator.flush());
+
+        // The domain copy predates the flush; saving it must not overwrite the counts
+        QuarkusTransaction.requiringNew().run(() -> {
+            review.updateContent("Reseña editada con contenido suficiente");
+            reviewRepositoryAdapter.save(review);
+        });
+
+        ReviewEntity row = reviewRepositoryAdapter.findByIdOptional(review.getId()).orElseThrow();
+        assertEquals(7, row.getHelpfulVotes());
+        assertEquals(10, row.getTotalVotes());
+        assertEquals(10, reviewService.getReviewSummary(gameId.getValue()).getTotalVotes());
+    }
+
+    @Test
+    void testOneFlushSplitsVotesByGameAndSkipsDeletedReviews() {
+        Game otherGame = game("Other Voted Game").build();
+        testData.saveGames(otherGame);
+        GameId otherGameId = otherGame.getId();
+        Review first = reviewService.createReview(review(gameId, "user-1", true));
+        Review second = reviewService.createReview(review(gameId, "user-2", true));
+        Review other = reviewService.createReview(review(otherGameId, "user-1", true));
+
+        for (int i = 0; i < 6; i++) {
+            reviewService.voteReview(first.getId(), true);
+            reviewService.voteReview(second.getId(), i % 2 == 0);
+            reviewService.voteReview(other.getId(), i < 2);
+        }
+        reviewService.deleteReview(second.getId(), "user-2");
+
+        // The deleted review's votes are dropped; the rest land in one chunk
+        assertEquals(12, voteAccumulator.flush());
+        assertEquals(6, reviewService.getReviewSummary(gameId.getValue()).getTotalVotes());
+        assertEquals(6, reviewService.getReviewSummary(gameId.getValue()).getHelpfulVotes());
+        assertEquals(6, reviewService.getReviewSummary(otherGameId.getValue()).getTotalVotes());
+        assertEquals(2, reviewService.getReviewSummary(otherGameId.getValue()).getHelpfulVotes());
+
+        ReviewEntity otherRow = reviewRepositoryAdapter.findByIdOptional(other.getId()).orElseThrow();
+        assertEquals(2, otherRow.getHelpfulVotes());
+        assertEquals(6, otherRow.getTotalVotes());
+        assertEquals(Review.helpfulnessScore(2, 6), otherRow.getHelpfulnessScore());
+    }
+
+    @Test
+    void testVoteOnUnknownReviewIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> reviewService.voteReview("missing-review", true));
+        assertTrue(voteAccumulator.trackedGame("missing-review").isEmpty());
+    }
+}
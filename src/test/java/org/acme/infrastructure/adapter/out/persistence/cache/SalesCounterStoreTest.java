@@ -0,0 +1,63 @@
+package org.acme.infrastructure.adapter.out.persistence.cache;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.acme.domain.event.GamePurchasedEvent;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Price;
+import org.acme.domain.model.valueobjects.SalesWindow;
+import org.acme.infrastructure.adapter.out.persistence.repository.SalesCounterSnapshotRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+class SalesCounterStoreTest {
+
+    @Inject
+    SalesCounterStore salesCounterStore;
+
+    @Inject
+    SalesCounterSnapshotRepository snapshotRepository;
+
+    @Inject
+    Event<GamePurchasedEvent> gamePurchasedEvent;
+
+    @Test
+    void testCommittedPurchasesSurviveEvictionThroughSnapshots() {
+        GameId gameId = GameId.generate();
+        LocalDateTime now = LocalDateTime.now();
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            gamePurchasedEvent.fire(new GamePurchasedEvent(gameId, Price.of(19.99, "USD"), now));
+            gamePurchasedEvent.fire(new GamePurchasedEvent(gameId, Price.of(19.99, "USD"), now.minusDays(3)));
+        });
+        assertThrows(IllegalStateException.class, () -> QuarkusTransaction.requiringNew().run(() -> {
+            gamePurchasedEvent.fire(new GamePurchasedEvent(gameId, Price.of(19.99, "USD"), now));
+            throw new IllegalStateException("rollback");
+        }));
+
+        SalesWindow lastWeek = new SalesWindow(2, new BigDecimal("39.98"));
+        assertEquals(new SalesWindow(1, new BigDecimal("19.99")), salesCounterStore.window(gameId.getValue(), ChronoUnit.DAYS, 1, now));
+        assertEquals(lastWeek, salesCounterStore.window(gameId.getValue(), ChronoUnit.DAYS, 7, now));
+
+        // With one idle run allowed in tests, the snapshot run also drops the game from memory
+        assertTrue(salesCounterStore.snapshot() >= 1);
+        assertTrue(snapshotRepository.read(gameId.getValue()).isPresent());
+        assertEquals(lastWeek, salesCounterStore.window(gameId.getValue(), ChronoUnit.DAYS, 7, now));
+    }
+
+    @Test
+    void testWindowLongerThanTheRingIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> salesCounterStore.window("any-game", ChronoUnit.MINUTES, GameSalesCounters.MINUTE_BUCKETS + 1, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,106 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.valueobjects.Category;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Price;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+class GameRepositoryAdapterTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Inject
+    GameRepositoryAdapter gameRepositoryAdapter;
+
+    @Inject
+    EntityManager entityManager;
+
+    @BeforeEach
+    void seedGames() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            gameRepositoryAdapter.deleteAll();
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                gameRepositoryAdapter.save(Game.builder()
+                        .id(GameId.generate())
+                        .title("Game " + i)
+                        .description("Descripción del juego " + i)
+                        .price(Price.of(19.99, "USD"))
+                        .developer("Developer " + i)
+                        .publisher("Publisher")
+                        .releaseDate(LocalDateTime.now().minusDays(i))
+                        .categories(Set.of(Category.ACTION, Category.RPG))
+                        .tags(Set.of("open-world", "story-rich"))
+                        .images(List.of("https://cdn.example.com/" + i + "/1.jpg", "https://cdn.example.com/" + i + "/2.jpg"))
+                        .stock(10)
+                        .build());
+            }
+        });
+    }
+
+    @Test
+    void testFindAllPageUsesConstantNumberOfStatements() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        List<Game> games = QuarkusTransaction.requiringNew().call(() -> {
+            statistics.clear();
+            return gameRepositoryAdapter.findAll(0, PAGE_SIZE);
+        });
+
+        assertEquals(PAGE_SIZE, games.size());
+        assertTrue(games.stream().allMatch(game -> game.getCategories().size() == 2
+                && game.getTags().size() == 2
+                && game.getImages().size() == 2));
+        // One query for the page plus one per element collection
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindByPublisherPageUsesConstantNumberOfStatements() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        List<Game> games = QuarkusTransaction.requiringNew().call(() -> {
+            statistics.clear();
+            return gameRepositoryAdapter.findByPublisher("Publisher", 0, PAGE_SIZE);
+        });
+
+        assertEquals(PAGE_SIZE, games.size());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testOffsetAndCursorPagesListTheSameGames() {
+        Game hidden = QuarkusTransaction.requiringNew().call(() -> gameRepositoryAdapter.findAll(0, 1).get(0));
+        hidden.setIsActive(false);
+        QuarkusTransaction.requiringNew().run(() -> gameRepositoryAdapter.save(hidden));
+
+        List<GameId> byOffset = QuarkusTransaction.requiringNew().call(() -> gameRepositoryAdapter.findAll(0, PAGE_SIZE))
+                .stream().map(Game::getId).toList();
+        List<GameId> byCursor = QuarkusTransaction.requiringNew().call(() -> gameRepositoryAdapter.findAllAfter(null, PAGE_SIZE))
+                .stream().map(Game::getId).toList();
+
+        assertEquals(PAGE_SIZE - 1, byOffset.size());
+        assertFalse(byOffset.contains(hidden.getId()));
+        assertEquals(byCursor, byOffset);
+    }
+}
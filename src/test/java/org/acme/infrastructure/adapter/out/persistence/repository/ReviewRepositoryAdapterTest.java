@@ -0,0 +1,148 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.acme.application.service.ReviewApplicationService;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.Review;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.ReviewSummary;
+import org.acme.infrastructure.adapter.in.job.ReviewSummaryRebuildJob;
+import org.acme.infrastructure.adapter.out.persistence.cache.ReviewVoteAccumulator;
+import org.acme.testsupport.CatalogTestData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.acme.testsupport.CatalogTestData.game;
+import static org.acme.testsupport.CatalogTestData.review;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+class ReviewRepositoryAdapterTest {
+
+    @Inject
+    ReviewApplicationService reviewService;
+
+    @Inject
+    ReviewRepositoryAdapter reviewRepositoryAdapter;
+
+    @Inject
+    ReviewSummaryRepository summaryRepository;
+
+    @Inject
+    CatalogTestData testData;
+
+    @Inject
+    ReviewSummaryRebuildJob rebuildJob;
+
+    @Inject
+    ReviewVoteAccumulator voteAccumulator;
+
+    @Inject
+    EntityManager entityManager;
+
+    private GameId gameId;
+
+    @BeforeEach
+    void seedGame() {
+        Game game = game("Reviewed Game").build();
+        gameId = game.getId();
+        testData.deleteReviews();
+        testData.saveGames(game);
+    }
+
+    @Test
+    void testSummaryFollowsCreateVoteAndDelete() {
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            reviews.add(reviewService.createReview(review(gameId, "user-" + i, i < 3)));
+        }
+        reviewService.voteReview(reviews.get(0).getId(), true);
+        reviewService.voteReview(reviews.get(0).getId(), false);
+        reviewService.voteReview(reviews.get(3).getId(), true);
+        voteAccumulator.flush();
+
+        assertEquals(new ReviewSummary(gameId.getValue(), 5, 3, 2, 2, 3), reviewService.getReviewSummary(gameId.getValue()));
+
+        reviewService.deleteReview(reviews.get(0).getId(), "user-0");
+
+        ReviewSummary summary = reviewService.getReviewSummary(gameId.getValue());
+        assertEquals(new ReviewSummary(gameId.getValue(), 4, 2, 2, 1, 1), summary);
+        assertEquals(4, QuarkusTransaction.requiringNew().call(() -> reviewRepositoryAdapter.countByGameId(gameId)));
+    }
+
+    @Test
+    void testCountsAreASinglePrimaryKeyRead() {
+        for (int i = 0; i < 20; i++) {
+            reviewService.createReview(review(gameId, "user-" + i, i % 4 != 0));
+        }
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        long[] counts = QuarkusTransaction.requiringNew().call(() -> {
+            statistics.clear();
+            return new long[]{
+                    reviewRepositoryAdapter.countPositiveByGameId(gameId),
+                    reviewRepositoryAdapter.countNegativeByGameId(gameId)};
+        });
+
+        assertEquals(15, counts[0]);
+        assertEquals(5, counts[1]);
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testRebuildRepairsDriftAndBackfillsMissingSummaries() {
+        for (int i = 0; i < 6; i++) {
+            reviewService.createReview(review(gameId, "user-" + i, i % 2 == 0));
+        }
+
+        QuarkusTransaction.requiringNew().run(() ->
+                summaryRepository.update("totalReviews = 99, positiveReviews = 0 WHERE gameId = ?1", gameId.getValue()));
+        rebuildJob.run();
+        assertEquals(new ReviewSummary(gameId.getValue(), 6, 3, 3, 0, 0), reviewService.getReviewSummary(gameId.getValue()));
+
+        QuarkusTransaction.requiringNew().run(() -> summaryRepository.deleteAll());
+        assertEquals(0, reviewService.getReviewSummary(gameId.getValue()).getTotalReviews());
+        rebuildJob.run();
+        assertEquals(6, reviewService.getReviewSummary(gameId.getValue()).getTotalReviews());
+    }
+
+    @Test
+    void testRebuildBackfillsStaleHelpfulnessScores() {
+        Review liked = reviewService.createReview(review(gameId, "user-1", true));
+        Review disliked = reviewService.createReview(review(gameId, "user-2", true));
+        for (int i = 0; i < 10; i++) {
+            if (i < 5) {
+                reviewService.voteReview(liked.getId(), true);
+            }
+            reviewService.voteReview(disliked.getId(), i < 2);
+        }
+        voteAccumulator.flush();
+
+        // As left by a release that stored votes without scoring them: ties fall back to vote count
+        QuarkusTransaction.requiringNew().run(() -> reviewRepositoryAdapter.update("helpfulnessScore = 0.0"));
+        assertEquals(List.of(disliked.getId(), liked.getId()), mostHelpfulIds());
+
+        rebuildJob.run();
+        assertEquals(Review.helpfulnessScore(5, 5),
+                reviewRepositoryAdapter.findByIdOptional(liked.getId()).orElseThrow().getHelpfulnessScore());
+        assertEquals(Review.helpfulnessScore(2, 10),
+                reviewRepositoryAdapter.findByIdOptional(disliked.getId()).orElseThrow().getHelpfulnessScore());
+        // The board loaded with the stale scores was updated in place
+        assertEquals(List.of(liked.getId(), disliked.getId()), mostHelpfulIds());
+    }
+
+    private List<String> mostHelpfulIds() {
+        return reviewService.getMostHelpfulReviews(gameId.getValue(), 10).stream().map(Review::getId).toList();
+    }
+}
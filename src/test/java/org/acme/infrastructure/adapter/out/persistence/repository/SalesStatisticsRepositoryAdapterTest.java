@@ -0,0 +1,54 @@
+package org.acme.infrastructure.adapter.out.persistence.repository;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.acme.domain.event.GamePurchasedEvent;
+import org.acme.domain.model.SalesStatistics;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Price;
+import org.acme.domain.model.valueobjects.SalesWindow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+class SalesStatisticsRepositoryAdapterTest {
+
+    @Inject
+    SalesStatisticsRepositoryAdapter statisticsRepository;
+
+    @Inject
+    Event<GamePurchasedEvent> gamePurchasedEvent;
+
+    @Test
+    void testLoadedStatisticsCarryTheRollingWindows() {
+        GameId gameId = GameId.generate();
+        LocalDateTime now = LocalDateTime.now();
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            statisticsRepository.save(SalesStatistics.builder()
+                    .id(UUID.randomUUID().toString())
+                    .gameId(gameId)
+                    .publisherId("publisher-1")
+                    .build());
+            gamePurchasedEvent.fire(new GamePurchasedEvent(gameId, Price.of(10.00, "USD"), now));
+            gamePurchasedEvent.fire(new GamePurchasedEvent(gameId, Price.of(10.00, "USD"), now.minusDays(10)));
+            gamePurchasedEvent.fire(new GamePurchasedEvent(gameId, Price.of(10.00, "USD"), now.minusDays(20)));
+        });
+
+        SalesStatistics statistics = QuarkusTransaction.requiringNew()
+                .call(() -> statisticsRepository.findByGameId(gameId).orElseThrow());
+        SalesWindow one = new SalesWindow(1, new BigDecimal("10.00"));
+        assertEquals(one, statistics.getLastDay());
+        assertEquals(one, statistics.getLastWeek());
+        assertEquals(one, statistics.getPreviousWeek());
+        assertEquals(new SalesWindow(3, new BigDecimal("30.00")), statistics.getLastMonth());
+        assertEquals(0.0, statistics.getSalesGrowthRate());
+    }
+}
@@ -0,0 +1,124 @@
+package org.acme.infrastructure.adapter.out.pricing;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.acme.application.port.in.GameUseCase;
+import org.acme.application.service.GameApplicationService;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.Offer;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Price;
+import org.acme.infrastructure.adapter.out.persistence.repository.GameRepositoryAdapter;
+import org.acme.infrastructure.adapter.out.persistence.repository.OfferRepositoryAdapter;
+import org.acme.testsupport.CatalogTestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.acme.testsupport.CatalogTestData.game;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@QuarkusTest
+class GameDiscountIndexTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Inject
+    GameApplicationService gameService;
+
+    @Inject
+    GameRepositoryAdapter gameRepositoryAdapter;
+
+    @Inject
+    OfferRepositoryAdapter offerRepositoryAdapter;
+
+    @Inject
+    CatalogTestData testData;
+
+    private final List<Game> activeGames = new ArrayList<>();
+    private String offerId;
+
+    @BeforeEach
+    void seedOffer() {
+        activeGames.clear();
+        offerId = UUID.randomUUID().toString();
+        testData.deleteGames();
+        Set<GameId> offered = new HashSet<>();
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Every third game is inactive, so a page filtered after the fetch would come back short
+            Game game = game("Discounted Game " + i).price(Price.of(20.00, "USD")).isActive(i % 3 != 1).build();
+            games.add(game);
+            offered.add(game.getId());
+            if (game.getIsActive()) {
+                activeGames.add(game);
+            }
+        }
+        testData.saveGames(games.toArray(Game[]::new));
+        QuarkusTransaction.requiringNew().run(() ->
+                offerRepositoryAdapter.save(Offer.builder()
+                        .id(offerId)
+                        .name("Oferta de prueba")
+                        .description("Descuento para juegos activos e inactivos")
+                        .gameIds(offered)
+                        .discountPercentage(40.0)
+                        .startDate(LocalDateTime.now().minusHours(1))
+                        .endDate(LocalDateTime.now().plusDays(1))
+                        .offerType("FLASH")
+                        .build()));
+    }
+
+    @AfterEach
+    void removeOffer() {
+        QuarkusTransaction.requiringNew().run(() -> offerRepositoryAdapter.delete(offerId));
+    }
+
+    @Test
+    void testPagesSkipInactiveGamesAndStayFull() {
+        // Same discount everywhere, so the ranking falls back to game id order
+        assertEquals(sortedIds(activeGames), pageThrough());
+    }
+
+    @Test
+    void testDeactivatedGameLeavesTheRanking() {
+        assertEquals(activeGames.size(), gameService.getDiscountedGames(0, 100).size());
+
+        Game deactivated = activeGames.remove(0);
+        deactivated.setIsActive(false);
+        QuarkusTransaction.requiringNew().run(() -> gameRepositoryAdapter.save(deactivated));
+
+        List<GameId> paged = pageThrough();
+        assertFalse(paged.contains(deactivated.getId()));
+        assertEquals(sortedIds(activeGames), paged);
+    }
+
+    // Every page but the last must be full
+    private List<GameId> pageThrough() {
+        List<GameId> paged = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            List<GameUseCase.DiscountedGame> discounted = gameService.getDiscountedGames(page, PAGE_SIZE);
+            discounted.forEach(entry -> paged.add(entry.game.getId()));
+            if (discounted.size() < PAGE_SIZE) {
+                assertEquals(activeGames.size(), paged.size(), "short page before the end: " + page);
+                return paged;
+            }
+        }
+    }
+
+    private static List<GameId> sortedIds(List<Game> games) {
+        return games.stream()
+                .map(Game::getId)
+                .sorted(Comparator.comparing(GameId::getValue))
+                .toList();
+    }
+}
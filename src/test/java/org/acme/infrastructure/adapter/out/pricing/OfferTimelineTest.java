@@ -0,0 +1,62 @@
+package org.acme.infrastructure.adapter.out.pricing;
+
+import org.acme.domain.event.OfferChangedEvent;
+import org.acme.domain.model.Offer;
+import org.acme.domain.model.valueobjects.GameId;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OfferTimelineTest {
+
+    @Test
+    void testOffersFlipAtTheirBoundaries() {
+        OfferTimeline timeline = new OfferTimeline();
+        LocalDateTime now = LocalDateTime.now();
+
+        timeline.onOfferChanged(OfferChangedEvent.saved(offer("running", now.minusHours(1), now.plusHours(2), "SEASONAL")));
+        timeline.onOfferChanged(OfferChangedEvent.saved(offer("flash", now.minusHours(1), now.plusMinutes(30), "FLASH")));
+        timeline.onOfferChanged(OfferChangedEvent.saved(offer("upcoming", now.plusMinutes(30), now.plusDays(1), "WEEKEND")));
+        timeline.onOfferChanged(OfferChangedEvent.saved(offer("expired", now.minusDays(2), now.minusDays(1), "DAILY")));
+
+        assertEquals(List.of("flash", "running"), ids(timeline.activeOffers()));
+        assertEquals(List.of("running"), ids(timeline.activeSeasonalOffers()));
+        assertEquals(List.of("flash"), ids(timeline.expiringWithin(1)));
+        assertEquals(List.of("flash", "running"), ids(timeline.expiringWithin(3)));
+
+        // Nothing is due yet; then both boundaries pass at once
+        timeline.tick(now.plusMinutes(29));
+        assertEquals(List.of("flash", "running"), ids(timeline.activeOffers()));
+        timeline.tick(now.plusMinutes(31));
+
+        assertEquals(List.of("running", "upcoming"), ids(timeline.activeOffers()));
+
+        timeline.onOfferChanged(OfferChangedEvent.deleted("running"));
+
+        assertEquals(List.of("upcoming"), ids(timeline.activeOffers()));
+        assertEquals(List.of(), ids(timeline.activeSeasonalOffers()));
+    }
+
+    private static Offer offer(String id, LocalDateTime startDate, LocalDateTime endDate, String offerType) {
+        return Offer.builder()
+                .id(id)
+                .name(id)
+                .gameIds(Set.of(GameId.generate()))
+                .discountPercentage(25.0)
+                .startDate(startDate)
+                .endDate(endDate)
+                .offerType(offerType)
+                .build();
+    }
+
+    private static List<String> ids(List<Offer> offers) {
+        return offers.stream()
+                .map(Offer::getId)
+                .collect(Collectors.toList());
+    }
+}
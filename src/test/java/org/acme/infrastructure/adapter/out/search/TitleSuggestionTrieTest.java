@@ -0,0 +1,90 @@
+package org.acme.infrastructure.adapter.out.search;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TitleSuggestionTrieTest {
+
+    private static final String[] WORDS = {
+            "dark", "souls", "elden", "ring", "call", "duty", "war", "star", "legend", "quest", "age", "empire",
+            "city", "night", "blade", "dragon", "space", "hero", "final", "fantasy", "tales", "zero", "lost", "iron"
+    };
+
+    @Test
+    void testLookupReturnsBestEntriesForPrefix() {
+        TitleSuggestionTrie trie = TitleSuggestionTrie.build(List.of(
+                new TitleSuggestionTrie.Entry("1", "Dark Souls", 4f),
+                new TitleSuggestionTrie.Entry("2", "Dark Souls II", 3f),
+                new TitleSuggestionTrie.Entry("3", "Darkest Dungeon", 5f),
+                new TitleSuggestionTrie.Entry("4", "Doom", 2f),
+                new TitleSuggestionTrie.Entry("5", "Pokémon", 1f)));
+
+        assertEquals(List.of("Darkest Dungeon", "Dark Souls", "Dark Souls II", "Doom"), titles(trie, "D", 10));
+        assertEquals(List.of("Darkest Dungeon", "Dark Souls"), titles(trie, "dar", 2));
+        assertEquals(List.of("Dark Souls", "Dark Souls II"), titles(trie, "dark ", 10));
+        assertEquals(List.of("Pokémon"), titles(trie, "pokem", 10));
+        assertEquals(List.of(), titles(trie, "darkx", 10));
+        assertEquals(List.of(), titles(trie, "x", 10));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void benchmarkLookupLatencyForOneMillionTitles() {
+        Random random = new Random(42);
+        List<TitleSuggestionTrie.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            entries.add(new TitleSuggestionTrie.Entry(String.valueOf(i), randomTitle(random, i), random.nextFloat() * 20));
+        }
+
+        TitleSuggestionTrie trie = TitleSuggestionTrie.build(entries);
+
+        String[] prefixes = new String[100_000];
+        for (int i = 0; i < prefixes.length; i++) {
+            String title = entries.get(random.nextInt(entries.size())).getTitle();
+            prefixes[i] = title.substring(0, 1 + random.nextInt(Math.min(12, title.length())));
+        }
+
+        int[] hits = new int[TitleSuggestionTrie.TOP_K];
+        for (int i = 0; i < 500_000; i++) {
+            trie.lookup(prefixes[i % prefixes.length], TitleSuggestionTrie.TOP_K, hits);
+        }
+
+        long[] latencies = new long[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            long start = System.nanoTime();
+            trie.lookup(prefixes[i], TitleSuggestionTrie.TOP_K, hits);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        long p99 = latencies[(int) (latencies.length * 0.99)];
+        assertTrue(p99 < 1_000_000, "p99 lookup latency must stay under 1 ms, was " + p99 + " ns");
+    }
+
+    private static List<String> titles(TitleSuggestionTrie trie, String prefix, int limit) {
+        int[] hits = new int[TitleSuggestionTrie.TOP_K];
+        int count = trie.lookup(prefix, limit, hits);
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            titles.add(trie.title(hits[i]));
+        }
+        return titles;
+    }
+
+    private static String randomTitle(Random random, int sequence) {
+        StringBuilder title = new StringBuilder();
+        int words = 2 + random.nextInt(3);
+        for (int i = 0; i < words; i++) {
+            title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return title.append(sequence).toString();
+    }
+}
@@ -0,0 +1,76 @@
+package org.acme.testsupport;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.acme.application.port.in.ReviewUseCase;
+import org.acme.domain.model.Game;
+import org.acme.domain.model.valueobjects.Category;
+import org.acme.domain.model.valueobjects.GameId;
+import org.acme.domain.model.valueobjects.Price;
+import org.acme.infrastructure.adapter.out.persistence.repository.GameRepositoryAdapter;
+import org.acme.infrastructure.adapter.out.persistence.repository.ReviewRepositoryAdapter;
+import org.acme.infrastructure.adapter.out.persistence.repository.ReviewSummaryRepository;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// Seed data and table resets shared by the @QuarkusTest classes working on games and reviews.
+// Every write runs in its own transaction.
+@ApplicationScoped
+public class CatalogTestData {
+
+    public static final String REVIEW_CONTENT = "Reseña de prueba con contenido suficiente";
+
+    @Inject
+    GameRepositoryAdapter gameRepositoryAdapter;
+
+    @Inject
+    ReviewRepositoryAdapter reviewRepositoryAdapter;
+
+    @Inject
+    ReviewSummaryRepository summaryRepository;
+
+    // An active, in-stock game released a few days ago; tests override what they are about
+    public static Game.GameBuilder game(String title) {
+        return Game.builder()
+                .id(GameId.generate())
+                .title(title)
+                .description("Descripción de " + title)
+                .price(Price.of(19.99, "USD"))
+                .developer("Developer")
+                .publisher("Publisher")
+                .releaseDate(LocalDateTime.now().minusDays(3))
+                .categories(Set.of(Category.ACTION))
+                .stock(10);
+    }
+
+    public static ReviewUseCase.CreateReviewCommand review(GameId gameId, String userId, boolean recommended) {
+        return ReviewUseCase.CreateReviewCommand.builder()
+                .gameId(gameId.getValue())
+                .userId(userId)
+                .content(REVIEW_CONTENT)
+                .isRecommended(recommended)
+                .build();
+    }
+
+    public void saveGames(Game... games) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (Game game : games) {
+                gameRepositoryAdapter.save(game);
+            }
+        });
+    }
+
+    public void deleteGames() {
+        QuarkusTransaction.requiringNew().run(() -> gameRepositoryAdapter.deleteAll());
+    }
+
+    // Reviews and their summaries go together, or the summaries would count reviews that are gone
+    public void deleteReviews() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            reviewRepositoryAdapter.deleteAll();
+            summaryRepository.deleteAll();
+        });
+    }
+}